@@ -0,0 +1,169 @@
+package com.tablekok.hotreservationservice.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+
+// 인기 음식점 예약 오픈 순간 재현 : N명이 동시에 SSE 대기열에 진입 -> 입장 -> 검증 -> 예약
+// Redis, Postgres 는 Testcontainers, store-service 는 WireMock 으로 대체 (Docker 필요)
+// 실행 : ./gradlew loadTest -Dloadtest.clients=20000 -Dloadtest.stores=4
+// 연결 수가 많으면 OS 파일 디스크립터 한도(ulimit -n)를 함께 늘려야 함
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+class HotReservationOpenMomentLoadTest {
+
+	private static final int CLIENTS = Integer.getInteger("loadtest.clients", 1000);
+	private static final int STORES = Integer.getInteger("loadtest.stores", 1);
+	// 0 이면 모든 클라이언트가 한 번에 진입
+	private static final long RAMP_MILLIS = Long.getLong("loadtest.ramp-millis", 0);
+	private static final long TIMEOUT_SECONDS = Long.getLong("loadtest.timeout-seconds", 300);
+
+	// 음식점마다 다음 달 1일부터 28일 동안 1분 단위 시간대를 한 명씩 예약
+	private static final int SLOTS_PER_DAY = 24 * 60;
+	private static final int SLOTS_PER_STORE = 28 * SLOTS_PER_DAY;
+
+	private static final String REDIS_PASSWORD = "loadtest";
+
+	@Container
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine")
+		.withCommand("redis-server", "--requirepass", REDIS_PASSWORD)
+		.withExposedPorts(6379);
+
+	private static final List<UUID> STORE_IDS = IntStream.range(0, STORES).mapToObj(i -> UUID.randomUUID()).toList();
+	private static final WireMockServer STORE_SERVICE = new WireMockServer(
+		WireMockConfiguration.options().dynamicPort().containerThreads(64));
+
+	static {
+		STORE_SERVICE.start();
+		StoreServiceStub.register(STORE_SERVICE, STORE_IDS);
+	}
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+		registry.add("spring.data.redis.host", REDIS::getHost);
+		registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+		registry.add("spring.data.redis.password", () -> REDIS_PASSWORD);
+		registry.add("lb.dns.store", STORE_SERVICE::baseUrl);
+
+		// 외부 인프라 없이 단독 실행
+		registry.add("eureka.client.enabled", () -> false);
+		registry.add("management.tracing.enabled", () -> false);
+		registry.add("spring.jpa.show-sql", () -> false);
+		registry.add("logging.level.com.tablekok", () -> "WARN");
+		// 환경 변수(ENTRY_PASS_SECRET) 없이 출입증 발급·검증
+		registry.add("reservation.entry.pass.secret", () -> "loadtest-entry-pass-secret-0123456789abcdef");
+
+		// 모든 SSE 연결을 받을 수 있도록 연결 한도 확장
+		registry.add("server.tomcat.max-connections", () -> CLIENTS + 1000);
+		registry.add("server.tomcat.accept-count", () -> CLIENTS);
+		registry.add("queue.sse.ttl", () -> TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+
+		// 입장 속도 관련 설정은 -Dloadtest.* 로 조정
+		registry.add("reservation.available.user.limit",
+			() -> Integer.getInteger("loadtest.admission-limit", 200));
+		registry.add("reservation.admission.initial-limit",
+			() -> Integer.getInteger("loadtest.admission-initial-limit", 50));
+		registry.add("reservation.process.interval",
+			() -> Long.getLong("loadtest.process-interval", 500));
+	}
+
+	@LocalServerPort
+	private int port;
+
+	@Value("${reservation.entry.ttl}")
+	private long entryTtl;
+
+	@Autowired
+	private KafkaListenerEndpointRegistry kafkaListeners;
+
+	@AfterAll
+	static void stopStoreService() {
+		STORE_SERVICE.stop();
+	}
+
+	@Test
+	void openMoment() throws InterruptedException {
+		assertThat(CLIENTS).isLessThanOrEqualTo(STORES * SLOTS_PER_STORE);
+		// 음식점 변경 이벤트 구독은 시나리오와 무관
+		kafkaListeners.stop();
+
+		LoadTestReport report = new LoadTestReport(CLIENTS);
+		CountDownLatch joinedLatch = new CountDownLatch(CLIENTS);
+		CountDownLatch finishedLatch = new CountDownLatch(CLIENTS);
+		String baseUrl = "http://localhost:" + port;
+		LocalDate firstDate = LocalDate.now().plusMonths(1).withDayOfMonth(1);
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			HttpClient httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.executor(executor)
+				.connectTimeout(Duration.ofSeconds(30))
+				.build();
+
+			List<SimulatedUser> users = new ArrayList<>(CLIENTS);
+			for (int i = 0; i < CLIENTS; i++) {
+				int slot = i / STORES;
+				LocalDateTime reservationDateTime = firstDate.plusDays(slot / SLOTS_PER_DAY)
+					.atStartOfDay()
+					.plusMinutes(slot % SLOTS_PER_DAY);
+				users.add(new SimulatedUser(httpClient, baseUrl, STORE_IDS.get(i % STORES), reservationDateTime,
+					entryTtl, report, joinedLatch, finishedLatch));
+			}
+
+			report.baseline();
+			long rampStep = CLIENTS > 1 ? TimeUnit.MILLISECONDS.toNanos(RAMP_MILLIS) / (CLIENTS - 1) : 0;
+			long startedAt = System.nanoTime();
+			for (int i = 0; i < CLIENTS; i++) {
+				long delay = startedAt + rampStep * i - System.nanoTime();
+				if (delay > 0) {
+					TimeUnit.NANOSECONDS.sleep(delay);
+				}
+				users.get(i).connect();
+			}
+
+			// 모두 진입한 시점에 열려 있는 연결 = 진입했지만 아직 예약하지 않은 유저
+			joinedLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			report.connected(finishedLatch.getCount() - joinedLatch.getCount());
+			finishedLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			report.print();
+			executor.shutdownNow();
+		}
+
+		assertThat(report.failedCount()).isZero();
+		assertThat(report.bookedCount()).isEqualTo(CLIENTS);
+	}
+}
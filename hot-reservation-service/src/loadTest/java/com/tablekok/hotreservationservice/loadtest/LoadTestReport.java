@@ -0,0 +1,122 @@
+package com.tablekok.hotreservationservice.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 부하 테스트 측정값 수집 및 출력
+final class LoadTestReport {
+
+	private final int clients;
+	private final Queue<Long> joinLatencies = new ConcurrentLinkedQueue<>();
+	private final Queue<Long> entryLatencies = new ConcurrentLinkedQueue<>();
+	private final Queue<Long> bookingLatencies = new ConcurrentLinkedQueue<>();
+	private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+	private final LongAdder booked = new LongAdder();
+	private final AtomicLong firstBookingStartedAt = new AtomicLong(Long.MAX_VALUE);
+	private final AtomicLong lastBookingFinishedAt = new AtomicLong();
+
+	private ResourceUsage baseline;
+	private ResourceUsage connected;
+	private long openConnections;
+
+	LoadTestReport(int clients) {
+		this.clients = clients;
+	}
+
+	// 대기열 진입 요청부터 첫 이벤트(queue 또는 entry) 수신까지 (ns)
+	void joined(long nanos) {
+		joinLatencies.add(nanos);
+	}
+
+	// 스케쥴러가 입장 처리한 시각부터 entry 이벤트 수신까지 (ms)
+	void entered(long millis) {
+		entryLatencies.add(millis);
+	}
+
+	// 검증 + 예약 요청 (ns)
+	void booked(long startedAt, long finishedAt) {
+		booked.increment();
+		bookingLatencies.add(finishedAt - startedAt);
+		firstBookingStartedAt.accumulateAndGet(startedAt, Math::min);
+		lastBookingFinishedAt.accumulateAndGet(finishedAt, Math::max);
+	}
+
+	void failed(String stage) {
+		failures.computeIfAbsent(stage, key -> new LongAdder()).increment();
+	}
+
+	long bookedCount() {
+		return booked.sum();
+	}
+
+	long failedCount() {
+		return failures.values().stream().mapToLong(LongAdder::sum).sum();
+	}
+
+	void baseline() {
+		this.baseline = ResourceUsage.sample();
+	}
+
+	void connected(long openConnections) {
+		this.connected = ResourceUsage.sample();
+		this.openConnections = openConnections;
+	}
+
+	void print() {
+		StringBuilder out = new StringBuilder("\n===== 인기 음식점 예약 오픈 부하 테스트 =====\n");
+		out.append(String.format("클라이언트 %d명, 예약 성공 %d, 실패 %d %s%n",
+			clients, booked.sum(), failedCount(), new TreeMap<>(failures)));
+		out.append(latencies("대기열 진입 지연(ms)", joinLatencies, TimeUnit.NANOSECONDS));
+		out.append(latencies("입장 -> entry 이벤트 지연(ms)", entryLatencies, TimeUnit.MILLISECONDS));
+		out.append(latencies("검증 + 예약 지연(ms)", bookingLatencies, TimeUnit.NANOSECONDS));
+
+		long elapsedNanos = lastBookingFinishedAt.get() - firstBookingStartedAt.get();
+		if (booked.sum() > 0 && elapsedNanos > 0) {
+			out.append(String.format("예약 처리량 : %.1f 건/s%n", booked.sum() * 1e9 / elapsedNanos));
+		}
+
+		if (baseline != null && connected != null) {
+			// 서버와 클라이언트가 같은 JVM 이므로 클라이언트(HttpClient) 사용량도 포함됨
+			long connections = Math.max(1, openConnections);
+			out.append(String.format("연결당 힙 : %.1f KB, 연결당 스레드 : %.3f (연결 %d, 힙 %d MB -> %d MB, 스레드 %d -> %d)%n",
+				(connected.heapUsed() - baseline.heapUsed()) / 1024.0 / connections,
+				(double)(connected.threads() - baseline.threads()) / connections,
+				connections,
+				baseline.heapUsed() >> 20, connected.heapUsed() >> 20,
+				baseline.threads(), connected.threads()));
+		}
+		System.out.println(out);
+	}
+
+	private String latencies(String name, Queue<Long> values, TimeUnit unit) {
+		long[] sorted = values.stream().mapToLong(value -> unit.toMillis(value)).sorted().toArray();
+		if (sorted.length == 0) {
+			return name + " : 측정값 없음\n";
+		}
+		return String.format("%s : p50 %d, p95 %d, p99 %d, max %d (n=%d)%n", name,
+			percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+			sorted[sorted.length - 1], sorted.length);
+	}
+
+	private long percentile(long[] sorted, double percentile) {
+		int index = (int)Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+	}
+
+	// GC 직후 힙 사용량과 살아 있는 스레드 수
+	private record ResourceUsage(long heapUsed, int threads) {
+		static ResourceUsage sample() {
+			System.gc();
+			return new ResourceUsage(
+				ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+				ManagementFactory.getThreadMXBean().getThreadCount());
+		}
+	}
+}
@@ -0,0 +1,183 @@
+package com.tablekok.hotreservationservice.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// SSE 대기열 진입 -> entry 이벤트 수신 -> 입장 검증 -> 예약 요청을 수행하는 가상 유저
+// 응답 본문을 Flow.Subscriber 로 받으므로 연결마다 스레드를 점유하지 않음
+final class SimulatedUser implements Flow.Subscriber<String> {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final String BASE_PATH = "/v1/hot-reservations";
+
+	private final HttpClient httpClient;
+	private final String baseUrl;
+	private final String userId = UUID.randomUUID().toString();
+	private final UUID storeId;
+	private final LocalDateTime reservationDateTime;
+	private final long entryTtl;
+	private final LoadTestReport report;
+	private final CountDownLatch joinedLatch;
+	private final CountDownLatch finishedLatch;
+
+	private final AtomicBoolean joined = new AtomicBoolean();
+	private final AtomicBoolean entered = new AtomicBoolean();
+	private final AtomicBoolean finished = new AtomicBoolean();
+
+	private long joinStartedAt;
+	private String eventName;
+	private final StringBuilder data = new StringBuilder();
+
+	SimulatedUser(HttpClient httpClient, String baseUrl, UUID storeId, LocalDateTime reservationDateTime,
+		long entryTtl, LoadTestReport report, CountDownLatch joinedLatch, CountDownLatch finishedLatch) {
+		this.httpClient = httpClient;
+		this.baseUrl = baseUrl;
+		this.storeId = storeId;
+		this.reservationDateTime = reservationDateTime;
+		this.entryTtl = entryTtl;
+		this.report = report;
+		this.joinedLatch = joinedLatch;
+		this.finishedLatch = finishedLatch;
+	}
+
+	void connect() {
+		HttpRequest request = request(BASE_PATH + "/queue?storeId=" + storeId)
+			.header("Accept", "text/event-stream")
+			.GET()
+			.build();
+		joinStartedAt = System.nanoTime();
+		httpClient.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(this))
+			.whenComplete((response, e) -> {
+				if (e != null || response.statusCode() != 200) {
+					fail("connect");
+				}
+			});
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		subscription.request(Long.MAX_VALUE);
+	}
+
+	// SSE 한 줄씩 수신. 빈 줄에서 이벤트 하나가 끝남
+	@Override
+	public void onNext(String line) {
+		if (line.isEmpty()) {
+			if (eventName != null) {
+				onEvent(eventName, data.toString());
+			}
+			eventName = null;
+			data.setLength(0);
+		} else if (line.startsWith("event:")) {
+			eventName = line.substring("event:".length()).trim();
+		} else if (line.startsWith("data:")) {
+			data.append(line.substring("data:".length()));
+		}
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		fail("stream");
+	}
+
+	// 예약 전에 연결이 끝나면 실패
+	@Override
+	public void onComplete() {
+		if (!entered.get()) {
+			fail("stream");
+		}
+	}
+
+	private void onEvent(String name, String payload) {
+		if (joined.compareAndSet(false, true)) {
+			report.joined(System.nanoTime() - joinStartedAt);
+			joinedLatch.countDown();
+		}
+		if ("entry".equals(name) && entered.compareAndSet(false, true)) {
+			onEntry(payload);
+		}
+	}
+
+	private void onEntry(String payload) {
+		String entryPass;
+		try {
+			JsonNode entryEvent = OBJECT_MAPPER.readTree(payload);
+			entryPass = entryEvent.get("entryPass").asText();
+			// 출입증 만료 시각 - 입장 허용 시간 = 스케쥴러가 입장 처리한 시각
+			report.entered(System.currentTimeMillis() - (expireAt(entryPass) - entryTtl));
+		} catch (Exception e) {
+			fail("entry");
+			return;
+		}
+		book(entryPass);
+	}
+
+	private void book(String entryPass) {
+		HttpRequest validation = request(BASE_PATH + "/validation?storeId=" + storeId)
+			.header("X-Entry-Pass", entryPass)
+			.POST(HttpRequest.BodyPublishers.noBody())
+			.build();
+		HttpRequest reservation = request(BASE_PATH)
+			.header("X-Entry-Pass", entryPass)
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(
+				"{\"storeId\":\"" + storeId + "\","
+					+ "\"reservationDateTime\":\"" + reservationDateTime + "\","
+					+ "\"headcount\":2,\"deposit\":0}"))
+			.build();
+
+		long startedAt = System.nanoTime();
+		httpClient.sendAsync(validation, HttpResponse.BodyHandlers.discarding())
+			.thenCompose(response -> {
+				if (response.statusCode() != 200) {
+					throw new IllegalStateException("validation");
+				}
+				return httpClient.sendAsync(reservation, HttpResponse.BodyHandlers.discarding());
+			})
+			.whenComplete((response, e) -> {
+				if (e != null) {
+					fail(e.getCause() instanceof IllegalStateException ? "validation" : "booking");
+				} else if (response.statusCode() != 201) {
+					fail("booking-" + response.statusCode());
+				} else if (finished.compareAndSet(false, true)) {
+					report.booked(startedAt, System.nanoTime());
+					finishedLatch.countDown();
+				}
+			});
+	}
+
+	private HttpRequest.Builder request(String path) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path))
+			.header("X-User-Id", userId)
+			.header("X-User-Role", "CUSTOMER");
+	}
+
+	// 출입증 : base64url("{passId}|{userId}|{shard}|{expireAt}") + "." + 서명
+	private static long expireAt(String entryPass) {
+		String payload = entryPass.substring(0, entryPass.indexOf('.'));
+		String[] values = new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8).split("\\|");
+		return Long.parseLong(values[3]);
+	}
+
+	private void fail(String stage) {
+		if (finished.compareAndSet(false, true)) {
+			report.failed(stage);
+			if (joined.compareAndSet(false, true)) {
+				joinedLatch.countDown();
+			}
+			finishedLatch.countDown();
+		}
+	}
+}
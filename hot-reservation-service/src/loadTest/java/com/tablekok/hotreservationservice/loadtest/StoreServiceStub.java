@@ -0,0 +1,49 @@
+package com.tablekok.hotreservationservice.loadtest;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+// store-service 대역. 부하 대상 음식점을 인기 음식점으로 등록하고 하루 종일 1분 단위 예약을 허용하는 정책 응답
+final class StoreServiceStub {
+
+	private StoreServiceStub() {
+	}
+
+	static void register(WireMockServer server, List<UUID> storeIds) {
+		String popularStores = storeIds.stream()
+			.map(storeId -> "\"" + storeId + "\"")
+			.collect(Collectors.joining(",", "[", "]"));
+		server.stubFor(get(urlEqualTo("/v1/internal/stores/popular")).willReturn(okJson(popularStores)));
+
+		for (UUID storeId : storeIds) {
+			server.stubFor(get(urlEqualTo("/v1/stores/" + storeId + "/reservation-policy"))
+				.willReturn(okJson("{\"data\":" + policy(storeId) + "}")));
+		}
+	}
+
+	// 다음 달 예약이 이미 열려 있도록 매월 1일 0시 오픈
+	// boolean 레코드 컴포넌트의 직렬화 이름(isActive / active) 차이에 대비해 두 이름 모두 포함
+	private static String policy(UUID storeId) {
+		return "{"
+			+ "\"policyId\":\"" + UUID.randomUUID() + "\","
+			+ "\"storeId\":\"" + storeId + "\","
+			+ "\"monthlyOpenDay\":1,"
+			+ "\"openTime\":\"00:00:00\","
+			+ "\"reservationInterval\":1,"
+			+ "\"dailyReservationStartTime\":\"00:00:00\","
+			+ "\"dailyReservationEndTime\":\"23:59:00\","
+			+ "\"minHeadcount\":1,"
+			+ "\"maxHeadcount\":10,"
+			+ "\"isDepositRequired\":false,\"depositRequired\":false,"
+			+ "\"depositAmount\":0,"
+			+ "\"isActive\":true,\"active\":true"
+			+ "}";
+	}
+}
@@ -1,6 +1,6 @@
 package com.tablekok.hotreservationservice.application.client;
 
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import com.tablekok.hotreservationservice.application.client.dto.GetStoreReservationPolicyResponse;
@@ -10,5 +10,5 @@ public interface StoreClient {
 	GetStoreReservationPolicyResponse getStoreReservationPolicy(UUID storeId);
 
 	// 인기 음식점 리스트 조회
-	List<UUID> getHotStores();
+	Set<UUID> getHotStores();
 }
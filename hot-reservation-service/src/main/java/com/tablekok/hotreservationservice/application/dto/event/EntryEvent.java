@@ -0,0 +1,28 @@
+package com.tablekok.hotreservationservice.application.dto.event;
+
+// SSE entry 이벤트. 남은 예약 가능 시간(ms)과 예약 요청 시 X-Entry-Pass 헤더로 보낼 출입증
+public record EntryEvent(
+	long remainingTime,
+	String entryPass
+) {
+	private static final String DELIMITER = ",";
+
+	public static EntryEvent of(long remainingTime, String entryPass) {
+		return new EntryEvent(remainingTime, entryPass);
+	}
+
+	// pub/sub 메시지 데이터 "{remainingTime},{entryPass}"
+	public static EntryEvent fromMessage(String data) {
+		String[] values = data.split(DELIMITER, 2);
+		return new EntryEvent(Long.parseLong(values[0]), values.length > 1 ? values[1] : null);
+	}
+
+	public String toMessage() {
+		return remainingTime + DELIMITER + entryPass;
+	}
+
+	// 출입증은 base64url 과 '.' 로만 구성되어 이스케이프가 필요 없음
+	public String toJson() {
+		return "{\"remainingTime\":" + remainingTime + ",\"entryPass\":\"" + entryPass + "\"}";
+	}
+}
@@ -32,6 +32,12 @@ public enum HotReservationErrorCode implements ErrorCode {
 		"HOT-RESERVATION103",
 		"접근권한이 없습니다.",
 		HttpStatus.FORBIDDEN
+	),
+
+	QUEUE_DATE_REQUIRED(
+		"HOT-RESERVATION104",
+		"예약 일자를 함께 지정해야 합니다.",
+		HttpStatus.BAD_REQUEST
 	);
 
 	private final String code;
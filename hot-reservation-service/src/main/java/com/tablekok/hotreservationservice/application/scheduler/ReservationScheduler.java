@@ -1,45 +1,75 @@
 package com.tablekok.hotreservationservice.application.scheduler;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
-import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
-
+import com.tablekok.hotreservationservice.application.service.AdaptiveAdmissionLimiter;
 import com.tablekok.hotreservationservice.application.service.QueueService;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
 @EnableScheduling
-@RequiredArgsConstructor
 @Slf4j
 public class ReservationScheduler {
 
 	private final QueueService queueService;
+	private final AdaptiveAdmissionLimiter admissionLimiter;
+	private final ExecutorService shardWorkers;
 
-	@Value("${reservation.available.user.limit}")
-	private int availableUserLimit;
+	public ReservationScheduler(
+		QueueService queueService,
+		AdaptiveAdmissionLimiter admissionLimiter,
+		@Value("${reservation.process.parallelism}") int parallelism
+	) {
+		this.queueService = queueService;
+		this.admissionLimiter = admissionLimiter;
+		this.shardWorkers = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("queue-shard-"));
+	}
 
 	// 예약 입장 스케쥴러
+	// 모든 노드가 실행하고, 샤드마다 처리권을 먼저 얻은 노드가 그 샤드를 처리 (전역 락 없음)
 	@Scheduled(fixedRateString = "${reservation.process.interval}")
-	@SchedulerLock(
-		name = "hot-reservation-scheduler-lock",
-		lockAtMostFor = "10s",
-		lockAtLeastFor = "500ms"
-	)
 	public void processReservations() {
+		// 직전 주기 예약 완료 수, 지연, 오류율로 이번 주기 동시 입장 인원 결정 (대기열이 비어도 측정 주기는 유지)
+		int limit = admissionLimiter.adjust();
+
+		List<String> shards = queueService.findActiveShards();
+		if (shards.isEmpty()) {
+			return;
+		}
 
-		// 예약 허용 시간 초과 유저 삭제 및 입장 인원 반환
-		int usersToProcess = queueService.processExpiredUsers();
+		// 예약 허용 시간 초과 유저 삭제, 빈 자리만큼 입장 및 순번 변경 알림을 샤드별로 병렬 처리
+		List<CompletableFuture<Integer>> futures = shards.stream()
+			.map(shard -> CompletableFuture.supplyAsync(() -> admitUsers(shard, limit), shardWorkers))
+			.toList();
+		int admittedUsers = futures.stream().mapToInt(CompletableFuture::join).sum();
 
-		log.info("예약 가능 수용 인원 : {}, 예약 입장 가능한 인원 : {}", availableUserLimit, usersToProcess);
-		if (usersToProcess > 0) {
-			// 예약 입장 및 순번 번경 알림
-			queueService.processAllUsers(usersToProcess);
+		log.info("처리 대상 샤드 : {}, 동시 입장 인원 : {}, 예약 입장한 인원 : {}", shards.size(), limit, admittedUsers);
+	}
+
+	// 한 샤드의 실패가 다른 샤드 처리를 막지 않도록 샤드 단위로 예외 처리
+	private int admitUsers(String shard, int limit) {
+		try {
+			return queueService.admitUsers(shard, limit);
+		} catch (Exception e) {
+			log.error("대기열 샤드 입장 처리 실패 shard={}", shard, e);
+			return 0;
 		}
 	}
 
+	@PreDestroy
+	public void shutdown() {
+		shardWorkers.shutdown();
+	}
+
 }
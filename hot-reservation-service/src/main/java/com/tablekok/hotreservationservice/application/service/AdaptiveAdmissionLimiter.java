@@ -0,0 +1,160 @@
+package com.tablekok.hotreservationservice.application.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tablekok.exception.AppException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+
+// 음식점별 동시 입장 인원을 예약 처리 상태에 맞춰 조절 (AIMD)
+// 입장 인원은 빈 자리만큼만 채우므로, 매 주기 입장 수는 예약 완료·만료 속도를 따라감
+// - 오류율 또는 p99 지연이 목표를 넘으면 곱셈 감소
+// - 정상이고 이번 주기에 완료된 예약이 있으면 덧셈 증가
+// 측정값은 이 서버가 처리한 예약 요청 기준 (게이트웨이가 요청을 고르게 분산한다고 가정)
+@Slf4j
+@Component
+public class AdaptiveAdmissionLimiter {
+
+	private static final double P99 = 0.99;
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final int increaseStep;
+	private final double decreaseFactor;
+	private final long targetP99Millis;
+	private final double maxErrorRate;
+	private final int minSamples;
+
+	private final AtomicInteger limit;
+	private final LongAdder completions = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final AtomicLong lastP99Millis = new AtomicLong();
+	private final AtomicLong lastErrorRatePermille = new AtomicLong();
+
+	private final Timer createTimer;
+	private final Counter increaseCounter;
+	private final Counter decreaseCounter;
+
+	public AdaptiveAdmissionLimiter(
+		MeterRegistry meterRegistry,
+		@Value("${reservation.admission.min-limit}") int minLimit,
+		@Value("${reservation.available.user.limit}") int maxLimit,
+		@Value("${reservation.admission.initial-limit}") int initialLimit,
+		@Value("${reservation.admission.increase-step}") int increaseStep,
+		@Value("${reservation.admission.decrease-factor}") double decreaseFactor,
+		@Value("${reservation.admission.target-p99}") long targetP99Millis,
+		@Value("${reservation.admission.max-error-rate}") double maxErrorRate,
+		@Value("${reservation.admission.min-samples}") int minSamples,
+		@Value("${reservation.process.interval}") long interval
+	) {
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.increaseStep = increaseStep;
+		this.decreaseFactor = decreaseFactor;
+		this.targetP99Millis = targetP99Millis;
+		this.maxErrorRate = maxErrorRate;
+		this.minSamples = minSamples;
+		this.limit = new AtomicInteger(clamp(initialLimit));
+
+		// p99 는 처리 주기 단위로 갱신되도록 통계 만료 시간을 주기에 맞춤
+		this.createTimer = Timer.builder("hot.reservation.create.latency")
+			.description("예약 생성 요청 처리 시간")
+			.publishPercentiles(P99)
+			.distributionStatisticExpiry(Duration.ofMillis(interval))
+			.distributionStatisticBufferLength(2)
+			.register(meterRegistry);
+		this.increaseCounter = Counter.builder("hot.reservation.admission.adjust")
+			.tag("direction", "increase")
+			.description("동시 입장 인원 증가 횟수")
+			.register(meterRegistry);
+		this.decreaseCounter = Counter.builder("hot.reservation.admission.adjust")
+			.tag("direction", "decrease")
+			.description("동시 입장 인원 감소 횟수")
+			.register(meterRegistry);
+		Gauge.builder("hot.reservation.admission.limit", limit, AtomicInteger::get)
+			.description("현재 음식점별 동시 입장 인원")
+			.register(meterRegistry);
+		Gauge.builder("hot.reservation.admission.p99", lastP99Millis, AtomicLong::get)
+			.description("직전 주기 예약 생성 p99 지연(ms)")
+			.register(meterRegistry);
+		Gauge.builder("hot.reservation.admission.error.rate", lastErrorRatePermille, value -> value.get() / 1000.0)
+			.description("직전 주기 예약 생성 오류율")
+			.register(meterRegistry);
+	}
+
+	// 예약 생성 요청 측정. 비즈니스 검증 실패(AppException)는 과부하 신호가 아니므로 오류로 세지 않음
+	public <T> T record(Supplier<T> reservation) {
+		long start = System.nanoTime();
+		try {
+			T result = reservation.get();
+			completions.increment();
+			return result;
+		} catch (AppException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			errors.increment();
+			throw e;
+		} finally {
+			createTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	public int currentLimit() {
+		return limit.get();
+	}
+
+	// 처리 주기마다 호출. 직전 주기 측정값으로 동시 입장 인원을 조절하고 반환
+	public int adjust() {
+		long completed = completions.sumThenReset();
+		long failed = errors.sumThenReset();
+		long total = completed + failed;
+		long p99Millis = p99Millis();
+		double errorRate = total == 0 ? 0 : (double)failed / total;
+
+		lastP99Millis.set(p99Millis);
+		lastErrorRatePermille.set(Math.round(errorRate * 1000));
+
+		int current = limit.get();
+		int next = current;
+		// 표본이 적으면 지연·오류율이 흔들리므로 감소 판단에서 제외
+		boolean overloaded = total >= minSamples && (errorRate > maxErrorRate || p99Millis > targetP99Millis);
+		if (overloaded) {
+			next = clamp((int)Math.floor(current * decreaseFactor));
+		} else if (completed > 0) {
+			next = clamp(current + increaseStep);
+		}
+
+		if (next != current) {
+			limit.set(next);
+			(next > current ? increaseCounter : decreaseCounter).increment();
+			log.info("동시 입장 인원 {} -> {} (완료 {}, 실패 {}, p99 {}ms)", current, next, completed, failed, p99Millis);
+		}
+		return next;
+	}
+
+	private long p99Millis() {
+		for (ValueAtPercentile percentile : createTimer.takeSnapshot().percentileValues()) {
+			if (percentile.percentile() == P99) {
+				return (long)percentile.value(TimeUnit.MILLISECONDS);
+			}
+		}
+		return 0;
+	}
+
+	private int clamp(int value) {
+		return Math.max(minLimit, Math.min(maxLimit, value));
+	}
+}
@@ -0,0 +1,159 @@
+package com.tablekok.hotreservationservice.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.tablekok.exception.AppException;
+import com.tablekok.hotreservationservice.application.exception.HotReservationErrorCode;
+import com.tablekok.hotreservationservice.domain.repository.CacheStore;
+import com.tablekok.hotreservationservice.domain.vo.EntryPass;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+// HMAC 서명 출입증 발급·검증. 검증은 서명과 만료만 확인하므로 Redis 를 조회하지 않음
+// 토큰 형식 : base64url("{passId}|{userId}|{shard}|{expireAt}") + "." + base64url(HMAC-SHA256)
+// 같은 비밀 키를 가진 게이트웨이에서도 검증 가능
+@Slf4j
+@Service
+public class EntryPassService {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	// HMAC-SHA256 출력 길이(256bit)보다 짧은 키는 서명 강도를 낮춤
+	private static final int MIN_SECRET_BYTES = 32;
+	private static final String DELIMITER = "|";
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final CacheStore cacheStore;
+	// Mac 은 스레드 안전하지 않으므로 스레드별로 생성
+	private final ThreadLocal<Mac> macs;
+
+	// 예약 완료로 조기 종료된 출입증 (passId -> 만료 시각). 모든 노드가 브로드캐스트로 동기화
+	private final Map<String, Long> revokedPasses = new ConcurrentHashMap<>();
+
+	public EntryPassService(
+		CacheStore cacheStore,
+		@Value("${reservation.entry.pass.secret}") String secret
+	) {
+		this.cacheStore = cacheStore;
+		// 비어 있거나 짧은 키로는 기동하지 않음 (환경 변수 누락을 발급 시점이 아니라 기동 시점에 발견)
+		byte[] secretBytes = secret == null ? new byte[0] : secret.getBytes(StandardCharsets.UTF_8);
+		if (secret == null || secret.isBlank() || secretBytes.length < MIN_SECRET_BYTES) {
+			throw new IllegalStateException(
+				"reservation.entry.pass.secret 은 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다.");
+		}
+		SecretKeySpec secretKey = new SecretKeySpec(secretBytes, ALGORITHM);
+		this.macs = ThreadLocal.withInitial(() -> {
+			try {
+				Mac mac = Mac.getInstance(ALGORITHM);
+				mac.init(secretKey);
+				return mac;
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("출입증 서명 키 초기화 실패", e);
+			}
+		});
+	}
+
+	// 재시작한 노드도 이미 회수된 출입증을 알 수 있도록 Redis 에서 불러옴
+	@PostConstruct
+	public void loadRevokedPasses() {
+		try {
+			revokedPasses.putAll(cacheStore.findRevokedEntryPasses(System.currentTimeMillis()));
+		} catch (Exception e) {
+			log.warn("회수된 출입증 목록 조회 실패", e);
+		}
+	}
+
+	// 출입증 발급. 재연결로 다시 발급해도 같은 입장(유저, 샤드, 만료 시각)이면 passId 가 같으므로
+	// 예약 완료 시 한 번의 회수로 모두 무효화됨 (입장 한 번에 예약 한 번)
+	public String issue(String userId, String shard, long expireAt) {
+		String payload = String.join(DELIMITER, passId(userId, shard, expireAt), userId, shard,
+			String.valueOf(expireAt));
+		String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+		return encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload));
+	}
+
+	// 출입증 검증 (CPU 연산만 수행). 유저·샤드가 다르거나 만료·회수된 출입증이면 예외
+	public EntryPass verify(String token, String userId, String shard) {
+		EntryPass pass = parse(token);
+		if (pass == null
+			|| !pass.userId().equals(userId)
+			|| !pass.shard().equals(shard)
+			|| pass.isExpired(System.currentTimeMillis())
+			|| revokedPasses.containsKey(pass.passId())) {
+			throw new AppException(HotReservationErrorCode.AVAILABLE_USER_VALIDATION_FAILED);
+		}
+		return pass;
+	}
+
+	// 예약 완료 시 출입증 회수. 다른 노드에는 QueueService 가 브로드캐스트
+	public void revoke(EntryPass pass) {
+		revokedPasses.put(pass.passId(), pass.expireAt());
+		cacheStore.addRevokedEntryPass(pass.passId(), pass.expireAt());
+	}
+
+	// 다른 노드에서 회수된 출입증 반영
+	public void onRevoked(String passId, long expireAt) {
+		revokedPasses.put(passId, expireAt);
+	}
+
+	// 만료된 출입증은 서명 검증에서 걸러지므로 회수 목록에서 제거
+	@Scheduled(fixedRateString = "${reservation.entry.ttl}")
+	public void purgeExpired() {
+		long now = System.currentTimeMillis();
+		revokedPasses.values().removeIf(expireAt -> expireAt <= now);
+		try {
+			cacheStore.removeExpiredRevokedEntryPasses(now);
+		} catch (Exception e) {
+			log.warn("만료된 출입증 회수 기록 정리 실패", e);
+		}
+	}
+
+	private String passId(String userId, String shard, long expireAt) {
+		String admission = String.join(DELIMITER, userId, shard, String.valueOf(expireAt));
+		return UUID.nameUUIDFromBytes(admission.getBytes(StandardCharsets.UTF_8)).toString();
+	}
+
+	private EntryPass parse(String token) {
+		if (token == null) {
+			return null;
+		}
+		int index = token.indexOf('.');
+		if (index <= 0) {
+			return null;
+		}
+		String encodedPayload = token.substring(0, index);
+		try {
+			byte[] signature = DECODER.decode(token.substring(index + 1));
+			if (!MessageDigest.isEqual(sign(encodedPayload), signature)) {
+				return null;
+			}
+			String[] values = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8)
+				.split("\\" + DELIMITER, -1);
+			if (values.length != 4) {
+				return null;
+			}
+			return EntryPass.of(values[0], values[1], values[2], Long.parseLong(values[3]));
+		} catch (IllegalArgumentException e) {
+			// base64 또는 숫자 형식 오류
+			return null;
+		}
+	}
+
+	private byte[] sign(String encodedPayload) {
+		return macs.get().doFinal(encodedPayload.getBytes(StandardCharsets.UTF_8));
+	}
+}
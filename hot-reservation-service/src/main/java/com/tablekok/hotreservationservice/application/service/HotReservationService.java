@@ -1,53 +1,86 @@
 package com.tablekok.hotreservationservice.application.service;
 
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.tablekok.hotreservationservice.application.client.StoreClient;
 import com.tablekok.hotreservationservice.application.client.dto.GetStoreReservationPolicyResponse;
 import com.tablekok.hotreservationservice.application.dto.command.CreateReservationCommand;
 import com.tablekok.hotreservationservice.application.dto.result.CreateReservationResult;
 import com.tablekok.hotreservationservice.domain.entity.Reservation;
+import com.tablekok.hotreservationservice.domain.repository.AvailabilityGridStore;
 import com.tablekok.hotreservationservice.domain.repository.ReservationRepository;
 import com.tablekok.hotreservationservice.domain.service.ReservationDomainService;
+import com.tablekok.hotreservationservice.domain.service.ReservationNumberGenerator;
 import com.tablekok.hotreservationservice.domain.vo.StoreReservationPolicy;
 import com.tablekok.hotreservationservice.global.annotation.DistributedLock;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class HotReservationService {
 	private final ReservationDomainService reservationDomainService;
+	private final ReservationNumberGenerator reservationNumberGenerator;
 	private final StoreClient storeClient;
 	private final ReservationRepository reservationRepository;
+	private final AvailabilityGridStore availabilityGridStore;
 
 	// 예약 생성(접수)
 	@Transactional
-	@DistributedLock(key = "'reservation:' + #command.storeId() + ':' + #command.reservationDateTime().getReservationDate()")
+	// 같은 음식점, 같은 날짜라도 시간대(슬롯)가 다르면 동시에 예약 가능
+	@DistributedLock(
+		key = "'reservation:' + #command.storeId() + ':' + #command.reservationDateTime().getReservationDate()"
+			+ " + ':' + #command.reservationDateTime().getReservationTime()",
+		name = "createReservation"
+	)
 	public CreateReservationResult createReservation(CreateReservationCommand command) {
 		validateReservationConstraints(command);
 
 		Reservation newReservation = Reservation.create(
 			command.userId(),
 			command.storeId(),
+			reservationNumberGenerator.next(),
 			command.reservationDateTime(),
 			command.headcount(),
 			command.deposit()
 		);
 
 		reservationRepository.save(newReservation);
+		markReservedAfterCommit(newReservation);
 		return CreateReservationResult.of(newReservation);
 	}
 
+	// 커밋 후 예약 현황 그리드에 반영. 실패해도 그리드 TTL 만료 후 DB 기준으로 재구성됨
+	private void markReservedAfterCommit(Reservation reservation) {
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				try {
+					availabilityGridStore.markReserved(
+						reservation.getStoreId(),
+						reservation.getReservationDateTime().getReservationDate(),
+						reservation.getReservationDateTime().getReservationTime()
+					);
+				} catch (Exception e) {
+					log.warn("예약 현황 그리드 갱신 실패 storeId={}", reservation.getStoreId(), e);
+				}
+			}
+		});
+	}
+
 	// 생성 전 검증
 	private void validateReservationConstraints(CreateReservationCommand command) {
 		// 도메인 서비스에서 검증하는게 맞나
 		// 인기 음식점의 요청인지 확인
-		List<UUID> hotStores = storeClient.getHotStores();
+		Set<UUID> hotStores = storeClient.getHotStores();
 		reservationDomainService.validateHotStore(
 			hotStores,
 			command.storeId()
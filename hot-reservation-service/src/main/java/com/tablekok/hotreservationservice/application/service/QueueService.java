@@ -1,18 +1,31 @@
 package com.tablekok.hotreservationservice.application.service;
 
-import java.io.IOException;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.tablekok.exception.AppException;
+import com.tablekok.hotreservationservice.application.client.StoreClient;
+import com.tablekok.hotreservationservice.application.client.dto.GetStoreReservationPolicyResponse;
+import com.tablekok.hotreservationservice.application.dto.event.EntryEvent;
 import com.tablekok.hotreservationservice.application.exception.HotReservationErrorCode;
 import com.tablekok.hotreservationservice.domain.repository.CacheStore;
+import com.tablekok.hotreservationservice.domain.vo.AdmissionResult;
+import com.tablekok.hotreservationservice.domain.vo.EntryPass;
+import com.tablekok.hotreservationservice.domain.vo.QueuePositions;
+import com.tablekok.hotreservationservice.domain.vo.QueueShard;
+import com.tablekok.hotreservationservice.domain.vo.StoreReservationPolicy;
+import com.tablekok.hotreservationservice.global.sse.SseDispatcher;
+import com.tablekok.hotreservationservice.global.sse.SseEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +37,15 @@ public class QueueService {
 
 	// 사용자 ID를 키로, SseEmitter를 값으로 저장하여 관리
 	private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+	// 샤드별로 이 서버에 연결된 대기 유저의 진입 순번. 브로드캐스트된 head offset으로 현재 순위를 계산
+	private final Map<String, Map<String, Long>> entrySequences = new ConcurrentHashMap<>();
 	private final CacheStore cacheStore;
+	private final SseDispatcher sseDispatcher;
+	private final StoreClient storeClient;
+	private final EntryPassService entryPassService;
+
+	// 모든 서버가 처리하는 브로드캐스트 메시지의 대상
+	private static final String BROADCAST_TARGET = "*";
 
 	@Value("${queue.sse.ttl}")
 	private long SSE_TTL;
@@ -32,94 +53,142 @@ public class QueueService {
 	@Value("${reservation.entry.ttl}")
 	private long ENTRY_TTL;
 
-	@Value("${reservation.available.user.limit}")
-	private int availableUserLimit;
+	@Value("${queue.shard.by-date}")
+	private boolean shardByDate;
+
+	// 샤드 처리권 유지 시간. 다음 처리 주기 전에 만료되어야 다른 노드도 처리할 수 있음
+	@Value("#{${reservation.process.interval} * 9 / 10}")
+	private long shardLeaseTtl;
+
+	@Value("${queue.shard.idle-ttl}")
+	private long shardIdleTtl;
+
+	// 음식점(설정에 따라 음식점·예약 일자) 대기열 샤드
+	public QueueShard resolveShard(UUID storeId, LocalDate date) {
+		if (!shardByDate) {
+			return QueueShard.of(storeId, null);
+		}
+		if (date == null) {
+			throw new AppException(HotReservationErrorCode.QUEUE_DATE_REQUIRED);
+		}
+		return QueueShard.of(storeId, date);
+	}
 
-	// 사용자를 대기열에 등록하고 생성한 이미터를 반환
-	public SseEmitter enterQueue(String userId) {
+	// 사용자를 샤드 대기열에 등록하고 생성한 이미터를 반환
+	public SseEmitter enterQueue(String userId, QueueShard queueShard) {
+		String shard = queueShard.key();
 		SseEmitter newEmitter = new SseEmitter(SSE_TTL);
 		this.emitters.put(userId, newEmitter);
+		cacheStore.registerUserNode(userId);
+
+		// heartbeat 전송 실패 등으로 끊어진 연결이 확인되면 타임아웃을 기다리지 않고 대기열에서 제거
+		sseDispatcher.register(newEmitter, () -> disconnect(userId, shard, newEmitter));
 
 		// 서버에서 emitter.complete()을 호출하거나, 클라이언트가 연결을 닫았을 때 실행될 콜백
-		newEmitter.onCompletion(() -> {
-				this.emitters.remove(userId);
-				cacheStore.removeUserFromQueue(userId);
-			}
-		);
+		newEmitter.onCompletion(() -> disconnect(userId, shard, newEmitter));
 		newEmitter.onTimeout(newEmitter::complete);
 
-		Double expireAt = cacheStore.findAvailableUser(userId);
+		// 이미 입장한 유저는 남은 시간만큼 유효한 출입증을 다시 발급
+		Double expireAt = cacheStore.findAvailableUser(shard, userId);
 		if (expireAt != null) {
 			long remainingTime = (long)(expireAt - System.currentTimeMillis());
-			sendEvent(newEmitter, userId, "entry", remainingTime);
+			String entryPass = entryPassService.issue(userId, shard, expireAt.longValue());
+			sendEvent(newEmitter, SseEvent.of("entry", EntryEvent.of(remainingTime, entryPass).toJson(), userId));
+			return newEmitter;
+		}
+
+		cacheStore.addUserToQueue(shard, userId, SSE_TTL);
+		Long entrySequence = cacheStore.getEntrySequence(shard, userId);
+		if (entrySequence == null) {
 			return newEmitter;
 		}
+		entrySequences.computeIfAbsent(shard, key -> new ConcurrentHashMap<>()).put(userId, entrySequence);
 
-		cacheStore.addUserToQueue(userId, SSE_TTL);
-		Long rank = cacheStore.getRank(userId);
-		sendEvent(newEmitter, userId, "queue", rank);
+		Long rank = cacheStore.getRank(shard, userId);
+		sendEvent(newEmitter, SseEvent.latest("queue", rank, userId));
 
 		return newEmitter;
 	}
 
-	// 예약 입장 유저인지 확인
-	public void validateAvailableUser(String userId) {
-		Double expireAt = cacheStore.findAvailableUser(userId);
-
-		if (expireAt == null) {
-			throw new AppException(HotReservationErrorCode.AVAILABLE_USER_VALIDATION_FAILED);
+	// 연결 종료 시 이미터, 대기열 순번, 연결 서버 기록 삭제
+	// 같은 유저가 이 서버에 다시 연결한 뒤 이전 연결이 정리되는 경우에는 새 연결의 순번과 기록을 유지
+	private void disconnect(String userId, String shard, SseEmitter emitter) {
+		sseDispatcher.release(emitter);
+		if (!this.emitters.remove(userId, emitter)) {
+			return;
 		}
+		removeEntrySequence(shard, userId);
+		cacheStore.removeUserFromQueue(shard, userId);
+		cacheStore.removeUserNode(userId);
 	}
 
-	// 예약 완료 또는 시간 초과 시 사용자, 이미터를 삭제합니다.
-	public void completeReservation(String userId) {
-		cacheStore.removeAvailableUser(userId);
-		convertAndSend(userId, "done", "예약이 종료되었습니다.");
-
+	// 예약 입장 유저인지 출입증으로 확인 (Redis 조회 없음)
+	public EntryPass validateAvailableUser(String userId, QueueShard queueShard, String entryPass) {
+		return entryPassService.verify(entryPass, userId, queueShard.key());
 	}
 
-	// 예약 허용 시간 초과 유저 삭제 및 입장 인원 반환
-	public int processExpiredUsers() {
-		long now = Instant.now().toEpochMilli();
-
-		cacheStore.removeExpiredAvailableUsers(now);
-		int availableUserCount = cacheStore.getAvailableUserCount();
+	// 예약 완료 시 입장 자리를 비우고 출입증을 회수한 뒤 사용자, 이미터를 삭제합니다.
+	public void completeReservation(String userId, QueueShard queueShard, EntryPass entryPass) {
+		cacheStore.removeAvailableUser(queueShard.key(), userId);
+		entryPassService.revoke(entryPass);
+		cacheStore.broadcast(
+			toMessage(BROADCAST_TARGET, "revoke", entryPass.passId() + "," + entryPass.expireAt()));
+		convertAndSend(userId, "done", "예약이 종료되었습니다.");
 
-		return availableUserLimit - availableUserCount;
+	}
 
+	// 대기자가 있는 샤드 목록
+	public List<String> findActiveShards() {
+		return cacheStore.findActiveShards();
 	}
 
-	// 유저 예약 입장 및 순번 갱신 알림
-	public void processAllUsers(int count) {
-		Set<String> allUsers = cacheStore.getAllUsers();
-		int index = 0;
-		for (String userId : allUsers) {
-			if (index < count) {
+	// 샤드의 예약 허용 시간 초과 유저 삭제 후 빈 자리만큼 입장 처리. 입장한 인원 반환
+	// availableUserLimit : 이번 주기 음식점 한 곳의 동시 입장 인원. 음식점 예약 정책으로 더 줄어들 수 있음
+	public int admitUsers(String shard, int availableUserLimit) {
+		long now = Instant.now().toEpochMilli();
+		int limit = admissionLimit(QueueShard.parse(shard).storeId(), availableUserLimit);
 
-				// 예약 가능자 처리
-				addAvailableUser(userId);
-				index++;
-				continue;
-			}
+		AdmissionResult result = cacheStore.admitUsers(shard, now, limit, ENTRY_TTL, shardLeaseTtl);
+		if (result.isIdle()) {
+			cacheStore.removeIdleShard(shard, now - shardIdleTtl);
+		}
+		if (result.isEmpty()) {
+			return 0;
+		}
 
-			// 나머지 사용자 순번 변경 알림. 몇명 입장 했는지 전달
-			convertAndSend(userId, "update", String.valueOf(count));
-			index++;
+		// 입장 유저에게 출입증과 함께 입장 알림. 유저가 연결된 서버로만 발행
+		long expireAt = now + ENTRY_TTL;
+		Map<String, String> entryMessages = new HashMap<>();
+		for (String userId : result.admittedUserIds()) {
+			String entryPass = entryPassService.issue(userId, shard, expireAt);
+			entryMessages.put(userId, toMessage(userId, "entry", EntryEvent.of(ENTRY_TTL, entryPass).toMessage()));
 		}
-	}
+		cacheStore.convertAndSend(entryMessages);
 
-	// 예약 입장. AVAILABLE_USERS 리스트에 추가하고 알림
-	private void addAvailableUser(String userId) {
-		// 예약 가능 상태인 사용자 목록에 추가, 대기열에서 삭제
-		cacheStore.addAvailableUser(userId, ENTRY_TTL);
-		cacheStore.removeUserFromQueue(userId);
+		// 나머지 사용자 순번 변경 알림. 유저별 발행 대신 몇명 입장했는지와 head offset을 한 번만 브로드캐스트
+		int count = result.admittedUserIds().size();
+		cacheStore.broadcast(
+			toMessage(BROADCAST_TARGET, "advance", count + "," + result.headOffset() + "," + shard));
+
+		return count;
+	}
 
-		convertAndSend(userId, "entry", String.valueOf(ENTRY_TTL));
+	// 음식점 예약 정책 기준 입장 인원. 정책 조회 실패 시 주어진 인원
+	private int admissionLimit(UUID storeId, int availableUserLimit) {
+		try {
+			StoreReservationPolicy policy = GetStoreReservationPolicyResponse.toVo(
+				storeClient.getStoreReservationPolicy(storeId));
+			return policy.admissionLimit(availableUserLimit);
+		} catch (Exception e) {
+			log.warn("예약 정책 조회 실패, 기본 입장 인원 사용 storeId={}", storeId, e);
+			return availableUserLimit;
+		}
 	}
 
 	public void onMessage(String message) {
 		try {
-			String[] parts = message.split(":");
+			// 샤드 키에 ':' 가 포함될 수 있으므로 데이터 부분은 나누지 않음
+			String[] parts = message.split(":", 3);
 			if (parts.length < 3)
 				return;
 
@@ -127,15 +196,26 @@ public class QueueService {
 			String eventName = parts[1];
 			String data = parts[2];
 
+			if (BROADCAST_TARGET.equals(userId)) {
+				onBroadcast(eventName, data);
+				return;
+			}
+
 			SseEmitter emitter = emitters.get(userId);
 
 			if (emitter != null) {
 				log.info("내 서버에 연결된 유저 {}에게 {} 이벤트 전송", userId, eventName);
-				sendEvent(emitter, userId, eventName, data);
 
+				if ("entry".equals(eventName)) {
+					sendEvent(emitter, SseEvent.of(eventName, EntryEvent.fromMessage(data).toJson(), userId));
+					entrySequences.values().forEach(sequences -> sequences.remove(userId));
+				} else {
+					sendEvent(emitter, SseEvent.of(eventName, data, userId));
+				}
+
+				// 이미터와 연결 서버 기록은 연결 종료 콜백(disconnect)에서 삭제
 				if ("done".equals(eventName)) {
-					emitter.complete();
-					emitters.remove(userId);
+					sseDispatcher.complete(emitter);
 				}
 			}
 
@@ -144,24 +224,94 @@ public class QueueService {
 		}
 	}
 
-	private void convertAndSend(String userId, String eventName, String data) {
-		String message = userId + ":" + eventName + ":" + data;
-		cacheStore.convertAndSend(message);
+	// 모든 서버 대상 이벤트 처리
+	private void onBroadcast(String eventName, String data) {
+		switch (eventName) {
+			case "advance" -> onQueueAdvanced(data);
+			case "revoke" -> {
+				// 다른 서버에서 예약 완료로 회수된 출입증. "{passId},{expireAt}"
+				String[] values = data.split(",", 2);
+				entryPassService.onRevoked(values[0], Long.parseLong(values[1]));
+			}
+			default -> log.warn("알 수 없는 브로드캐스트 이벤트 {}", eventName);
+		}
 	}
 
-	private <T> void sendEvent(SseEmitter emitter, String userId, String eventName, T data) {
-		try {
-			emitter.send(SseEmitter.event()
-				.name(eventName)
-				.data(data)
-				.id(userId)
-			);
-		} catch (IOException e) {
-			emitter.completeWithError(e);
-			emitters.remove(userId);
-			log.warn(e.getMessage());
+	// 대기열 전진 브로드캐스트 수신. 해당 샤드에서 이 서버에 연결된 대기 유저의 순위만 계산하여 전송
+	private void onQueueAdvanced(String data) {
+		String[] values = data.split(",", 3);
+		if (values.length < 3)
+			return;
+
+		long headOffset = Long.parseLong(values[1]);
+		String shard = values[2];
+		log.info("대기열 {} {}명 입장, head offset {}", shard, values[0], headOffset);
+
+		Map<String, Long> sequences = entrySequences.get(shard);
+		if (sequences == null) {
+			return;
 		}
+		sequences.forEach((userId, entrySequence) -> {
+			long rank = entrySequence - headOffset;
+			SseEmitter emitter = emitters.get(userId);
+
+			// 이미 입장한 유저는 entry 이벤트로 처리
+			if (emitter == null || rank < 0) {
+				return;
+			}
+			// 클라이언트가 밀린 경우 최신 순위만 전송
+			sendEvent(emitter, SseEvent.latest("queue", rank, userId));
+		});
+	}
+
+	// head offset 은 입장한 인원만 세므로 앞선 대기자가 입장하지 않고 나가면 계산한 순위가 실제보다 커짐
+	// 주기마다 Redis 순위로 진입 순번을 다시 계산하고, 당겨진 유저에게는 바로 순위 전송
+	@Scheduled(fixedDelayString = "${queue.rank.correction-interval}")
+	public void correctRanks() {
+		entrySequences.forEach((shard, sequences) -> {
+			if (sequences.isEmpty()) {
+				return;
+			}
+			try {
+				QueuePositions positions = cacheStore.getQueuePositions(shard, List.copyOf(sequences.keySet()));
+				positions.entrySequences().forEach((userId, entrySequence) -> {
+					// 그 사이 입장·종료로 빠진 유저는 되살리지 않고, 순번이 바뀐 유저에게만 전송
+					Long previous = sequences.get(userId);
+					if (previous == null || previous.equals(entrySequence)
+						|| !sequences.replace(userId, previous, entrySequence)) {
+						return;
+					}
+					SseEmitter emitter = emitters.get(userId);
+					if (emitter == null) {
+						return;
+					}
+					sendEvent(emitter, SseEvent.latest("queue", positions.rank(entrySequence), userId));
+				});
+			} catch (Exception e) {
+				log.warn("대기열 순위 보정 실패 shard={}", shard, e);
+			}
+		});
+	}
+
+	// 샤드 맵은 음식점 수만큼만 생기므로 비어도 남겨 둠 (동시 등록과 경합하지 않도록)
+	private void removeEntrySequence(String shard, String userId) {
+		Map<String, Long> sequences = entrySequences.get(shard);
+		if (sequences != null) {
+			sequences.remove(userId);
+		}
+	}
+
+	private void convertAndSend(String userId, String eventName, String data) {
+		cacheStore.convertAndSend(userId, toMessage(userId, eventName, data));
+	}
+
+	private String toMessage(String userId, String eventName, String data) {
+		return userId + ":" + eventName + ":" + data;
+	}
 
+	// 전송은 SseDispatcher 워커가 수행. 호출 스레드(Redis 리스너)는 블로킹되지 않음
+	private void sendEvent(SseEmitter emitter, SseEvent event) {
+		sseDispatcher.send(emitter, event);
 	}
 
 }
@@ -0,0 +1,212 @@
+package com.tablekok.hotreservationservice.application.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.tablekok.hotreservationservice.application.dto.event.EntryEvent;
+import com.tablekok.hotreservationservice.domain.repository.ReactiveCacheStore;
+import com.tablekok.hotreservationservice.domain.vo.QueueShard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+// SseEmitter 대신 Flux<ServerSentEvent> 로 대기열을 제공하는 리액티브 버전 (queue.reactive.enabled)
+// 입장 처리(ReservationScheduler)와 Redis 키, pub/sub 메시지 형식은 QueueService 와 공유
+// 연결 유지 시간은 take(SSE_TTL) 로 제한. spring.mvc.async.request-timeout 은 꺼 두어(-1) 이 값보다 먼저 끊기지 않음
+// 서블릿(Tomcat) 위에서 실행되므로 대기자마다 비동기 요청 하나를 점유함 (Netty 이벤트 루프 아님)
+@Service
+@ConditionalOnProperty(name = "queue.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveQueueService {
+
+	// 이 서버에 리액티브로 연결된 유저별 이벤트 싱크
+	private final Map<String, Sinks.Many<ServerSentEvent<String>>> sinks = new ConcurrentHashMap<>();
+	// 샤드별로 이 서버에 연결된 대기 유저의 진입 순번
+	private final Map<String, Map<String, Long>> entrySequences = new ConcurrentHashMap<>();
+	private final ReactiveCacheStore reactiveCacheStore;
+	private final EntryPassService entryPassService;
+
+	private static final String BROADCAST_TARGET = "*";
+
+	@Value("${queue.sse.ttl}")
+	private long SSE_TTL;
+
+	@Value("${sse.heartbeat.interval}")
+	private long HEARTBEAT_INTERVAL;
+
+	@Value("${sse.dispatcher.outbox.capacity}")
+	private int outboxCapacity;
+
+	// 사용자를 샤드 대기열에 등록하고 이벤트 스트림을 반환
+	public Flux<ServerSentEvent<String>> enterQueue(String userId, QueueShard queueShard) {
+		String shard = queueShard.key();
+		Sinks.Many<ServerSentEvent<String>> sink = Sinks.many().unicast()
+			.onBackpressureBuffer(Queues.<ServerSentEvent<String>>get(outboxCapacity).get());
+		sinks.put(userId, sink);
+
+		Mono<ServerSentEvent<String>> firstEvent = reactiveCacheStore.registerUserNode(userId)
+			.then(reactiveCacheStore.findAvailableUser(shard, userId))
+			.map(expireAt -> event(userId, "entry", EntryEvent.of(
+				(long)(expireAt - System.currentTimeMillis()),
+				entryPassService.issue(userId, shard, expireAt.longValue())).toJson()))
+			.switchIfEmpty(Mono.defer(() -> joinQueue(userId, shard)));
+
+		Flux<ServerSentEvent<String>> heartbeats = Flux.interval(Duration.ofMillis(HEARTBEAT_INTERVAL))
+			.map(tick -> ServerSentEvent.<String>builder().comment("heartbeat").build());
+
+		return Flux.merge(firstEvent, sink.asFlux(), heartbeats)
+			.takeUntil(event -> "done".equals(event.event()))
+			.take(Duration.ofMillis(SSE_TTL))
+			.doFinally(signal -> disconnect(userId, shard, sink));
+	}
+
+	// Redis pub/sub 메시지 수신 (QueueService.onMessage 와 같은 형식)
+	public void onMessage(String message) {
+		try {
+			String[] parts = message.split(":", 3);
+			if (parts.length < 3)
+				return;
+
+			String userId = parts[0];
+			String eventName = parts[1];
+			String data = parts[2];
+
+			// 출입증 회수(revoke)는 QueueService 가 처리
+			if (BROADCAST_TARGET.equals(userId)) {
+				if ("advance".equals(eventName)) {
+					onQueueAdvanced(data);
+				}
+				return;
+			}
+
+			Sinks.Many<ServerSentEvent<String>> sink = sinks.get(userId);
+			if (sink == null) {
+				return;
+			}
+
+			if ("entry".equals(eventName)) {
+				entrySequences.values().forEach(sequences -> sequences.remove(userId));
+				data = EntryEvent.fromMessage(data).toJson();
+			}
+			emit(userId, sink, event(userId, eventName, data));
+
+		} catch (Exception e) {
+			log.error("Redis 메시지 처리 중 오류 발생: {}", e.getMessage());
+		}
+	}
+
+	private Mono<ServerSentEvent<String>> joinQueue(String userId, String shard) {
+		return reactiveCacheStore.addUserToQueue(shard, userId, SSE_TTL)
+			.then(reactiveCacheStore.getEntrySequence(shard, userId))
+			.doOnNext(entrySequence ->
+				entrySequences.computeIfAbsent(shard, key -> new ConcurrentHashMap<>()).put(userId, entrySequence))
+			.then(reactiveCacheStore.getRank(shard, userId))
+			.map(rank -> event(userId, "queue", String.valueOf(rank)));
+	}
+
+	// 대기열 전진 브로드캐스트 수신. 해당 샤드에서 이 서버에 연결된 대기 유저의 순위만 계산하여 전송
+	private void onQueueAdvanced(String data) {
+		String[] values = data.split(",", 3);
+		if (values.length < 3)
+			return;
+
+		long headOffset = Long.parseLong(values[1]);
+		Map<String, Long> sequences = entrySequences.get(values[2]);
+		if (sequences == null) {
+			return;
+		}
+		sequences.forEach((userId, entrySequence) -> {
+			long rank = entrySequence - headOffset;
+			Sinks.Many<ServerSentEvent<String>> sink = sinks.get(userId);
+
+			// 이미 입장한 유저는 entry 이벤트로 처리
+			if (sink == null || rank < 0) {
+				return;
+			}
+			emit(userId, sink, event(userId, "queue", String.valueOf(rank)));
+		});
+	}
+
+	// 앞선 대기자가 입장하지 않고 나간 만큼 순위를 당김 (QueueService.correctRanks 와 같은 보정)
+	@Scheduled(fixedDelayString = "${queue.rank.correction-interval}")
+	public void correctRanks() {
+		entrySequences.forEach((shard, sequences) -> {
+			if (sequences.isEmpty()) {
+				return;
+			}
+			reactiveCacheStore.getQueuePositions(shard, List.copyOf(sequences.keySet()))
+				.subscribe(
+					positions -> positions.entrySequences().forEach((userId, entrySequence) -> {
+						Long previous = sequences.get(userId);
+						if (previous == null || previous.equals(entrySequence)
+							|| !sequences.replace(userId, previous, entrySequence)) {
+							return;
+						}
+						Sinks.Many<ServerSentEvent<String>> sink = sinks.get(userId);
+						if (sink != null) {
+							emit(userId, sink,
+								event(userId, "queue", String.valueOf(positions.rank(entrySequence))));
+						}
+					}),
+					e -> log.warn("리액티브 대기열 순위 보정 실패 shard={}, message: {}", shard, e.getMessage())
+				);
+		});
+	}
+
+	// Redis 리스너 스레드가 여러 개일 수 있으므로 싱크별로 순서대로 전송 (동시 전송은 FAIL_NON_SERIALIZED)
+	private void emit(String userId, Sinks.Many<ServerSentEvent<String>> sink, ServerSentEvent<String> event) {
+		synchronized (sink) {
+			Sinks.EmitResult result = sink.tryEmitNext(event);
+			if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+				// 클라이언트가 버퍼만큼 밀림. 연결을 종료하여 재연결 시 최신 상태를 받도록 함 (SseDispatcher 와 같은 정책)
+				log.warn("리액티브 대기열 버퍼 초과로 연결 종료. userId: {}, event: {}", userId, event.event());
+				sink.tryEmitComplete();
+			} else if (result.isFailure()) {
+				// 이미 종료(취소)된 연결
+				log.debug("리액티브 대기열 이벤트 전송 실패. userId: {}, event: {}, result: {}", userId, event.event(),
+					result);
+			}
+		}
+	}
+
+	// 연결 종료 시 싱크, 대기열 순번, 연결 서버 기록 삭제
+	// 같은 유저가 이 서버에 다시 연결한 뒤 이전 스트림이 종료되는 경우에는 새 연결의 순번과 기록을 유지
+	private void disconnect(String userId, String shard, Sinks.Many<ServerSentEvent<String>> sink) {
+		if (!sinks.remove(userId, sink)) {
+			return;
+		}
+		Map<String, Long> sequences = entrySequences.get(shard);
+		if (sequences != null) {
+			sequences.remove(userId);
+		}
+
+		reactiveCacheStore.removeUserFromQueue(shard, userId)
+			.then(reactiveCacheStore.removeUserNode(userId))
+			.subscribe(
+				result -> {
+				},
+				e -> log.warn("리액티브 대기열 연결 정리 실패. userId: {}, message: {}", userId, e.getMessage())
+			);
+	}
+
+	private ServerSentEvent<String> event(String userId, String eventName, String data) {
+		return ServerSentEvent.<String>builder()
+			.event(eventName)
+			.data(data)
+			.id(userId)
+			.build();
+	}
+}
@@ -15,7 +15,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,7 +26,20 @@ import lombok.NoArgsConstructor;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "p_reservation")
+// 같은 음식점·날짜·시간대 예약은 하나만 존재 (락 없는 예약 경로의 최종 방어선)
+// 유니크 인덱스가 (store_id, reservation_date, reservation_time) 순 조회·음식점 예약 목록 키셋 조회도 담당
+@Table(
+	name = "p_reservation",
+	uniqueConstraints = {
+		@UniqueConstraint(
+			name = "uk_reservation_store_slot",
+			columnNames = {"store_id", "reservation_date", "reservation_time"}
+		),
+		// 예약 번호 단건 조회
+		@UniqueConstraint(name = "uk_reservation_number", columnNames = "reservation_number")
+	},
+	indexes = @Index(name = "idx_reservation_user_created", columnList = "user_id, created_at, reservation_id")
+)
 public class Reservation extends BaseEntity {
 
 	@Id
@@ -71,10 +86,8 @@ public class Reservation extends BaseEntity {
 	}
 
 	public static Reservation create(
-		UUID userId, UUID storeId, ReservationDateTime reservationDateTime, Integer headcount, Integer deposit) {
-
-		// 예약 번호 부여
-		String reservationNumber = "RSV-" + System.currentTimeMillis();
+		UUID userId, UUID storeId, String reservationNumber, ReservationDateTime reservationDateTime,
+		Integer headcount, Integer deposit) {
 
 		// 예약금 여부에 따라 상태 저장
 		ReservationStatus reservationStatus =
@@ -0,0 +1,10 @@
+package com.tablekok.hotreservationservice.domain.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public interface AvailabilityGridStore {
+	// 예약 생성을 예약 현황 그리드에 반영
+	void markReserved(UUID storeId, LocalDate date, LocalTime time);
+}
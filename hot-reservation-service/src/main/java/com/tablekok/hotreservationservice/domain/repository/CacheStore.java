@@ -1,36 +1,65 @@
 package com.tablekok.hotreservationservice.domain.repository;
 
-import java.util.Set;
+import java.util.List;
+import java.util.Map;
 
+import com.tablekok.hotreservationservice.domain.vo.AdmissionResult;
+import com.tablekok.hotreservationservice.domain.vo.QueuePositions;
+
+// 대기열·입장 유저 키는 샤드(음식점 또는 음식점·일자)별로 분리
 public interface CacheStore {
 
-	// 대기열에 추가
-	void addUserToQueue(String userId, long entryTtl);
+	// 대기열에 추가하고 샤드를 처리 대상 목록에 등록
+	void addUserToQueue(String shard, String userId, long entryTtl);
 
 	// 대기 순번 반환
-	Long getRank(String userId);
+	Long getRank(String shard, String userId);
+
+	// 대기열 진입 순번 반환 (누적 입장 수 + 현재 순위). 현재 순위 = 진입 순번 - 최신 head offset
+	Long getEntrySequence(String shard, String userId);
+
+	// 이 서버에 연결된 대기 유저들의 진입 순번 일괄 조회 (앞선 대기자 이탈을 반영한 순위 보정용)
+	QueuePositions getQueuePositions(String shard, List<String> userIds);
 
-	// 현재 대기 중인 모든 사용자 조회
-	Set<String> getAllUsers();
+	// 처리 대상 샤드 목록
+	List<String> findActiveShards();
 
-	// 유저를 예약 가능 공간에 추가
-	void addAvailableUser(String userId, long entryTtl);
+	// 샤드 처리권을 얻으면 만료 유저 삭제 후 빈 자리만큼 대기열 앞에서 입장 처리 (1회 왕복)
+	AdmissionResult admitUsers(String shard, long now, int availableUserLimit, long entryTtl, long leaseTtl);
+
+	// 비어 있는 샤드를 처리 대상 목록에서 제거 (idleBefore 이후 진입이 있으면 유지)
+	void removeIdleShard(String shard, long idleBefore);
 
 	// 대기열에서 사용자 삭제
-	void removeUserFromQueue(String userId);
+	void removeUserFromQueue(String shard, String userId);
 
 	// 입장 유저 조회
-	Double findAvailableUser(String userId);
+	Double findAvailableUser(String shard, String userId);
 
 	// 유저를 예약 가능 공간에서 삭제
-	void removeAvailableUser(String userId);
+	void removeAvailableUser(String shard, String userId);
+
+	// 예약 완료로 회수된 출입증 기록 (만료 시각까지 유지)
+	void addRevokedEntryPass(String passId, long expireAt);
+
+	// 아직 만료되지 않은 회수 출입증 목록. Key: 출입증 ID, Value: 만료 시각
+	Map<String, Long> findRevokedEntryPasses(long now);
+
+	// 만료된 회수 출입증 기록 삭제
+	void removeExpiredRevokedEntryPasses(long now);
+
+	// 유저가 연결된 서버(노드) 기록
+	void registerUserNode(String userId);
+
+	// 유저가 연결된 서버 기록 삭제 (현재 서버가 소유한 경우에만)
+	void removeUserNode(String userId);
 
-	// 만료된 유저 삭제
-	void removeExpiredAvailableUsers(long now);
+	// 유저가 연결된 서버의 채널로만 이벤트 발행
+	void convertAndSend(String userId, String message);
 
-	// 현재 예약중인 유저 숫자
-	int getAvailableUserCount();
+	// 여러 유저에게 이벤트 발행. Key: 유저 ID, Value: 메시지
+	void convertAndSend(Map<String, String> messages);
 
-	// pub/sub 이벤트 발행
-	void convertAndSend(String message);
+	// 모든 서버에 이벤트 발행
+	void broadcast(String message);
 }
@@ -0,0 +1,35 @@
+package com.tablekok.hotreservationservice.domain.repository;
+
+import java.util.List;
+
+import com.tablekok.hotreservationservice.domain.vo.QueuePositions;
+
+import reactor.core.publisher.Mono;
+
+// 리액티브 대기열 엔드포인트용 CacheStore (Lettuce 리액티브 커맨드)
+public interface ReactiveCacheStore {
+
+	// 대기열에 추가하고 샤드를 처리 대상 목록에 등록
+	Mono<Boolean> addUserToQueue(String shard, String userId, long sseTtl);
+
+	// 대기 순번 반환
+	Mono<Long> getRank(String shard, String userId);
+
+	// 대기열 진입 순번 반환 (누적 입장 수 + 현재 순위)
+	Mono<Long> getEntrySequence(String shard, String userId);
+
+	// 이 서버에 연결된 대기 유저들의 진입 순번 일괄 조회 (앞선 대기자 이탈을 반영한 순위 보정용)
+	Mono<QueuePositions> getQueuePositions(String shard, List<String> userIds);
+
+	// 대기열에서 사용자 삭제
+	Mono<Long> removeUserFromQueue(String shard, String userId);
+
+	// 입장 유저 조회
+	Mono<Double> findAvailableUser(String shard, String userId);
+
+	// 유저가 연결된 서버(노드) 기록
+	Mono<Boolean> registerUserNode(String userId);
+
+	// 유저가 연결된 서버 기록 삭제 (현재 서버가 소유한 경우에만)
+	Mono<Long> removeUserNode(String userId);
+}
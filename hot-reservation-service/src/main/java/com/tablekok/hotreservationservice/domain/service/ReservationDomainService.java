@@ -3,7 +3,7 @@ package com.tablekok.hotreservationservice.domain.service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
@@ -94,8 +94,8 @@ public class ReservationDomainService {
 	}
 
 	// 인기 음식점의 예약일 떄만 요청 허용
-	public void validateHotStore(List<UUID> hotStoreList, UUID storeId) {
-		if (!hotStoreList.contains(storeId)) {
+	public void validateHotStore(Set<UUID> hotStores, UUID storeId) {
+		if (!hotStores.contains(storeId)) {
 			throw new AppException(ReservationDomainErrorCode.HOT_STORE_RESERVATION_NOT_ALLOWED);
 		}
 	}
@@ -0,0 +1,6 @@
+package com.tablekok.hotreservationservice.domain.service;
+
+public interface ReservationNumberGenerator {
+	// 노드 간 충돌 없고 발급 순서대로 정렬되는 예약 번호
+	String next();
+}
@@ -0,0 +1,34 @@
+package com.tablekok.hotreservationservice.domain.vo;
+
+import java.util.Collections;
+import java.util.List;
+
+// 샤드 입장 처리 결과
+// acquired : 이번 주기 샤드 처리권 획득 여부 (다른 노드가 처리 중이면 false)
+// headOffset : 지금까지 대기열에서 빠져나간 누적 인원
+// waitingCount, activeCount : 처리 후 대기 인원, 예약 화면에 입장해 있는 인원
+public record AdmissionResult(
+	boolean acquired,
+	List<String> admittedUserIds,
+	long headOffset,
+	long waitingCount,
+	long activeCount
+) {
+	public static AdmissionResult of(List<String> admittedUserIds, long headOffset, long waitingCount,
+		long activeCount) {
+		return new AdmissionResult(true, admittedUserIds, headOffset, waitingCount, activeCount);
+	}
+
+	public static AdmissionResult skipped() {
+		return new AdmissionResult(false, Collections.emptyList(), 0L, 0L, 0L);
+	}
+
+	public boolean isEmpty() {
+		return admittedUserIds.isEmpty();
+	}
+
+	// 대기자도 입장자도 없는 샤드 -> 처리 대상 목록에서 제외 가능
+	public boolean isIdle() {
+		return acquired && waitingCount == 0 && activeCount == 0;
+	}
+}
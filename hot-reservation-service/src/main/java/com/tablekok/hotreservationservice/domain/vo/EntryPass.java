@@ -0,0 +1,17 @@
+package com.tablekok.hotreservationservice.domain.vo;
+
+// 대기열을 통과한 유저에게 발급하는 예약 출입증 (해당 샤드에서 expireAt 까지 유효)
+public record EntryPass(
+	String passId,
+	String userId,
+	String shard,
+	long expireAt
+) {
+	public static EntryPass of(String passId, String userId, String shard, long expireAt) {
+		return new EntryPass(passId, userId, shard, expireAt);
+	}
+
+	public boolean isExpired(long now) {
+		return expireAt <= now;
+	}
+}
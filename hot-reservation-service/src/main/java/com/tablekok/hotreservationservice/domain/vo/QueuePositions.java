@@ -0,0 +1,15 @@
+package com.tablekok.hotreservationservice.domain.vo;
+
+import java.util.Map;
+
+// 순위 보정용으로 같은 시점에 읽은 샤드 대기열 위치
+// headOffset : 지금까지 대기열에서 빠져나간 누적 인원
+// entrySequences : 유저별 진입 순번 (head offset + 현재 순위). 대기열에 없는 유저는 제외
+public record QueuePositions(
+	long headOffset,
+	Map<String, Long> entrySequences
+) {
+	public long rank(long entrySequence) {
+		return entrySequence - headOffset;
+	}
+}
@@ -0,0 +1,29 @@
+package com.tablekok.hotreservationservice.domain.vo;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// 대기열 샤드. 음식점 단위, 설정에 따라 음식점·예약 일자 단위로 나눔
+// 키 형식 : "{storeId}" 또는 "{storeId}:{yyyy-MM-dd}"
+public record QueueShard(
+	UUID storeId,
+	LocalDate date
+) {
+	private static final String DELIMITER = ":";
+
+	public static QueueShard of(UUID storeId, LocalDate date) {
+		return new QueueShard(storeId, date);
+	}
+
+	public static QueueShard parse(String key) {
+		int index = key.indexOf(DELIMITER);
+		if (index < 0) {
+			return new QueueShard(UUID.fromString(key), null);
+		}
+		return new QueueShard(UUID.fromString(key.substring(0, index)), LocalDate.parse(key.substring(index + 1)));
+	}
+
+	public String key() {
+		return date == null ? storeId.toString() : storeId + DELIMITER + date;
+	}
+}
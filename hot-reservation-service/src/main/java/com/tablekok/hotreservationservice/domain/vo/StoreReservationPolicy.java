@@ -1,5 +1,6 @@
 package com.tablekok.hotreservationservice.domain.vo;
 
+import java.time.Duration;
 import java.time.LocalTime;
 
 import lombok.AccessLevel;
@@ -14,9 +15,13 @@ public class StoreReservationPolicy {
 	private int minHeadcount;        // 예약 최소 인원
 	private int monthlyOpenDay;     // 다음 달 예약이 풀리는 일
 	private LocalTime openTime;        // 다음 달 예약이 풀리는 시간
+	private int reservationInterval;    // 예약 간격 (분)
+	private LocalTime dailyReservationStartTime;    // 하루 예약 시작 시간
+	private LocalTime dailyReservationEndTime;      // 하루 예약 마감 시간
 
 	public static StoreReservationPolicy of(
-		boolean isActive, int maxHeadcount, int minHeadcount, int monthlyOpenDay, LocalTime openTime) {
+		boolean isActive, int maxHeadcount, int minHeadcount, int monthlyOpenDay, LocalTime openTime,
+		int reservationInterval, LocalTime dailyReservationStartTime, LocalTime dailyReservationEndTime) {
 
 		return StoreReservationPolicy.builder()
 			.isActive(isActive)
@@ -24,6 +29,23 @@ public class StoreReservationPolicy {
 			.minHeadcount(minHeadcount)
 			.monthlyOpenDay(monthlyOpenDay)
 			.openTime(openTime)
+			.reservationInterval(reservationInterval)
+			.dailyReservationStartTime(dailyReservationStartTime)
+			.dailyReservationEndTime(dailyReservationEndTime)
 			.build();
 	}
+
+	// 동시에 예약 화면에 들어올 수 있는 인원. 하루 예약 가능한 시간대 수보다 많이 들여보내도 예약할 자리가 없음
+	public int admissionLimit(int maxLimit) {
+		if (!isActive) {
+			return 0;
+		}
+		if (reservationInterval <= 0 || dailyReservationStartTime == null || dailyReservationEndTime == null
+			|| dailyReservationEndTime.isBefore(dailyReservationStartTime)) {
+			return maxLimit;
+		}
+		long minutes = Duration.between(dailyReservationStartTime, dailyReservationEndTime).toMinutes();
+		long slots = minutes / reservationInterval + 1;
+		return (int)Math.min(maxLimit, slots);
+	}
 }
@@ -9,8 +9,12 @@ import java.util.concurrent.TimeUnit;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface DistributedLock {
+	// SpEL. 문자열 하나 또는 여러 슬롯을 함께 잠글 때는 문자열 컬렉션
 	String key();
 
+	// 락 대기/점유 시간 메트릭 태그. 비어 있으면 메서드 이름 사용
+	String name() default "";
+
 	long waitTime() default 10L;
 
 	long leaseTime() default 2L;
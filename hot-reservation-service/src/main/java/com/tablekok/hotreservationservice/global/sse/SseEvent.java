@@ -0,0 +1,41 @@
+package com.tablekok.hotreservationservice.global.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// SseDispatcher 로 전송할 이벤트
+public record SseEvent(
+	String name,
+	Object data,
+	String id,
+	boolean coalescible    // 클라이언트가 밀렸을 때 같은 이름의 이전 이벤트를 최신 값으로 대체해도 되는지 (순번 갱신 등)
+) {
+	private static final String HEARTBEAT = "heartbeat";
+
+	public static SseEvent of(String name, Object data, String id) {
+		return new SseEvent(name, data, id, false);
+	}
+
+	public static SseEvent latest(String name, Object data, String id) {
+		return new SseEvent(name, data, id, true);
+	}
+
+	// 연결 확인용 comment 프레임. 밀린 경우 하나만 유지
+	public static SseEvent heartbeat() {
+		return new SseEvent(HEARTBEAT, null, null, true);
+	}
+
+	SseEmitter.SseEventBuilder toBuilder() {
+		if (HEARTBEAT.equals(name)) {
+			return SseEmitter.event().comment(HEARTBEAT);
+		}
+
+		SseEmitter.SseEventBuilder builder = SseEmitter.event()
+			.name(name)
+			.data(data);
+
+		if (id != null) {
+			builder.id(id);
+		}
+		return builder;
+	}
+}
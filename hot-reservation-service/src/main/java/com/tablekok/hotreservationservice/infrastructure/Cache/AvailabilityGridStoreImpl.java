@@ -0,0 +1,46 @@
+package com.tablekok.hotreservationservice.infrastructure.Cache;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.tablekok.hotreservationservice.domain.repository.AvailabilityGridStore;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class AvailabilityGridStoreImpl implements AvailabilityGridStore {
+
+	// 예약 시간 기록 + 최초 만료 설정
+	private static final RedisScript<Long> MARK_RESERVED_TIME_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/mark_reserved_time.lua"), Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Value("${redis.grid.key}")
+	private String GRID_KEY;
+	@Value("${redis.grid.ttl}")
+	private long GRID_TTL;
+
+	@Override
+	public void markReserved(UUID storeId, LocalDate date, LocalTime time) {
+		long endOfDate = date.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		long expireAt = Math.min(endOfDate, System.currentTimeMillis() + GRID_TTL);
+
+		redisTemplate.execute(
+			MARK_RESERVED_TIME_SCRIPT,
+			List.of(GRID_KEY + ":" + storeId + ":" + date),
+			String.valueOf(time.getHour() * 60 + time.getMinute()),
+			String.valueOf(expireAt)
+		);
+	}
+}
@@ -1,12 +1,24 @@
 package com.tablekok.hotreservationservice.infrastructure.Cache;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import com.tablekok.hotreservationservice.domain.repository.CacheStore;
+import com.tablekok.hotreservationservice.domain.vo.AdmissionResult;
+import com.tablekok.hotreservationservice.domain.vo.QueuePositions;
 
 import lombok.RequiredArgsConstructor;
 
@@ -14,65 +26,239 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CacheStoreImpl implements CacheStore {
 
+	// 만료 유저 삭제 + 빈 자리 계산 + 대기열 pop + 입장 유저 등록을 한 번에 처리
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> ADMIT_USERS_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/admit_users.lua"), List.class);
+
+	// 순위와 head offset을 같은 시점에 읽어 진입 순번 계산
+	private static final RedisScript<Long> ENTRY_SEQUENCE_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/entry_sequence.lua"), Long.class);
+
+	// 이 서버에 연결된 대기 유저들의 진입 순번을 한 번에 계산 (순위 보정)
+	@SuppressWarnings("rawtypes")
+	static final RedisScript<List> ENTRY_SEQUENCES_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/entry_sequences.lua"), List.class);
+
+	// 확인 이후 새로 들어온 유저가 있는 샤드는 유지
+	private static final RedisScript<Long> REMOVE_IDLE_SHARD_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/remove_idle_shard.lua"), Long.class);
+
+	// 다른 서버로 재연결된 유저의 기록은 지우지 않도록 비교 후 삭제
+	private static final RedisScript<Long> REMOVE_USER_NODE_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/remove_user_node.lua"), Long.class);
+
 	private final RedisTemplate<String, String> redisTemplate;
+	private final QueueNode queueNode;
 
 	@Value("${redis.queue.key}")
 	private String QUEUE_KEY;
+	@Value("${redis.queue.head.key}")
+	private String QUEUE_HEAD_KEY;
+	@Value("${redis.queue.shards.key}")
+	private String QUEUE_SHARDS_KEY;
+	@Value("${redis.queue.lease.key}")
+	private String QUEUE_LEASE_KEY;
 	@Value("${redis.available.users.key}")
 	private String AVAILABLE_USERS_KEY;
+	@Value("${redis.entry.revoked.key}")
+	private String REVOKED_ENTRY_PASSES_KEY;
 	@Value("${redis.pubsub.channel}")
 	private String PUB_SUB_CHANNEL;
+	@Value("${redis.user.node.key}")
+	private String USER_NODE_KEY;
+
+	@Override
+	public void addUserToQueue(String shard, String userId, long sseTtl) {
+		long now = System.currentTimeMillis();
+		byte[] queueKey = toBytes(shardKey(QUEUE_KEY, shard));
+		byte[] shardsKey = toBytes(QUEUE_SHARDS_KEY);
+
+		// 대기열 등록과 샤드 활성 표시를 한 번에 전송
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			connection.zSetCommands().zAdd(queueKey, (double)(now + sseTtl), toBytes(userId));
+			connection.zSetCommands().zAdd(shardsKey, (double)now, toBytes(shard));
+			return null;
+		});
+	}
+
+	@Override
+	public Long getRank(String shard, String userId) {
+		return redisTemplate.opsForZSet().rank(shardKey(QUEUE_KEY, shard), userId);
+	}
+
+	@Override
+	public Long getEntrySequence(String shard, String userId) {
+		return redisTemplate.execute(ENTRY_SEQUENCE_SCRIPT,
+			List.of(shardKey(QUEUE_KEY, shard), shardKey(QUEUE_HEAD_KEY, shard)), userId);
+	}
 
 	@Override
-	public void addUserToQueue(String userId, long sseTtl) {
-		long expireAt = System.currentTimeMillis() + sseTtl;
-		redisTemplate.opsForZSet().add(QUEUE_KEY, userId, (double)expireAt);
+	@SuppressWarnings("unchecked")
+	public QueuePositions getQueuePositions(String shard, List<String> userIds) {
+		List<String> result = redisTemplate.execute(ENTRY_SEQUENCES_SCRIPT,
+			List.of(shardKey(QUEUE_KEY, shard), shardKey(QUEUE_HEAD_KEY, shard)), userIds.toArray());
+		return toQueuePositions(userIds, result);
+	}
+
+	// entry_sequences.lua 결과 { head offset, 진입 순번... } 변환. 대기열에 없는 유저(-1)는 제외
+	static QueuePositions toQueuePositions(List<String> userIds, List<String> result) {
+		if (result == null || result.isEmpty()) {
+			return new QueuePositions(0L, Collections.emptyMap());
+		}
+		Map<String, Long> entrySequences = new HashMap<>();
+		for (int i = 0; i < userIds.size() && i + 1 < result.size(); i++) {
+			long entrySequence = Long.parseLong(result.get(i + 1));
+			if (entrySequence >= 0) {
+				entrySequences.put(userIds.get(i), entrySequence);
+			}
+		}
+		return new QueuePositions(Long.parseLong(result.get(0)), entrySequences);
 	}
 
 	@Override
-	public Long getRank(String userId) {
-		return redisTemplate.opsForZSet().rank(QUEUE_KEY, userId);
+	public List<String> findActiveShards() {
+		Set<String> shards = redisTemplate.opsForZSet().range(QUEUE_SHARDS_KEY, 0, -1);
+		return shards == null ? Collections.emptyList() : List.copyOf(shards);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public AdmissionResult admitUsers(String shard, long now, int availableUserLimit, long entryTtl, long leaseTtl) {
+		List<String> result = redisTemplate.execute(
+			ADMIT_USERS_SCRIPT,
+			List.of(
+				shardKey(QUEUE_KEY, shard),
+				shardKey(AVAILABLE_USERS_KEY, shard),
+				shardKey(QUEUE_HEAD_KEY, shard),
+				shardKey(QUEUE_LEASE_KEY, shard)
+			),
+			String.valueOf(now),
+			String.valueOf(availableUserLimit),
+			String.valueOf(now + entryTtl),
+			queueNode.getNodeId(),
+			String.valueOf(leaseTtl)
+		);
+
+		// 다른 노드가 이번 주기에 처리 중인 샤드
+		if (result == null || result.isEmpty()) {
+			return AdmissionResult.skipped();
+		}
+
+		// head offset, 대기 인원, 입장 인원 다음부터 입장한 유저 ID
+		return AdmissionResult.of(
+			List.copyOf(result.subList(3, result.size())),
+			Long.parseLong(result.get(0)),
+			Long.parseLong(result.get(1)),
+			Long.parseLong(result.get(2))
+		);
 	}
 
 	@Override
-	public Set<String> getAllUsers() {
-		// start: 0, end: -1 -> 전체 멤버 조회
-		return redisTemplate.opsForZSet().range(QUEUE_KEY, 0, -1);
+	public void removeIdleShard(String shard, long idleBefore) {
+		redisTemplate.execute(REMOVE_IDLE_SHARD_SCRIPT, List.of(QUEUE_SHARDS_KEY), shard, String.valueOf(idleBefore));
 	}
 
 	@Override
-	public void addAvailableUser(String userId, long entryTtl) {
-		long expireAt = System.currentTimeMillis() + entryTtl;
-		redisTemplate.opsForZSet().add(AVAILABLE_USERS_KEY, userId, (double)expireAt);
+	public void removeUserFromQueue(String shard, String userId) {
+		redisTemplate.opsForZSet().remove(shardKey(QUEUE_KEY, shard), userId);
 	}
 
 	@Override
-	public void removeUserFromQueue(String userId) {
-		redisTemplate.opsForZSet().remove(QUEUE_KEY, userId);
+	public Double findAvailableUser(String shard, String userId) {
+		return redisTemplate.opsForZSet().score(shardKey(AVAILABLE_USERS_KEY, shard), userId);
 	}
 
 	@Override
-	public Double findAvailableUser(String userId) {
-		return redisTemplate.opsForZSet().score(AVAILABLE_USERS_KEY, userId);
+	public void removeAvailableUser(String shard, String userId) {
+		redisTemplate.opsForZSet().remove(shardKey(AVAILABLE_USERS_KEY, shard), userId);
 	}
 
 	@Override
-	public void removeAvailableUser(String userId) {
-		redisTemplate.opsForZSet().remove(AVAILABLE_USERS_KEY, userId);
+	public void addRevokedEntryPass(String passId, long expireAt) {
+		redisTemplate.opsForZSet().add(REVOKED_ENTRY_PASSES_KEY, passId, expireAt);
 	}
 
 	@Override
-	public void removeExpiredAvailableUsers(long now) {
-		redisTemplate.opsForZSet().removeRangeByScore(AVAILABLE_USERS_KEY, 0, (double)now);
+	public Map<String, Long> findRevokedEntryPasses(long now) {
+		Set<ZSetOperations.TypedTuple<String>> passes = redisTemplate.opsForZSet()
+			.rangeByScoreWithScores(REVOKED_ENTRY_PASSES_KEY, now, Double.POSITIVE_INFINITY);
+		if (passes == null) {
+			return Collections.emptyMap();
+		}
+		Map<String, Long> revokedPasses = new HashMap<>();
+		for (ZSetOperations.TypedTuple<String> pass : passes) {
+			revokedPasses.put(pass.getValue(), pass.getScore().longValue());
+		}
+		return revokedPasses;
 	}
 
 	@Override
-	public int getAvailableUserCount() {
-		return redisTemplate.opsForZSet().zCard(AVAILABLE_USERS_KEY).intValue();
+	public void removeExpiredRevokedEntryPasses(long now) {
+		redisTemplate.opsForZSet().removeRangeByScore(REVOKED_ENTRY_PASSES_KEY, 0, now);
 	}
 
 	@Override
-	public void convertAndSend(String message) {
+	public void registerUserNode(String userId) {
+		redisTemplate.opsForHash().put(USER_NODE_KEY, userId, queueNode.getNodeId());
+	}
+
+	@Override
+	public void removeUserNode(String userId) {
+		redisTemplate.execute(REMOVE_USER_NODE_SCRIPT, List.of(USER_NODE_KEY), userId, queueNode.getNodeId());
+	}
+
+	@Override
+	public void convertAndSend(String userId, String message) {
+		Object nodeId = redisTemplate.opsForHash().get(USER_NODE_KEY, userId);
+
+		// 어느 서버에도 연결되어 있지 않은 유저
+		if (nodeId == null) {
+			return;
+		}
+		redisTemplate.convertAndSend(getNodeChannel(nodeId.toString()), message);
+	}
+
+	@Override
+	public void convertAndSend(Map<String, String> messages) {
+		if (messages.isEmpty()) {
+			return;
+		}
+
+		// 연결 서버를 HMGET 한 번으로 조회 후 파이프라인으로 발행
+		List<Object> userIds = new ArrayList<>(messages.keySet());
+		List<Object> nodeIds = redisTemplate.opsForHash().multiGet(USER_NODE_KEY, userIds);
+
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (int i = 0; i < userIds.size(); i++) {
+				Object nodeId = nodeIds.get(i);
+				if (nodeId == null) {
+					continue;
+				}
+				connection.publish(
+					getNodeChannel(nodeId.toString()).getBytes(StandardCharsets.UTF_8),
+					messages.get(userIds.get(i).toString()).getBytes(StandardCharsets.UTF_8)
+				);
+			}
+			return null;
+		});
+	}
+
+	@Override
+	public void broadcast(String message) {
 		redisTemplate.convertAndSend(PUB_SUB_CHANNEL, message);
 	}
+
+	private String getNodeChannel(String nodeId) {
+		return PUB_SUB_CHANNEL + ":" + nodeId;
+	}
+
+	// 같은 샤드의 키는 해시 태그로 묶어 클러스터에서도 한 슬롯에 위치 (Lua 스크립트 다중 키 사용)
+	private String shardKey(String prefix, String shard) {
+		return prefix + ":{" + shard + "}";
+	}
+
+	private byte[] toBytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
 }
@@ -0,0 +1,163 @@
+package com.tablekok.hotreservationservice.infrastructure.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+// SSE 연결을 보유한 현재 서버(노드). 노드 ID로 Redis에 등록하고 노드 전용 채널을 구독
+// 종료 처리 없이 죽은 노드의 유저 연결 기록은 heartbeat 로 확인하여 정리
+@Component
+@Slf4j
+public class QueueNode {
+
+	// 여전히 죽은 노드에 연결된 것으로 기록된 유저만 삭제 (그 사이 다른 노드로 재연결한 유저는 유지)
+	private static final RedisScript<Long> REMOVE_USER_NODES_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/remove_user_nodes.lua"), Long.class);
+
+	// 정리 담당 노드 임대. 예약 번호 워커 ID 임대와 같은 스크립트 (내 임대면 연장, 비어 있으면 획득)
+	private static final RedisScript<Long> RENEW_SWEEP_LEADER_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/renew_worker_lease.lua"), Long.class);
+
+	private static final int SWEEP_BATCH_SIZE = 500;
+	// 담당 노드가 죽으면 이 주기 수만큼 지난 뒤 다른 노드가 이어받음
+	private static final int SWEEP_LEADER_LEASE_INTERVALS = 3;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final String nodeKeyPrefix;
+	private final String userNodeKey;
+	private final String sweepLeaderKey;
+	private final long heartbeatTtl;
+	private final long sweepLeaderLeaseTtl;
+
+	// 직전 정리 주기에 heartbeat 가 없던 노드. 두 주기 연속 없을 때만 죽은 것으로 판단
+	private Set<String> suspectedNodes = Set.of();
+
+	@Getter
+	private final String nodeId;
+	@Getter
+	private final String channel;
+
+	public QueueNode(
+		RedisTemplate<String, String> redisTemplate,
+		@Value("${queue.node.id:}") String nodeId,
+		@Value("${redis.node.key}") String nodeKeyPrefix,
+		@Value("${redis.user.node.key}") String userNodeKey,
+		@Value("${redis.node.sweep-leader.key}") String sweepLeaderKey,
+		@Value("${redis.pubsub.channel}") String pubSubChannel,
+		@Value("${queue.node.heartbeat.ttl}") long heartbeatTtl,
+		@Value("${queue.node.sweep.interval}") long sweepInterval
+	) {
+		this.redisTemplate = redisTemplate;
+		this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+		this.nodeKeyPrefix = nodeKeyPrefix;
+		this.userNodeKey = userNodeKey;
+		this.sweepLeaderKey = sweepLeaderKey;
+		this.sweepLeaderLeaseTtl = sweepInterval * SWEEP_LEADER_LEASE_INTERVALS;
+		this.channel = pubSubChannel + ":" + this.nodeId;
+		this.heartbeatTtl = heartbeatTtl;
+		log.info("대기열 노드 ID : {}, 구독 채널 : {}", this.nodeId, this.channel);
+	}
+
+	// 노드 생존 신호. TTL 이 지나면 노드 등록이 사라짐
+	@Scheduled(fixedRateString = "${queue.node.heartbeat.interval}")
+	public void heartbeat() {
+		redisTemplate.opsForValue().set(getNodeKey(), channel, Duration.ofMillis(heartbeatTtl));
+	}
+
+	// 유저 연결 기록 중 heartbeat 가 끊긴 노드의 기록 삭제
+	// 기록 전체를 훑으므로 임대를 가진 한 노드만 실행 (모든 노드가 같은 HSCAN 을 반복하지 않도록)
+	// 일시적인 Redis 지연으로 살아 있는 노드의 기록을 지우지 않도록 두 주기 연속 확인된 노드만 정리
+	// fixedDelay 라 실행이 겹치지 않으므로 동기화하지 않음 (가상 스레드 스케줄러에서 캐리어 스레드 고정 방지)
+	@Scheduled(fixedDelayString = "${queue.node.sweep.interval}")
+	public void sweepDeadNodes() {
+		try {
+			if (!renewSweepLeader()) {
+				// 담당이 바뀌었다가 돌아오면 이전 의심 목록은 오래된 정보이므로 버림
+				suspectedNodes = Set.of();
+				return;
+			}
+			Map<String, List<String>> deadNodeUsers = findDeadNodeUsers();
+			Set<String> confirmed = new HashSet<>(deadNodeUsers.keySet());
+			confirmed.retainAll(suspectedNodes);
+			suspectedNodes = Set.copyOf(deadNodeUsers.keySet());
+
+			for (String deadNodeId : confirmed) {
+				long removed = removeUserNodes(deadNodeId, deadNodeUsers.get(deadNodeId));
+				log.info("죽은 대기열 노드 {} 의 유저 연결 기록 {}건 삭제", deadNodeId, removed);
+			}
+		} catch (Exception e) {
+			log.warn("죽은 대기열 노드 정리 실패", e);
+		}
+	}
+
+	@PreDestroy
+	public void unregister() {
+		redisTemplate.delete(getNodeKey());
+	}
+
+	private boolean renewSweepLeader() {
+		Long renewed = redisTemplate.execute(RENEW_SWEEP_LEADER_SCRIPT, List.of(sweepLeaderKey), nodeId,
+			String.valueOf(sweepLeaderLeaseTtl));
+		return renewed != null && renewed == 1;
+	}
+
+	// 유저 연결 기록을 나눠 읽으며 노드별 heartbeat 는 한 번씩만 확인
+	private Map<String, List<String>> findDeadNodeUsers() {
+		Map<String, Boolean> alive = new HashMap<>();
+		alive.put(nodeId, true);
+		Map<String, List<String>> deadNodeUsers = new HashMap<>();
+
+		ScanOptions options = ScanOptions.scanOptions().count(SWEEP_BATCH_SIZE).build();
+		try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(userNodeKey, options)) {
+			while (cursor.hasNext()) {
+				Map.Entry<Object, Object> entry = cursor.next();
+				String userNodeId = entry.getValue().toString();
+				boolean nodeAlive = alive.computeIfAbsent(userNodeId,
+					id -> Boolean.TRUE.equals(redisTemplate.hasKey(getNodeKey(id))));
+				if (!nodeAlive) {
+					deadNodeUsers.computeIfAbsent(userNodeId, id -> new ArrayList<>()).add(entry.getKey().toString());
+				}
+			}
+		}
+		return deadNodeUsers;
+	}
+
+	private long removeUserNodes(String deadNodeId, List<String> userIds) {
+		long removed = 0;
+		for (int from = 0; from < userIds.size(); from += SWEEP_BATCH_SIZE) {
+			List<String> batch = userIds.subList(from, Math.min(from + SWEEP_BATCH_SIZE, userIds.size()));
+			List<String> args = new ArrayList<>(batch.size() + 1);
+			args.add(deadNodeId);
+			args.addAll(batch);
+			Long count = redisTemplate.execute(REMOVE_USER_NODES_SCRIPT, List.of(userNodeKey), args.toArray());
+			removed += count == null ? 0 : count;
+		}
+		return removed;
+	}
+
+	private String getNodeKey() {
+		return getNodeKey(nodeId);
+	}
+
+	private String getNodeKey(String id) {
+		return nodeKeyPrefix + ":" + id;
+	}
+}
@@ -0,0 +1,97 @@
+package com.tablekok.hotreservationservice.infrastructure.Cache;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.tablekok.hotreservationservice.domain.repository.ReactiveCacheStore;
+import com.tablekok.hotreservationservice.domain.vo.QueuePositions;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(name = "queue.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveCacheStoreImpl implements ReactiveCacheStore {
+
+	private static final RedisScript<Long> ENTRY_SEQUENCE_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/entry_sequence.lua"), Long.class);
+
+	private static final RedisScript<Long> REMOVE_USER_NODE_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/remove_user_node.lua"), Long.class);
+
+	private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+	private final QueueNode queueNode;
+
+	@Value("${redis.queue.key}")
+	private String QUEUE_KEY;
+	@Value("${redis.queue.head.key}")
+	private String QUEUE_HEAD_KEY;
+	@Value("${redis.queue.shards.key}")
+	private String QUEUE_SHARDS_KEY;
+	@Value("${redis.available.users.key}")
+	private String AVAILABLE_USERS_KEY;
+	@Value("${redis.user.node.key}")
+	private String USER_NODE_KEY;
+
+	@Override
+	public Mono<Boolean> addUserToQueue(String shard, String userId, long sseTtl) {
+		long now = System.currentTimeMillis();
+		return reactiveRedisTemplate.opsForZSet().add(shardKey(QUEUE_KEY, shard), userId, (double)(now + sseTtl))
+			.then(reactiveRedisTemplate.opsForZSet().add(QUEUE_SHARDS_KEY, shard, (double)now));
+	}
+
+	@Override
+	public Mono<Long> getRank(String shard, String userId) {
+		return reactiveRedisTemplate.opsForZSet().rank(shardKey(QUEUE_KEY, shard), userId);
+	}
+
+	@Override
+	public Mono<Long> getEntrySequence(String shard, String userId) {
+		return reactiveRedisTemplate.execute(ENTRY_SEQUENCE_SCRIPT,
+				List.of(shardKey(QUEUE_KEY, shard), shardKey(QUEUE_HEAD_KEY, shard)), List.of(userId))
+			.next();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Mono<QueuePositions> getQueuePositions(String shard, List<String> userIds) {
+		return reactiveRedisTemplate.execute(CacheStoreImpl.ENTRY_SEQUENCES_SCRIPT,
+				List.of(shardKey(QUEUE_KEY, shard), shardKey(QUEUE_HEAD_KEY, shard)), userIds)
+			.next()
+			.map(result -> CacheStoreImpl.toQueuePositions(userIds, (List<String>)result));
+	}
+
+	@Override
+	public Mono<Long> removeUserFromQueue(String shard, String userId) {
+		return reactiveRedisTemplate.opsForZSet().remove(shardKey(QUEUE_KEY, shard), userId);
+	}
+
+	@Override
+	public Mono<Double> findAvailableUser(String shard, String userId) {
+		return reactiveRedisTemplate.opsForZSet().score(shardKey(AVAILABLE_USERS_KEY, shard), userId);
+	}
+
+	@Override
+	public Mono<Boolean> registerUserNode(String userId) {
+		return reactiveRedisTemplate.opsForHash().put(USER_NODE_KEY, userId, queueNode.getNodeId());
+	}
+
+	@Override
+	public Mono<Long> removeUserNode(String userId) {
+		return reactiveRedisTemplate.execute(REMOVE_USER_NODE_SCRIPT, List.of(USER_NODE_KEY),
+				List.of(userId, queueNode.getNodeId()))
+			.next();
+	}
+
+	// CacheStoreImpl 과 같은 샤드 키 형식
+	private String shardKey(String prefix, String shard) {
+		return prefix + ":{" + shard + "}";
+	}
+}
@@ -3,6 +3,7 @@ package com.tablekok.hotreservationservice.infrastructure.Cache;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,20 +11,17 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import net.javacrumbs.shedlock.core.LockProvider;
-import net.javacrumbs.shedlock.provider.redis.spring.RedisLockProvider;
-import net.javacrumbs.shedlock.spring.annotation.EnableSchedulerLock;
-
 import com.tablekok.hotreservationservice.application.service.QueueService;
+import com.tablekok.hotreservationservice.application.service.ReactiveQueueService;
 
 @Configuration
-@EnableSchedulerLock(defaultLockAtMostFor = "60s") // 기본 락 유지 시간
 public class RedisConfig {
 
 	@Value("${spring.data.redis.host}")
@@ -35,8 +33,11 @@ public class RedisConfig {
 	@Value("${spring.data.redis.password:pass}")
 	private String password;
 
+	@Value("${redis.pubsub.channel}")
+	private String pubSubChannel;
+
 	@Bean
-	public RedisConnectionFactory redisConnectionFactory() {
+	public LettuceConnectionFactory redisConnectionFactory() {
 		RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(host, port);
 
 		LettuceClientConfiguration.LettuceClientConfigurationBuilder clientConfigBuilder = LettuceClientConfiguration.builder();
@@ -51,11 +52,6 @@ public class RedisConfig {
 		return new LettuceConnectionFactory(config, clientConfig);
 	}
 
-	@Bean
-	public LockProvider lockProvider(RedisConnectionFactory connectionFactory) {
-		return new RedisLockProvider(connectionFactory);
-	}
-
 	@Bean
 	public RedissonClient redissonClient() {
 		Config config = new Config();
@@ -76,17 +72,32 @@ public class RedisConfig {
 	@Bean
 	public RedisMessageListenerContainer redisMessageListenerContainer(
 		RedisConnectionFactory connectionFactory,
-		MessageListenerAdapter listenerAdapter) {
+		MessageListenerAdapter listenerAdapter,
+		ObjectProvider<ReactiveQueueService> reactiveQueueService,
+		QueueNode queueNode) {
 
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 		container.setConnectionFactory(connectionFactory);
+		addQueueListener(container, listenerAdapter, queueNode);
 
-		// "waiting-queue"라는 이름의 채널을 구독합니다.
-		container.addMessageListener(listenerAdapter, new ChannelTopic("waiting-queue"));
+		// 리액티브 대기열 엔드포인트가 켜져 있으면 같은 채널을 구독
+		reactiveQueueService.ifAvailable(service -> {
+			MessageListenerAdapter reactiveListenerAdapter = new MessageListenerAdapter(service, "onMessage");
+			reactiveListenerAdapter.afterPropertiesSet();
+			addQueueListener(container, reactiveListenerAdapter, queueNode);
+		});
 
 		return container;
 	}
 
+	private void addQueueListener(RedisMessageListenerContainer container, MessageListenerAdapter listenerAdapter,
+		QueueNode queueNode) {
+		// 모든 서버 대상 브로드캐스트 채널 ("waiting-queue")
+		container.addMessageListener(listenerAdapter, new ChannelTopic(pubSubChannel));
+		// 이 서버에 연결된 유저 대상 채널 ("waiting-queue:{nodeId}")
+		container.addMessageListener(listenerAdapter, new ChannelTopic(queueNode.getChannel()));
+	}
+
 	@Bean
 	public MessageListenerAdapter listenerAdapter(QueueService queueService) {
 		return new MessageListenerAdapter(queueService, "onMessage");
@@ -107,4 +118,10 @@ public class RedisConfig {
 
 		return redisTemplate;
 	}
+
+	// 리액티브 대기열 엔드포인트용 (Lettuce 리액티브 커맨드)
+	@Bean
+	public ReactiveStringRedisTemplate reactiveStringRedisTemplate() {
+		return new ReactiveStringRedisTemplate(redisConnectionFactory());
+	}
 }
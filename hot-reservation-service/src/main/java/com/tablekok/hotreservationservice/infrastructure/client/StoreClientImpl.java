@@ -1,6 +1,6 @@
 package com.tablekok.hotreservationservice.infrastructure.client;
 
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.stereotype.Component;
@@ -27,9 +27,9 @@ public class StoreClientImpl implements StoreClient {
 	}
 
 	@Override
-	public List<UUID> getHotStores() {
+	public Set<UUID> getHotStores() {
 		try {
-			return storeFeignClient.getPopularStores();
+			return Set.copyOf(storeFeignClient.getPopularStores());
 		} catch (Exception e) {
 			throw new AppException(HotReservationErrorCode.INTERNAL_CANNOT_CONNECT);
 		}
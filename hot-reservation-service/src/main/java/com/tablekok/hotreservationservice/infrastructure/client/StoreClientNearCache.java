@@ -0,0 +1,141 @@
+package com.tablekok.hotreservationservice.infrastructure.client;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tablekok.exception.AppException;
+import com.tablekok.hotreservationservice.application.client.StoreClient;
+import com.tablekok.hotreservationservice.application.client.dto.GetStoreReservationPolicyResponse;
+import com.tablekok.hotreservationservice.application.dto.event.StoreEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+// store-service 조회 앞단의 로컬 캐시. TTL 과 store-events 이벤트로 갱신
+@Slf4j
+@Primary
+@Component
+public class StoreClientNearCache implements StoreClient {
+	private final StoreClientImpl storeClient;
+
+	// 음식점별 예약 정책
+	private final Cache<UUID, GetStoreReservationPolicyResponse> policyCache;
+
+	// 인기 음식점 목록. 전체를 주기적으로 다시 받고, 그 사이에는 이벤트로 추가·삭제
+	// 변경 시 새 불변 Set 을 만들어 교체하므로 읽는 쪽은 항상 완성된 목록만 봄
+	private volatile Set<UUID> hotStores = Set.of();
+	private final ReentrantLock hotStoresLock = new ReentrantLock();
+	private final Object hotStoresWriteLock = new Object();
+	private final long hotStoresTtl;
+	private volatile long hotStoresLoadedAt = 0L;
+
+	private final Counter hotStoresHit;
+	private final Counter hotStoresMiss;
+
+	public StoreClientNearCache(
+		StoreClientImpl storeClient,
+		MeterRegistry meterRegistry,
+		@Value("${store.cache.policy.max-size}") long policyMaxSize,
+		@Value("${store.cache.policy.ttl}") long policyTtl,
+		@Value("${store.cache.hot-stores.ttl}") long hotStoresTtl
+	) {
+		this.storeClient = storeClient;
+		this.hotStoresTtl = hotStoresTtl;
+
+		this.policyCache = Caffeine.newBuilder()
+			.maximumSize(policyMaxSize)
+			.expireAfterWrite(Duration.ofMillis(policyTtl))
+			.recordStats()
+			.build();
+		// cache.gets{cache=store.policy, result=hit|miss}, cache.evictions 등
+		CaffeineCacheMetrics.monitor(meterRegistry, policyCache, "store.policy");
+
+		this.hotStoresHit = meterRegistry.counter("cache.gets", "cache", "store.hot-stores", "result", "hit");
+		this.hotStoresMiss = meterRegistry.counter("cache.gets", "cache", "store.hot-stores", "result", "miss");
+	}
+
+	@Override
+	public GetStoreReservationPolicyResponse getStoreReservationPolicy(UUID storeId) {
+		return policyCache.get(storeId, storeClient::getStoreReservationPolicy);
+	}
+
+	@Override
+	public Set<UUID> getHotStores() {
+		if (isHotStoresFresh()) {
+			hotStoresHit.increment();
+		} else {
+			hotStoresMiss.increment();
+			refreshHotStores();
+		}
+		return hotStores;
+	}
+
+	// store-events 반영
+	public void onStoreChanged(StoreEvent event) {
+		UUID storeId = event.storeId();
+		policyCache.invalidate(storeId);
+
+		if (event.isDeleted() || Boolean.FALSE.equals(event.isHot())) {
+			updateHotStores(stores -> stores.remove(storeId));
+		} else if (Boolean.TRUE.equals(event.isHot())) {
+			updateHotStores(stores -> stores.add(storeId));
+		}
+	}
+
+	private boolean isHotStoresFresh() {
+		long loadedAt = hotStoresLoadedAt;
+		return loadedAt > 0 && System.currentTimeMillis() - loadedAt < hotStoresTtl;
+	}
+
+	// 만료를 본 요청 중 하나만 다시 조회하고 나머지는 이전 목록 사용. 최초 로딩만 대기
+	private void refreshHotStores() {
+		boolean loaded = hotStoresLoadedAt > 0;
+		if (loaded) {
+			if (!hotStoresLock.tryLock()) {
+				return;
+			}
+		} else {
+			hotStoresLock.lock();
+		}
+
+		try {
+			if (isHotStoresFresh()) {
+				return;
+			}
+			Set<UUID> latest = Set.copyOf(storeClient.getHotStores());
+			synchronized (hotStoresWriteLock) {
+				hotStores = latest;
+			}
+			hotStoresLoadedAt = System.currentTimeMillis();
+		} catch (AppException e) {
+			// store-service 장애 시 이전 목록이 있으면 그대로 사용
+			if (!loaded) {
+				throw e;
+			}
+			log.warn("인기 음식점 목록 갱신 실패, 이전 목록 사용", e);
+		} finally {
+			hotStoresLock.unlock();
+		}
+	}
+
+	// 이벤트 반영은 복사본을 수정한 뒤 교체. 동시에 들어온 이벤트끼리 서로의 변경을 덮어쓰지 않도록 직렬화
+	private void updateHotStores(Consumer<Set<UUID>> change) {
+		synchronized (hotStoresWriteLock) {
+			Set<UUID> next = new HashSet<>(hotStores);
+			change.accept(next);
+			hotStores = Set.copyOf(next);
+		}
+	}
+}
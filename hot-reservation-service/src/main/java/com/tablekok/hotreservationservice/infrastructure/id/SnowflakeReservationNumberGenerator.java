@@ -0,0 +1,178 @@
+package com.tablekok.hotreservationservice.infrastructure.id;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.netflix.eureka.EurekaInstanceConfigBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.tablekok.hotreservationservice.domain.service.ReservationNumberGenerator;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Snowflake 방식 예약 번호
+// [41bit 경과 ms][1bit 서비스][9bit 워커][12bit 시퀀스] -> 메모리에서만 발급, 네트워크 호출 없음
+// 워커 ID 는 Redis 에서 임대(SET NX + TTL)하여 인스턴스끼리 겹치지 않게 하고, 임대를 잃으면 발급 중단
+// reservation-service 와 같은 코드 (서비스 구분 비트만 설정으로 다름). 수정 시 함께 반영
+@Slf4j
+@Component
+public class SnowflakeReservationNumberGenerator implements ReservationNumberGenerator {
+
+	private static final String PREFIX = "RSV-";
+	private static final String WORKER_ID_METADATA = "worker-id";
+	private static final String WORKER_LEASE_KEY_PREFIX = "reservation:number:worker:";
+
+	private static final RedisScript<Long> RENEW_LEASE_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/renew_worker_lease.lua"), Long.class);
+
+	// 2025-01-01T00:00:00Z 기준 약 69년 사용 가능
+	private static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+	private static final int SEQUENCE_BITS = 12;
+	private static final int WORKER_BITS = 9;
+	private static final int SERVICE_BITS = 1;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+	private static final long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+	private static final long MAX_SERVICE_ID = (1L << SERVICE_BITS) - 1;
+
+	// 36진수 13자리 고정폭 -> 문자열 정렬 = 발급 순서
+	private static final int NUMBER_LENGTH = 13;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final long leaseTtl;
+	private final String leaseToken = UUID.randomUUID().toString();
+	private final String leaseKey;
+	private final long workerId;
+	private final long nodeBits;
+
+	// 임대가 유효하다고 확인된 시각 + 임대 시간. 이 시각이 지나면 다른 인스턴스가 같은 워커 ID 를 가져갔을 수 있음
+	private volatile long leaseValidUntil;
+
+	// (경과 ms << 12 | 시퀀스). 시퀀스가 넘치면 다음 ms 를 미리 사용하고, 시계가 뒤로 가도 감소하지 않음
+	private final AtomicLong lastState = new AtomicLong();
+
+	public SnowflakeReservationNumberGenerator(
+		RedisTemplate<String, String> redisTemplate,
+		ObjectProvider<EurekaInstanceConfigBean> eurekaInstance,
+		@Value("${reservation.number.service-id}") long serviceId,
+		@Value("${reservation.number.worker-lease-ttl}") long leaseTtl
+	) {
+		if (serviceId < 0 || serviceId > MAX_SERVICE_ID) {
+			throw new IllegalStateException("reservation.number.service-id 범위 초과 : " + serviceId);
+		}
+		this.redisTemplate = redisTemplate;
+		this.leaseTtl = leaseTtl;
+
+		EurekaInstanceConfigBean instance = eurekaInstance.getIfAvailable();
+		this.workerId = leaseWorkerId(serviceId, configuredWorkerId(instance), preferredWorkerId(instance));
+		this.leaseKey = leaseKey(serviceId, workerId);
+		this.leaseValidUntil = System.currentTimeMillis() + leaseTtl;
+		this.nodeBits = ((serviceId << WORKER_BITS) | workerId) << SEQUENCE_BITS;
+
+		// 레지스트리에서 확인할 수 있게 메타데이터에 기록
+		if (instance != null) {
+			instance.getMetadataMap().put(WORKER_ID_METADATA, String.valueOf(workerId));
+		}
+		log.info("예약 번호 노드 serviceId={}, workerId={}", serviceId, workerId);
+	}
+
+	@Override
+	public String next() {
+		if (System.currentTimeMillis() > leaseValidUntil) {
+			throw new IllegalStateException("예약 번호 워커 ID 임대가 만료되어 번호를 발급할 수 없습니다.");
+		}
+		long state = lastState.updateAndGet(
+			prev -> Math.max(prev + 1, (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS));
+		long timestamp = state >>> SEQUENCE_BITS;
+		long id = (timestamp << (SERVICE_BITS + WORKER_BITS + SEQUENCE_BITS)) | nodeBits | (state & SEQUENCE_MASK);
+		return PREFIX + format(id);
+	}
+
+	// 이 인스턴스가 임대한 워커 ID (살아 있는 인스턴스끼리 겹치지 않음)
+	public long getWorkerId() {
+		return workerId;
+	}
+
+	// 임대 시간의 1/3 마다 연장. Redis 장애로 연장하지 못한 채 임대 시간이 지나면 next() 가 실패
+	@Scheduled(fixedRateString = "#{${reservation.number.worker-lease-ttl} / 3}")
+	public void renewLease() {
+		long now = System.currentTimeMillis();
+		try {
+			Long renewed = redisTemplate.execute(RENEW_LEASE_SCRIPT, List.of(leaseKey), leaseToken,
+				String.valueOf(leaseTtl));
+			if (renewed != null && renewed == 1) {
+				leaseValidUntil = now + leaseTtl;
+				return;
+			}
+			// 임대가 만료된 사이 다른 인스턴스가 같은 워커 ID 를 가져감. 재시작하여 새 워커 ID 를 받아야 함
+			leaseValidUntil = 0;
+			log.error("예약 번호 워커 ID 임대를 다른 인스턴스가 가져감 key={}", leaseKey);
+		} catch (Exception e) {
+			log.warn("예약 번호 워커 ID 임대 연장 실패 key={}", leaseKey, e);
+		}
+	}
+
+	// 지정한 워커 ID 가 있으면 그 ID 만, 없으면 선호 ID 부터 차례로 임대 시도. 모두 사용 중이면 기동 실패
+	private long leaseWorkerId(long serviceId, Long configured, long preferred) {
+		if (configured != null) {
+			if (!tryLease(serviceId, configured)) {
+				throw new IllegalStateException("worker-id " + configured + " 를 다른 인스턴스가 사용 중입니다.");
+			}
+			return configured;
+		}
+		for (long i = 0; i <= MAX_WORKER_ID; i++) {
+			long workerId = (preferred + i) % (MAX_WORKER_ID + 1);
+			if (tryLease(serviceId, workerId)) {
+				return workerId;
+			}
+		}
+		throw new IllegalStateException("사용 가능한 예약 번호 워커 ID 가 없습니다. (0~" + MAX_WORKER_ID + ")");
+	}
+
+	private boolean tryLease(long serviceId, long workerId) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue()
+			.setIfAbsent(leaseKey(serviceId, workerId), leaseToken, Duration.ofMillis(leaseTtl)));
+	}
+
+	// 인스턴스 메타데이터(eureka.instance.metadata-map.worker-id)로 지정한 워커 ID
+	private Long configuredWorkerId(EurekaInstanceConfigBean instance) {
+		if (instance == null) {
+			return null;
+		}
+		String configured = instance.getMetadataMap().get(WORKER_ID_METADATA);
+		if (configured == null || configured.isBlank()) {
+			return null;
+		}
+		long workerId = Long.parseLong(configured.trim());
+		if (workerId < 0 || workerId > MAX_WORKER_ID) {
+			throw new IllegalStateException("worker-id 범위 초과 (0~" + MAX_WORKER_ID + ") : " + workerId);
+		}
+		return workerId;
+	}
+
+	// 재시작해도 가능하면 같은 워커 ID 를 받도록 인스턴스 ID 해시에서 시작
+	private long preferredWorkerId(EurekaInstanceConfigBean instance) {
+		if (instance == null || instance.getInstanceId() == null) {
+			return 0;
+		}
+		return Math.floorMod(instance.getInstanceId().hashCode(), MAX_WORKER_ID + 1);
+	}
+
+	private String leaseKey(long serviceId, long workerId) {
+		return WORKER_LEASE_KEY_PREFIX + serviceId + ":" + workerId;
+	}
+
+	private static String format(long id) {
+		String encoded = Long.toString(id, 36).toUpperCase();
+		return "0".repeat(Math.max(0, NUMBER_LENGTH - encoded.length())) + encoded;
+	}
+}
@@ -0,0 +1,70 @@
+package com.tablekok.hotreservationservice.infrastructure.kafka;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.converter.JsonMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tablekok.hotreservationservice.infrastructure.id.SnowflakeReservationNumberGenerator;
+
+import lombok.RequiredArgsConstructor;
+
+@EnableKafka
+@Configuration
+@RequiredArgsConstructor
+public class KafkaConsumerConfig {
+
+	private final SnowflakeReservationNumberGenerator reservationNumberGenerator;
+
+	@Value("${spring.kafka.bootstrap-servers}")
+	private String bootstrapServers;
+
+	@Value("${spring.kafka.consumer.group-id}")
+	private String groupIdPrefix;
+
+	@Value("${spring.kafka.consumer.auto-offset-reset}")
+	private String autoOffsetReset;
+
+	@Bean
+	public ConsumerFactory<Object, Object> consumerFactory() {
+		Map<String, Object> config = new HashMap<>();
+
+		config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+		// 모든 인스턴스가 이벤트를 받도록 인스턴스마다 그룹을 둠. 워커 ID 는 살아 있는 인스턴스끼리 겹치지 않고
+		// 재시작 시 다시 쓰이므로 배포마다 그룹이 쌓이지 않음 (그룹 수 <= 동시 인스턴스 수)
+		config.put(ConsumerConfig.GROUP_ID_CONFIG, groupIdPrefix + "-" + reservationNumberGenerator.getWorkerId());
+		config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
+		config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+		config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+
+		return new DefaultKafkaConsumerFactory<>(config);
+	}
+
+	// Boot 설정(spring.kafka.listener.*, spring.threads.virtual.enabled 의 가상 스레드 리스너 실행기)을 그대로 적용
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> kafkaListenerContainerFactory(
+		ConcurrentKafkaListenerContainerFactoryConfigurer configurer
+	) {
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
+			new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(factory, consumerFactory());
+
+		// 리스너 파라미터 타입(StoreEvent)으로 변환
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		factory.setRecordMessageConverter(new JsonMessageConverter(objectMapper));
+
+		return factory;
+	}
+}
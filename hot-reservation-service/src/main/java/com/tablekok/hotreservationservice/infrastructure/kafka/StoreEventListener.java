@@ -0,0 +1,32 @@
+package com.tablekok.hotreservationservice.infrastructure.kafka;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.tablekok.hotreservationservice.application.dto.event.StoreEvent;
+import com.tablekok.hotreservationservice.infrastructure.client.StoreClientNearCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreEventListener {
+
+	private final StoreClientNearCache storeClientNearCache;
+
+	// 음식점 정보·정책 변경 시 로컬 캐시 무효화 (Topic: store-events)
+	@KafkaListener(
+		topics = "store-events",
+		containerFactory = "kafkaListenerContainerFactory"
+	)
+	public void handleStoreEvent(StoreEvent event) {
+		try {
+			storeClientNearCache.onStoreChanged(event);
+		} catch (Exception e) {
+			// 놓친 이벤트는 캐시 TTL 만료로 복구
+			log.error("Failed to process store event: {}", event, e);
+		}
+	}
+}
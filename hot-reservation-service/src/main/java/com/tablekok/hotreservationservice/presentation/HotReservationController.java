@@ -1,6 +1,8 @@
 package com.tablekok.hotreservationservice.presentation;
 
 import java.net.URI;
+import java.time.LocalDate;
+import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -10,7 +12,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -18,8 +22,11 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import com.tablekok.dto.ApiResponse;
 import com.tablekok.dto.auth.AuthUser;
 import com.tablekok.hotreservationservice.application.dto.result.CreateReservationResult;
+import com.tablekok.hotreservationservice.application.service.AdaptiveAdmissionLimiter;
 import com.tablekok.hotreservationservice.application.service.HotReservationService;
 import com.tablekok.hotreservationservice.application.service.QueueService;
+import com.tablekok.hotreservationservice.domain.vo.EntryPass;
+import com.tablekok.hotreservationservice.domain.vo.QueueShard;
 import com.tablekok.hotreservationservice.presentation.dto.request.CreateReservationRequest;
 import com.tablekok.hotreservationservice.presentation.dto.response.CreateReservationResponse;
 
@@ -32,23 +39,32 @@ import lombok.RequiredArgsConstructor;
 public class HotReservationController {
 	private final HotReservationService hotReservationService;
 	private final QueueService queueService;
+	private final AdaptiveAdmissionLimiter admissionLimiter;
+
+	// SSE entry 이벤트로 받은 출입증
+	private static final String ENTRY_PASS_HEADER = "X-Entry-Pass";
 
 	// SSE 연결 실시간 순서 업데이트를 받기 위해 연결 대기 순서도 리턴
 	@PreAuthorize("isAuthenticated()")
 	@GetMapping(value = "/queue", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
 	public SseEmitter connect(
-		@AuthenticationPrincipal AuthUser authUser
+		@AuthenticationPrincipal AuthUser authUser,
+		@RequestParam UUID storeId,
+		@RequestParam(required = false) LocalDate date
 	) {
-		return queueService.enterQueue(authUser.userId());
+		return queueService.enterQueue(authUser.userId(), queueService.resolveShard(storeId, date));
 	}
 
 	// 입장 유저 검증
 	@PreAuthorize("isAuthenticated()")
 	@PostMapping("/validation")
 	public ResponseEntity<ApiResponse<Void>> validateAvailableUser(
-		@AuthenticationPrincipal AuthUser authUser
+		@AuthenticationPrincipal AuthUser authUser,
+		@RequestHeader(ENTRY_PASS_HEADER) String entryPass,
+		@RequestParam UUID storeId,
+		@RequestParam(required = false) LocalDate date
 	) {
-		queueService.validateAvailableUser(authUser.userId());
+		queueService.validateAvailableUser(authUser.userId(), queueService.resolveShard(storeId, date), entryPass);
 
 		return ResponseEntity.ok(
 			ApiResponse.success("유저가 검증되었습니다.", HttpStatus.ACCEPTED));
@@ -59,16 +75,20 @@ public class HotReservationController {
 	@PostMapping
 	public ResponseEntity<ApiResponse<CreateReservationResponse>> createReservation(
 		@Valid @RequestBody CreateReservationRequest request,
-		@AuthenticationPrincipal AuthUser authUser
+		@AuthenticationPrincipal AuthUser authUser,
+		@RequestHeader(ENTRY_PASS_HEADER) String entryPass
 	) {
-		// 유저 검사
-		queueService.validateAvailableUser(authUser.userId());
+		// 유저 검사 (예약하려는 음식점·일자의 대기열을 통과했는지 출입증으로 확인)
+		QueueShard shard = queueService.resolveShard(
+			request.storeId(), request.reservationDateTime().toLocalDate());
+		EntryPass pass = queueService.validateAvailableUser(authUser.userId(), shard, entryPass);
 
-		// 예약 진행
-		CreateReservationResult result = hotReservationService.createReservation(request.toCommand(authUser.userId()));
+		// 예약 진행 (처리 시간·오류를 입장 인원 조절에 반영)
+		CreateReservationResult result = admissionLimiter.record(
+			() -> hotReservationService.createReservation(request.toCommand(authUser.userId())));
 
 		// 예약 요청 후 토큰, 해시테이블, emitter 삭제
-		queueService.completeReservation(authUser.userId());
+		queueService.completeReservation(authUser.userId(), shard, pass);
 
 		URI location = ServletUriComponentsBuilder.fromCurrentRequest()
 			.path("/{reservationId}")
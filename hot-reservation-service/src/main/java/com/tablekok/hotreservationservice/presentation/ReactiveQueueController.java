@@ -0,0 +1,46 @@
+package com.tablekok.hotreservationservice.presentation;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tablekok.dto.auth.AuthUser;
+import com.tablekok.hotreservationservice.application.service.QueueService;
+import com.tablekok.hotreservationservice.application.service.ReactiveQueueService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+// 리액티브 대기열 엔드포인트. 기존 SseEmitter 엔드포인트(/queue)와 A/B 테스트용
+// 이 서비스는 서블릿 애플리케이션(보안 필터 체인, 헤더 인증 필터)이므로 Netty 가 아닌 MVC 비동기 요청으로 Flux 를 전송
+// 두 엔드포인트 모두 대기자마다 Tomcat 비동기 요청을 하나씩 점유하므로, A/B 결과는 전송 방식
+// (연결별 SseEmitter·outbox·디스패처 vs 연결별 싱크 하나) 차이만 보여 줌. 연결 수 한계는 비교 대상이 아님
+// Netty 로 옮기려면 WebFlux 보안 설정과 게이트웨이 라우팅을 갖춘 별도 배포가 필요 (서비스·저장소 코드는 서블릿 의존 없음)
+@RestController
+@RequestMapping("/v1/hot-reservations")
+@ConditionalOnProperty(name = "queue.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveQueueController {
+	private final ReactiveQueueService reactiveQueueService;
+	private final QueueService queueService;
+
+	// SSE 연결 실시간 순서 업데이트를 받기 위해 연결 대기 순서도 리턴
+	@PreAuthorize("isAuthenticated()")
+	@GetMapping(value = "/queue/reactive", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public Flux<ServerSentEvent<String>> connect(
+		@AuthenticationPrincipal AuthUser authUser,
+		@RequestParam UUID storeId,
+		@RequestParam(required = false) LocalDate date
+	) {
+		return reactiveQueueService.enterQueue(authUser.userId(), queueService.resolveShard(storeId, date));
+	}
+}
@@ -0,0 +1,45 @@
+-- 샤드 예약 입장 처리 (1회 왕복으로 원자적으로 수행)
+-- KEYS[1] : 샤드 대기열 ZSET
+-- KEYS[2] : 샤드 예약 입장 유저 ZSET
+-- KEYS[3] : 샤드 대기열 누적 입장 수 (head offset)
+-- KEYS[4] : 샤드 처리권 (한 주기에 한 노드만 처리)
+-- ARGV[1] : 현재 시각 (ms)
+-- ARGV[2] : 최대 입장 가능 인원
+-- ARGV[3] : 입장 유저 만료 시각 (ms)
+-- ARGV[4] : 노드 ID
+-- ARGV[5] : 처리권 유지 시간 (ms)
+-- 반환값 : 처리권을 얻지 못하면 {}, 아니면 { headOffset, 대기 인원, 입장 인원, 입장 유저 ID... }
+
+-- 0. 처리권 획득. 다른 노드가 이번 주기에 이미 처리 중이면 종료
+if not redis.call('SET', KEYS[4], ARGV[4], 'NX', 'PX', ARGV[5]) then
+    return {}
+end
+
+-- 1. 예약 허용 시간 초과 유저 삭제
+redis.call('ZREMRANGEBYSCORE', KEYS[2], 0, ARGV[1])
+
+-- 2. 남은 자리 계산
+local active = redis.call('ZCARD', KEYS[2])
+local free = tonumber(ARGV[2]) - active
+local head = tonumber(redis.call('GET', KEYS[3]) or '0')
+local result = { '', '', '' }
+
+-- 3. 대기열 앞에서 빈 자리만큼 꺼내 입장 유저로 이동
+if free > 0 then
+    local popped = redis.call('ZPOPMIN', KEYS[1], free)
+    for i = 1, #popped, 2 do
+        redis.call('ZADD', KEYS[2], ARGV[3], popped[i])
+        result[#result + 1] = popped[i]
+    end
+end
+
+-- 4. head offset 갱신
+local admitted = #result - 3
+if admitted > 0 then
+    head = redis.call('INCRBY', KEYS[3], admitted)
+end
+
+result[1] = tostring(head)
+result[2] = tostring(redis.call('ZCARD', KEYS[1]))
+result[3] = tostring(active + admitted)
+return result
@@ -0,0 +1,13 @@
+-- 대기열 진입 순번 조회 (누적 head offset + 현재 순위)
+-- KEYS[1] : 대기열 ZSET
+-- KEYS[2] : 대기열 누적 입장 수 (head offset)
+-- ARGV[1] : 유저 ID
+-- 반환값 : 진입 순번. 대기열에 없으면 nil
+
+local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+if not rank then
+    return nil
+end
+
+local head = tonumber(redis.call('GET', KEYS[2]) or '0')
+return head + rank
@@ -0,0 +1,14 @@
+-- 대기열 진입 순번 일괄 조회 (순위 보정용, 같은 시점의 head offset 과 순위로 계산)
+-- KEYS[1] : 대기열 ZSET
+-- KEYS[2] : 대기열 누적 입장 수 (head offset)
+-- ARGV : 유저 ID 목록
+-- 반환값 : { head offset, 유저 순서대로 진입 순번... }. 대기열에 없는 유저는 -1
+
+local head = tonumber(redis.call('GET', KEYS[2]) or '0')
+local result = { tostring(head) }
+
+for i = 1, #ARGV do
+    local rank = redis.call('ZRANK', KEYS[1], ARGV[i])
+    result[#result + 1] = tostring(rank and head + rank or -1)
+end
+return result
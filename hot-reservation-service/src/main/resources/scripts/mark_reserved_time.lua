@@ -0,0 +1,11 @@
+-- 예약 현황 그리드에 예약 시간 반영
+-- KEYS[1] : 음식점·일자별 그리드 비트맵
+-- ARGV[1] : 예약 시간 (분 단위 오프셋)
+-- ARGV[2] : 그리드 만료 시각 (epoch ms)
+-- 아직 만들어지지 않은 그리드면 완성 비트 없이 기록만 남기고, 다음 조회 때 DB 재구성과 합쳐짐
+
+redis.call('SETBIT', KEYS[1], ARGV[1], 1)
+if redis.call('PTTL', KEYS[1]) == -1 then
+    redis.call('PEXPIREAT', KEYS[1], ARGV[2])
+end
+return 1
@@ -0,0 +1,10 @@
+-- 비어 있는 샤드를 처리 대상 목록에서 제거 (확인 이후 새로 들어온 유저가 있으면 유지)
+-- KEYS[1] : 활성 샤드 ZSET (score : 마지막 대기열 진입 시각)
+-- ARGV[1] : 샤드 키
+-- ARGV[2] : 이 시각 이전에 마지막 진입이 있었던 샤드만 제거 (ms)
+
+local lastEntered = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if lastEntered and tonumber(lastEntered) <= tonumber(ARGV[2]) then
+    return redis.call('ZREM', KEYS[1], ARGV[1])
+end
+return 0
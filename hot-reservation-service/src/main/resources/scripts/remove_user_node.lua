@@ -0,0 +1,9 @@
+-- 유저 연결 서버 기록 삭제 (다른 서버로 재연결된 경우에는 유지)
+-- KEYS[1] : 유저별 연결 서버 HASH
+-- ARGV[1] : 유저 ID
+-- ARGV[2] : 현재 서버 ID
+
+if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+    return redis.call('HDEL', KEYS[1], ARGV[1])
+end
+return 0
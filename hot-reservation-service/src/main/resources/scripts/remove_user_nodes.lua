@@ -0,0 +1,13 @@
+-- 죽은 노드의 유저 연결 기록 일괄 삭제 (그 사이 다른 서버로 재연결된 유저는 유지)
+-- KEYS[1] : 유저별 연결 서버 HASH
+-- ARGV[1] : 죽은 노드 ID
+-- ARGV[2..] : 유저 ID 목록
+-- 반환값 : 삭제한 기록 수
+
+local removed = 0
+for i = 2, #ARGV do
+    if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[1] then
+        removed = removed + redis.call('HDEL', KEYS[1], ARGV[i])
+    end
+end
+return removed
@@ -0,0 +1,45 @@
+-------------------------------------------------------
+-- uk_reservation_store_slot (store_id, reservation_date, reservation_time) 적용 전 정리
+-- 취소·거절(CANCELED, REJECT)을 제외한 살아 있는 예약끼리만 겹치면 안 되는 부분 유니크 인덱스
+-- 기존 p_reservation 에 살아 있는 예약끼리 겹친 슬롯이 있으면 기동 시 sql/reservation_slot_index.sql 의
+-- 인덱스 생성이 실패하므로, 배포 전에 한 번 실행 (취소·거절된 예약은 지우지 않고 이력으로 유지)
+-------------------------------------------------------
+
+-- 1. 살아 있는 예약끼리 겹친 슬롯 확인
+SELECT store_id, reservation_date, reservation_time, COUNT(*) AS cnt
+FROM p_reservation
+WHERE reservation_status NOT IN ('CANCELED', 'REJECT')
+GROUP BY store_id, reservation_date, reservation_time
+HAVING COUNT(*) > 1;
+
+DO
+$$
+    DECLARE
+        remaining INTEGER;
+    BEGIN
+        -------------------------------------------------------
+        -- 2. 살아 있는 예약끼리 겹친 슬롯은 자동으로 지우지 않음 (고객·사장님 확인 후 수동 처리)
+        -------------------------------------------------------
+        SELECT COUNT(*) INTO remaining
+        FROM (
+            SELECT 1
+            FROM p_reservation
+            WHERE reservation_status NOT IN ('CANCELED', 'REJECT')
+            GROUP BY store_id, reservation_date, reservation_time
+            HAVING COUNT(*) > 1
+        ) duplicated;
+
+        IF remaining > 0 THEN
+            RAISE EXCEPTION '진행 중인 예약이 겹친 슬롯 %건이 남아 있습니다. 수동 정리 후 다시 실행하세요.', remaining;
+        END IF;
+
+        -------------------------------------------------------
+        -- 3. 이전 버전의 전체 상태 유니크 제약을 부분 유니크 인덱스로 교체 (이미 있으면 생략)
+        -------------------------------------------------------
+        ALTER TABLE p_reservation DROP CONSTRAINT IF EXISTS uk_reservation_store_slot;
+
+        CREATE UNIQUE INDEX IF NOT EXISTS uk_reservation_store_slot
+            ON p_reservation (store_id, reservation_date, reservation_time)
+            WHERE reservation_status NOT IN ('CANCELED', 'REJECT');
+    END
+$$;
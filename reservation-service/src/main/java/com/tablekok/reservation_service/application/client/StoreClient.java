@@ -1,6 +1,7 @@
 package com.tablekok.reservation_service.application.client;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
 
 import com.tablekok.reservation_service.application.client.dto.request.OwnerVerificationRequest;
@@ -13,6 +14,9 @@ public interface StoreClient {
 	// 유저가 해당 음식점의 오너가 맞는지
 	boolean checkStoreOwner(OwnerVerificationRequest request);
 
+	// 오너가 소유한 음식점만 골라냄 (여러 음식점을 한 번에 검증)
+	Set<UUID> findOwnedStores(UUID ownerId, Collection<UUID> storeIds);
+
 	// 인기 음식점 리스트 조회
-	List<UUID> getHotStores();
+	Set<UUID> getHotStores();
 }
@@ -26,6 +26,9 @@ public record GetStoreReservationPolicyResponse(
 	public static StoreReservationPolicy toVo(GetStoreReservationPolicyResponse response) {
 		return StoreReservationPolicy.of(response.isActive, response.maxHeadcount, response.minHeadCount,
 			response.monthlyOpenDay,
-			response.openTime);
+			response.openTime,
+			response.reservationInterval,
+			response.dailyReservationStartTime,
+			response.dailyReservationEndTime);
 	}
 }
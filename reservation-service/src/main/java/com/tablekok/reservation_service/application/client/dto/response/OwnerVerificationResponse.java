@@ -0,0 +1,10 @@
+package com.tablekok.reservation_service.application.client.dto.response;
+
+import java.util.UUID;
+
+public record OwnerVerificationResponse(
+	UUID storeId,
+	UUID ownerId,
+	boolean isOwner
+) {
+}
@@ -0,0 +1,18 @@
+package com.tablekok.reservation_service.application.dto.command;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.tablekok.entity.UserRole;
+import com.tablekok.reservation_service.domain.entity.OwnerAction;
+
+import lombok.Builder;
+
+@Builder
+public record BulkOwnerActionCommand(
+	UUID userId,
+	UserRole role,
+	OwnerAction action,
+	List<UUID> reservationIds
+) {
+}
@@ -0,0 +1,44 @@
+package com.tablekok.reservation_service.application.dto.event;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import com.tablekok.reservation_service.domain.entity.Reservation;
+import com.tablekok.reservation_service.domain.entity.ReservationEventType;
+import com.tablekok.reservation_service.domain.entity.ReservationStatus;
+
+// reservation-events 토픽 메시지. 소비 측은 eventId 로 중복 수신을 걸러야 함 (at-least-once)
+public record ReservationEvent(
+	UUID eventId,
+	ReservationEventType eventType,
+	UUID reservationId,
+	UUID userId,
+	UUID storeId,
+	String reservationNumber,
+	LocalDate reservationDate,
+	LocalTime reservationTime,
+	Integer headcount,
+	Integer deposit,
+	ReservationStatus reservationStatus,
+	LocalDateTime occurredAt
+) {
+	public static ReservationEvent of(
+		Reservation reservation, ReservationEventType eventType, ReservationStatus reservationStatus) {
+		return new ReservationEvent(
+			UUID.randomUUID(),
+			eventType,
+			reservation.getId(),
+			reservation.getUserId(),
+			reservation.getStoreId(),
+			reservation.getReservationNumber(),
+			reservation.getReservationDateTime().getReservationDate(),
+			reservation.getReservationDateTime().getReservationTime(),
+			reservation.getHeadcount(),
+			reservation.getDeposit(),
+			reservationStatus,
+			LocalDateTime.now()
+		);
+	}
+}
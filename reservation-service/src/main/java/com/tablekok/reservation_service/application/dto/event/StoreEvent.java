@@ -0,0 +1,17 @@
+package com.tablekok.reservation_service.application.dto.event;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// store-service 의 store-events 중 캐시 무효화에 필요한 필드만 사용
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record StoreEvent(
+	String operationType,      // "CREATE", "UPDATE", "STATUS_CHANGE", "POLICY_CHANGE", "DELETE"
+	UUID storeId,
+	Boolean isHot
+) {
+	public boolean isDeleted() {
+		return "DELETE".equals(operationType);
+	}
+}
@@ -0,0 +1,25 @@
+package com.tablekok.reservation_service.application.dto.result;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkOwnerActionResult(
+	List<Item> items
+) {
+	public enum Outcome {
+		UPDATED,     // 처리됨
+		NOT_FOUND,   // 없는 예약
+		FORBIDDEN,   // 본인 음식점의 예약이 아님
+		INVALID_STATUS // 이 처리를 적용할 수 없는 상태 (이미 완료·취소·거절·노쇼된 예약 등), 변경하지 않음
+	}
+
+	public record Item(
+		UUID reservationId,
+		Outcome outcome
+	) {
+	}
+
+	public long count(Outcome outcome) {
+		return items.stream().filter(item -> item.outcome() == outcome).count();
+	}
+}
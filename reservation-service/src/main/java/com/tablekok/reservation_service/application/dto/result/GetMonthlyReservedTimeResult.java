@@ -0,0 +1,25 @@
+package com.tablekok.reservation_service.application.dto.result;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tablekok.reservation_service.domain.vo.AvailabilityGrid;
+
+import lombok.Builder;
+
+@Builder
+public record GetMonthlyReservedTimeResult(
+	Map<LocalDate, List<LocalTime>> reservedTimes
+) {
+	public static GetMonthlyReservedTimeResult of(List<AvailabilityGrid> grids) {
+		Map<LocalDate, List<LocalTime>> reservedTimes = new LinkedHashMap<>();
+		grids.forEach(grid -> reservedTimes.put(grid.date(), grid.reservedTimes()));
+
+		return GetMonthlyReservedTimeResult.builder()
+			.reservedTimes(reservedTimes)
+			.build();
+	}
+}
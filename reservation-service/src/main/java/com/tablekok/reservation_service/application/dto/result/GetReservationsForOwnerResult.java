@@ -4,14 +4,13 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-
-import com.tablekok.reservation_service.domain.entity.Reservation;
+import com.tablekok.reservation_service.domain.vo.ReservationSummary;
 
 import lombok.Builder;
 
 @Builder
 public record GetReservationsForOwnerResult(
+	UUID reservationId,
 	UUID userId,
 	UUID storeId,
 	String reservationNumber,
@@ -21,16 +20,17 @@ public record GetReservationsForOwnerResult(
 	Integer deposit,
 	String reservationStatus
 ) {
-	public static Page<GetReservationsForOwnerResult> toPage(Page<Reservation> reservations) {
-		return reservations.map(reservation -> GetReservationsForOwnerResult.builder()
-			.userId(reservation.getUserId())
-			.storeId(reservation.getStoreId())
-			.reservationNumber(reservation.getReservationNumber())
-			.reservationDate(reservation.getReservationDateTime().getReservationDate())
-			.reservationTime(reservation.getReservationDateTime().getReservationTime())
-			.headcount(reservation.getHeadcount())
-			.reservationStatus(reservation.getReservationStatus().name())
-			.build()
-		);
+	public static GetReservationsForOwnerResult from(ReservationSummary summary) {
+		return GetReservationsForOwnerResult.builder()
+			.reservationId(summary.reservationId())
+			.userId(summary.userId())
+			.storeId(summary.storeId())
+			.reservationNumber(summary.reservationNumber())
+			.reservationDate(summary.reservationDate())
+			.reservationTime(summary.reservationTime())
+			.headcount(summary.headcount())
+			.deposit(summary.deposit())
+			.reservationStatus(summary.reservationStatus().name())
+			.build();
 	}
 }
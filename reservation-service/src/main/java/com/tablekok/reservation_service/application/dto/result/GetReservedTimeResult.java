@@ -3,7 +3,7 @@ package com.tablekok.reservation_service.application.dto.result;
 import java.time.LocalTime;
 import java.util.List;
 
-import com.tablekok.reservation_service.domain.entity.Reservation;
+import com.tablekok.reservation_service.domain.vo.AvailabilityGrid;
 
 import lombok.Builder;
 
@@ -11,13 +11,9 @@ import lombok.Builder;
 public record GetReservedTimeResult(
 	List<LocalTime> reservedTimes
 ) {
-	public static GetReservedTimeResult of(List<Reservation> reservations) {
-		List<LocalTime> times = reservations.stream().map(reservation ->
-			reservation.getReservationDateTime().getReservationTime()
-		).toList();
-
+	public static GetReservedTimeResult of(AvailabilityGrid grid) {
 		return GetReservedTimeResult.builder()
-			.reservedTimes(times)
+			.reservedTimes(grid.reservedTimes())
 			.build();
 	}
 }
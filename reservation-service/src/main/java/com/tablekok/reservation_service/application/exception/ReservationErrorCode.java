@@ -29,6 +29,12 @@ public enum ReservationErrorCode implements ErrorCode {
 		"RESERVATION103",
 		"내부 서비스 통신에 실패하였습니다. 다시 시도해주세요.",
 		HttpStatus.SERVICE_UNAVAILABLE
+	),
+
+	INVALID_CURSOR(
+		"RESERVATION104",
+		"잘못된 커서 값입니다.",
+		HttpStatus.BAD_REQUEST
 	);
 
 	private final String code;
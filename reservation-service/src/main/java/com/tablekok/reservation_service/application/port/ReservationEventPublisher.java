@@ -0,0 +1,16 @@
+package com.tablekok.reservation_service.application.port;
+
+import java.util.List;
+import java.util.Set;
+
+import com.tablekok.reservation_service.domain.entity.ReservationOutbox;
+
+public interface ReservationEventPublisher {
+	// 한 묶음을 발행하고 결과 반환
+	PublishResult publishAll(List<ReservationOutbox> outboxes);
+
+	// publishedIds : 브로커가 확인한 outbox id
+	// failedIds : 재시도해도 성공할 수 없는 오류로 실패한 outbox id (브로커 장애, 시간 초과는 포함하지 않음)
+	record PublishResult(Set<Long> publishedIds, Set<Long> failedIds) {
+	}
+}
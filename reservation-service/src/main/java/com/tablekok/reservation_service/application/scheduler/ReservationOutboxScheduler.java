@@ -0,0 +1,82 @@
+package com.tablekok.reservation_service.application.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.tablekok.reservation_service.application.service.ReservationOutboxService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@EnableScheduling
+public class ReservationOutboxScheduler {
+
+	private final ReservationOutboxService reservationOutboxService;
+	private final Counter publishedCounter;
+	private final AtomicLong lagMillis = new AtomicLong();
+
+	@Value("${reservation.outbox.relay.batch-size}")
+	private int batchSize;
+
+	// 한 주기에 최대 batchSize * maxBatches 건까지 비워 지연이 한없이 쌓이지 않게 함
+	@Value("${reservation.outbox.relay.max-batches}")
+	private int maxBatches;
+
+	@Value("${reservation.outbox.relay.lag-warn}")
+	private long lagWarnMillis;
+
+	public ReservationOutboxScheduler(ReservationOutboxService reservationOutboxService, MeterRegistry meterRegistry) {
+		this.reservationOutboxService = reservationOutboxService;
+		this.publishedCounter = meterRegistry.counter("reservation.outbox.published");
+		Gauge.builder("reservation.outbox.lag", lagMillis, AtomicLong::get)
+			.description("가장 오래된 미발행 예약 이벤트의 대기 시간(ms)")
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+	}
+
+	// 예약 이벤트 릴레이
+	@Scheduled(fixedDelayString = "${reservation.outbox.relay.interval}")
+	public void relay() {
+		try {
+			for (int round = 0; round < maxBatches; round++) {
+				int published = reservationOutboxService.relayBatch(batchSize);
+				publishedCounter.increment(published);
+				// 덜 찼거나 일부 실패한 묶음이면 다음 주기로
+				if (published < batchSize) {
+					break;
+				}
+			}
+			refreshLag();
+		} catch (Exception e) {
+			log.error("예약 이벤트 릴레이 실패", e);
+		}
+	}
+
+	// 발행 완료 이벤트 정리
+	@Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+	public void purge() {
+		int deleted = reservationOutboxService.purgePublished();
+		log.info("발행 완료 예약 이벤트 정리 : {}건", deleted);
+	}
+
+	private void refreshLag() {
+		long lag = reservationOutboxService.findOldestPendingCreatedAt()
+			.map(createdAt -> Duration.between(createdAt, LocalDateTime.now()).toMillis())
+			.orElse(0L);
+		lagMillis.set(Math.max(lag, 0));
+
+		if (lag > lagWarnMillis) {
+			log.warn("예약 이벤트 발행 지연 lag={}ms", lag);
+		}
+	}
+}
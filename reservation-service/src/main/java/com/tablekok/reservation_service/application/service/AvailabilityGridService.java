@@ -0,0 +1,118 @@
+package com.tablekok.reservation_service.application.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tablekok.reservation_service.application.client.StoreClient;
+import com.tablekok.reservation_service.application.client.dto.response.GetStoreReservationPolicyResponse;
+import com.tablekok.reservation_service.domain.repository.AvailabilityGridStore;
+import com.tablekok.reservation_service.domain.repository.ReservationRepository;
+import com.tablekok.reservation_service.domain.repository.SlotStore;
+import com.tablekok.reservation_service.domain.vo.AvailabilityGrid;
+import com.tablekok.reservation_service.domain.vo.ReservationDateTime;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AvailabilityGridService {
+	private final AvailabilityGridStore availabilityGridStore;
+	private final ReservationRepository reservationRepository;
+	private final SlotStore slotStore;
+	private final StoreClient storeClient;
+
+	// 하루 예약 현황
+	// 캐시 적중 시 DB 연결을 잡지 않도록 트랜잭션 없이 조회 (재구성 조회는 리포지토리 트랜잭션으로 실행)
+	public AvailabilityGrid getDailyGrid(UUID storeId, LocalDate date) {
+		return getGrids(storeId, List.of(date)).get(date);
+	}
+
+	// 한 달 예약 현황 (달력 선택용)
+	public List<AvailabilityGrid> getMonthlyGrids(UUID storeId, YearMonth month) {
+		List<LocalDate> dates = month.atDay(1).datesUntil(month.atEndOfMonth().plusDays(1)).toList();
+		Map<LocalDate, AvailabilityGrid> grids = getGrids(storeId, dates);
+		return dates.stream().map(grids::get).toList();
+	}
+
+	// 예약 생성 커밋 후 그리드에 반영
+	public void reserved(UUID storeId, ReservationDateTime reservationDateTime) {
+		afterCommit(() -> availabilityGridStore.markReserved(
+			storeId, reservationDateTime.getReservationDate(), reservationDateTime.getReservationTime()));
+	}
+
+	// 예약 취소·거절 커밋 후 그리드 무효화 (다음 조회 때 DB 기준으로 다시 만들어짐)
+	// 락 없는 예약 경로의 슬롯 비트맵도 비워 같은 슬롯을 다시 예약할 수 있게 함
+	public void released(UUID storeId, ReservationDateTime reservationDateTime) {
+		afterCommit(() -> availabilityGridStore.evict(storeId, reservationDateTime.getReservationDate()));
+		afterCommit(() -> releaseSlot(storeId, reservationDateTime));
+	}
+
+	// 슬롯 인덱스는 예약 시와 같은 정책 기준. 정책 변경으로 슬롯에 맞지 않는 시간이면 비트맵에 없으므로 생략
+	private void releaseSlot(UUID storeId, ReservationDateTime reservationDateTime) {
+		int slotIndex = GetStoreReservationPolicyResponse.toVo(storeClient.getStoreReservationPolicy(storeId))
+			.slotIndexOf(reservationDateTime.getReservationTime());
+		if (slotIndex >= 0) {
+			slotStore.releaseSlot(storeId, reservationDateTime.getReservationDate(), slotIndex);
+		}
+	}
+
+	// 캐시에 있는 그리드는 그대로, 없는 날짜들은 DB 한 번 조회로 재구성
+	private Map<LocalDate, AvailabilityGrid> getGrids(UUID storeId, List<LocalDate> dates) {
+		Map<LocalDate, AvailabilityGrid> grids = new HashMap<>(availabilityGridStore.findAll(storeId, dates));
+
+		List<LocalDate> missingDates = dates.stream().filter(date -> !grids.containsKey(date)).toList();
+		if (missingDates.isEmpty()) {
+			return grids;
+		}
+
+		Map<LocalDate, List<LocalTime>> reservedTimes = reservationRepository.findReservationDateTimes(
+				storeId, missingDates.get(0), missingDates.get(missingDates.size() - 1)).stream()
+			.collect(Collectors.groupingBy(
+				ReservationDateTime::getReservationDate,
+				Collectors.mapping(ReservationDateTime::getReservationTime, Collectors.toList())
+			));
+
+		List<AvailabilityGrid> rebuilt = missingDates.stream()
+			.map(date -> AvailabilityGrid.of(date, reservedTimes.getOrDefault(date, List.of())))
+			.toList();
+		availabilityGridStore.saveAll(storeId, rebuilt);
+
+		rebuilt.forEach(grid -> grids.put(grid.date(), grid));
+		return grids;
+	}
+
+	// 트랜잭션 밖에서 호출되면 바로 실행. 그리드·비트맵 갱신 실패는 예약 처리에 영향 주지 않음
+	// (그리드는 TTL 만료로 복구, 비트맵이 남은 슬롯은 예약일이 지나 만료될 때까지 락 없는 경로에서만 막힘)
+	private void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			runQuietly(task);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				runQuietly(task);
+			}
+		});
+	}
+
+	private void runQuietly(Runnable task) {
+		try {
+			task.run();
+		} catch (Exception e) {
+			log.warn("예약 현황 그리드·슬롯 비트맵 갱신 실패", e);
+		}
+	}
+}
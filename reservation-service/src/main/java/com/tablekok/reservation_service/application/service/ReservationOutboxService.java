@@ -0,0 +1,117 @@
+package com.tablekok.reservation_service.application.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tablekok.reservation_service.application.dto.event.ReservationEvent;
+import com.tablekok.reservation_service.application.port.ReservationEventPublisher;
+import com.tablekok.reservation_service.application.port.ReservationEventPublisher.PublishResult;
+import com.tablekok.reservation_service.domain.entity.Reservation;
+import com.tablekok.reservation_service.domain.entity.ReservationEventType;
+import com.tablekok.reservation_service.domain.entity.ReservationOutbox;
+import com.tablekok.reservation_service.domain.entity.ReservationStatus;
+import com.tablekok.reservation_service.domain.repository.ReservationOutboxRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationOutboxService {
+
+	private final ReservationOutboxRepository reservationOutboxRepository;
+	private final ReservationEventPublisher reservationEventPublisher;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${reservation.outbox.retention-days}")
+	private long retentionDays;
+
+	@Value("${reservation.outbox.relay.max-attempts}")
+	private int maxAttempts;
+
+	// 예약 변경과 같은 트랜잭션에서만 기록 (롤백되면 이벤트도 사라짐)
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void record(Reservation reservation, ReservationEventType eventType) {
+		recordAll(List.of(reservation), eventType, reservation.getReservationStatus());
+	}
+
+	// 벌크 UPDATE 처럼 엔티티 상태가 갱신되지 않은 경우 변경된 상태를 직접 전달
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void recordAll(List<Reservation> reservations, ReservationEventType eventType, ReservationStatus status) {
+		List<ReservationOutbox> outboxes = reservations.stream()
+			.map(reservation -> ReservationOutbox.create(
+				reservation.getId(),
+				reservation.getStoreId(),
+				eventType,
+				serialize(ReservationEvent.of(reservation, eventType, status))
+			))
+			.toList();
+		reservationOutboxRepository.saveAll(outboxes);
+	}
+
+	// 발행 대기 이벤트 한 묶음 발행
+	// 여러 인스턴스가 나눠 발행하면 같은 음식점 이벤트의 순서가 뒤바뀔 수 있으므로 advisory lock 을 잡은 한 곳만 릴레이
+	@Transactional
+	public int relayBatch(int batchSize) {
+		if (!reservationOutboxRepository.tryLockRelay()) {
+			return 0;
+		}
+		List<ReservationOutbox> pending = reservationOutboxRepository.findPending(batchSize);
+		if (pending.isEmpty()) {
+			return 0;
+		}
+
+		PublishResult result = reservationEventPublisher.publishAll(pending);
+		LocalDateTime now = LocalDateTime.now();
+		reservationOutboxRepository.markPublished(result.publishedIds(), now);
+
+		if (result.publishedIds().size() < pending.size()) {
+			log.warn("예약 이벤트 일부 발행 실패 published={}, pending={}", result.publishedIds().size(), pending.size());
+		}
+
+		// 계속 실패하는 이벤트가 같은 음식점의 뒤 이벤트를 영원히 막지 않도록 최대 시도 후 제외 (failed_at 기록)
+		int failed = reservationOutboxRepository.recordFailure(result.failedIds(), maxAttempts, now);
+		if (failed > 0) {
+			meterRegistry.counter("reservation.outbox.failed").increment(failed);
+			log.error("예약 이벤트 {}회 발행 실패로 릴레이 대상에서 제외 : {}건, ids={}", maxAttempts, failed,
+				pending.stream()
+					.filter(outbox -> result.failedIds().contains(outbox.getId()))
+					.filter(outbox -> outbox.getAttemptCount() + 1 >= maxAttempts)
+					.map(ReservationOutbox::getId)
+					.toList());
+		}
+		return result.publishedIds().size();
+	}
+
+	// 가장 오래된 발행 대기 이벤트의 생성 시각 (없으면 지연 없음)
+	@Transactional(readOnly = true)
+	public Optional<LocalDateTime> findOldestPendingCreatedAt() {
+		return reservationOutboxRepository.findOldestPendingCreatedAt();
+	}
+
+	// 보관 기간이 지난 발행 완료 이벤트 정리
+	@Transactional
+	public int purgePublished() {
+		return reservationOutboxRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays));
+	}
+
+	private String serialize(ReservationEvent event) {
+		try {
+			return objectMapper.writeValueAsString(event);
+		} catch (JsonProcessingException e) {
+			// 직렬화 실패는 코드 오류. 예약 변경과 함께 롤백
+			throw new IllegalStateException("예약 이벤트 직렬화 실패 reservationId=" + event.reservationId(), e);
+		}
+	}
+}
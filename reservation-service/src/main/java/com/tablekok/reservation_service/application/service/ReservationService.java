@@ -1,21 +1,38 @@
 package com.tablekok.reservation_service.application.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.tablekok.cursor.dto.request.CursorRequest;
+import com.tablekok.cursor.dto.response.Cursor;
+import com.tablekok.cursor.util.CursorUtils;
 import com.tablekok.entity.UserRole;
 import com.tablekok.exception.AppException;
 import com.tablekok.reservation_service.application.client.StoreClient;
 import com.tablekok.reservation_service.application.client.dto.request.OwnerVerificationRequest;
 import com.tablekok.reservation_service.application.client.dto.response.GetStoreReservationPolicyResponse;
+import com.tablekok.reservation_service.application.dto.command.BulkOwnerActionCommand;
 import com.tablekok.reservation_service.application.dto.command.CreateReservationCommand;
+import com.tablekok.reservation_service.application.dto.result.BulkOwnerActionResult;
 import com.tablekok.reservation_service.application.dto.result.CreateReservationResult;
+import com.tablekok.reservation_service.application.dto.result.GetMonthlyReservedTimeResult;
 import com.tablekok.reservation_service.application.dto.result.GetReservationResult;
 import com.tablekok.reservation_service.application.dto.result.GetReservationsForCustomerResult;
 import com.tablekok.reservation_service.application.dto.result.GetReservationsForOwnerResult;
@@ -23,56 +40,148 @@ import com.tablekok.reservation_service.application.dto.result.GetReservedTimeRe
 import com.tablekok.reservation_service.application.exception.ReservationErrorCode;
 import com.tablekok.reservation_service.application.service.strategy.RoleStrategy;
 import com.tablekok.reservation_service.application.service.strategy.StrategyFactory;
+import com.tablekok.reservation_service.domain.entity.OwnerAction;
 import com.tablekok.reservation_service.domain.entity.Reservation;
+import com.tablekok.reservation_service.domain.entity.ReservationEventType;
+import com.tablekok.reservation_service.domain.exception.ReservationDomainErrorCode;
 import com.tablekok.reservation_service.domain.repository.ReservationRepository;
+import com.tablekok.reservation_service.domain.repository.SlotStore;
 import com.tablekok.reservation_service.domain.service.ReservationDomainService;
+import com.tablekok.reservation_service.domain.service.ReservationNumberGenerator;
+import com.tablekok.reservation_service.domain.vo.ReservationSummary;
 import com.tablekok.reservation_service.domain.vo.StoreReservationPolicy;
 import com.tablekok.reservation_service.global.annotation.DistributedLock;
-import com.tablekok.util.PageableUtils;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReservationService {
 	private final ReservationRepository reservationRepository;
 	private final ReservationDomainService reservationDomainService;
+	private final ReservationNumberGenerator reservationNumberGenerator;
 	private final StoreClient storeClient;
 	private final StrategyFactory strategyFactory;
+	private final AvailabilityGridService availabilityGridService;
+	private final ReservationOutboxService reservationOutboxService;
+	private final SlotStore slotStore;
+	private final MeterRegistry meterRegistry;
 
 	// 예약 생성(접수)
 	@Transactional
-	@DistributedLock(key = "'reservation:' + #command.storeId() + ':' + #command.reservationDateTime().getReservationDate()")
+	// 같은 음식점, 같은 날짜라도 시간대(슬롯)가 다르면 동시에 예약 가능
+	@DistributedLock(
+		key = "'reservation:' + #command.storeId() + ':' + #command.reservationDateTime().getReservationDate()"
+			+ " + ':' + #command.reservationDateTime().getReservationTime()",
+		name = "createReservation"
+	)
 	public CreateReservationResult createReservation(CreateReservationCommand command) {
 		validateReservationConstraints(command);
 
 		Reservation newReservation = Reservation.create(
 			command.userId(),
 			command.storeId(),
+			reservationNumberGenerator.next(),
 			command.reservationDateTime(),
 			command.headcount(),
 			command.deposit()
 		);
 
 		reservationRepository.save(newReservation);
+		reservationOutboxService.record(newReservation, ReservationEventType.CREATED);
+		availabilityGridService.reserved(newReservation.getStoreId(), newReservation.getReservationDateTime());
 		return CreateReservationResult.of(newReservation);
 	}
 
-	// 생성 전 검증
-	private void validateReservationConstraints(CreateReservationCommand command) {
-		// 인기 음식점의 요청인지 확인
-		List<UUID> hotStores = storeClient.getHotStores();
-		reservationDomainService.validateHotStore(
-			hotStores,
-			command.storeId()
+	// 예약 생성(락 없는 경로). Redis 슬롯 비트맵으로 선점하고 DB 유니크 제약으로 최종 확인
+	@Transactional
+	public CreateReservationResult createReservationLockFree(CreateReservationCommand command) {
+		StoreReservationPolicy policy = validateStorePolicy(command);
+		int slotIndex = reservationDomainService.resolveSlotIndex(command.reservationDateTime(), policy);
+
+		UUID storeId = command.storeId();
+		LocalDate date = command.reservationDateTime().getReservationDate();
+		if (!slotStore.claimSlot(storeId, date, slotIndex)) {
+			countSlotClaim("conflict");
+			throw new AppException(ReservationDomainErrorCode.DUPLICATE_RESERVATION_TIME);
+		}
+
+		// 커밋되지 않으면 선점한 슬롯 반환. 단, DB 에 이미 있는 슬롯이면 비트 유지
+		AtomicBoolean occupied = new AtomicBoolean(false);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED || occupied.get()) {
+					return;
+				}
+				try {
+					slotStore.releaseSlot(storeId, date, slotIndex);
+				} catch (Exception e) {
+					log.error("슬롯 반환 실패 storeId={}, date={}, slot={}", storeId, date, slotIndex, e);
+				}
+			}
+		});
+
+		Reservation newReservation = Reservation.create(
+			command.userId(),
+			command.storeId(),
+			reservationNumberGenerator.next(),
+			command.reservationDateTime(),
+			command.headcount(),
+			command.deposit()
 		);
 
+		try {
+			reservationRepository.saveAndFlush(newReservation);
+		} catch (DataIntegrityViolationException e) {
+			// 슬롯 제약 위반만 중복 예약. 다른 제약(예약 번호 등) 위반은 그대로 던짐
+			if (!isSlotConflict(e)) {
+				throw e;
+			}
+			// 비트맵이 유실된 뒤 들어온 요청. 유니크 제약이 중복을 막음
+			occupied.set(true);
+			countSlotClaim("conflict");
+			throw new AppException(ReservationDomainErrorCode.DUPLICATE_RESERVATION_TIME);
+		}
+
+		countSlotClaim("claimed");
+		reservationOutboxService.record(newReservation, ReservationEventType.CREATED);
+		availabilityGridService.reserved(newReservation.getStoreId(), newReservation.getReservationDateTime());
+		return CreateReservationResult.of(newReservation);
+	}
+
+	private boolean isSlotConflict(DataIntegrityViolationException e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException violation) {
+				return Reservation.SLOT_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
+			}
+		}
+		return false;
+	}
+
+	// 생성 전 검증
+	private void validateReservationConstraints(CreateReservationCommand command) {
 		// 그 시간대 예약이 있는지
 		reservationDomainService.validateDuplicateReservation(
 			command.storeId(),
 			command.reservationDateTime()
 		);
 
+		validateStorePolicy(command);
+	}
+
+	// 인기 음식점 여부와 예약 정책 준수 검증
+	private StoreReservationPolicy validateStorePolicy(CreateReservationCommand command) {
+		// 인기 음식점의 요청인지 확인
+		Set<UUID> hotStores = storeClient.getHotStores();
+		reservationDomainService.validateHotStore(
+			hotStores,
+			command.storeId()
+		);
+
 		// 예약할 음식점의 예약 정책에 준수하는지
 		StoreReservationPolicy policy = GetStoreReservationPolicyResponse.toVo(
 			storeClient.getStoreReservationPolicy(command.storeId()));
@@ -81,14 +190,21 @@ public class ReservationService {
 			command.reservationDateTime(),
 			policy
 		);
+		return policy;
+	}
+
+	private void countSlotClaim(String result) {
+		meterRegistry.counter("reservation.slot.claim", "result", result).increment();
 	}
 
 	// 특정 식당의 선택 일자의 예약 목록 조회(프론트에서 예약 가능 시간 선택 표시를 위해)
-	@Transactional(readOnly = true)
 	public GetReservedTimeResult getReservedTime(UUID storeId, LocalDate date) {
-		List<Reservation> findReservations = reservationRepository.findByStoreIdAndReservationDateTime_ReservationDate(
-			storeId, date);
-		return GetReservedTimeResult.of(findReservations);
+		return GetReservedTimeResult.of(availabilityGridService.getDailyGrid(storeId, date));
+	}
+
+	// 특정 식당의 한 달 예약 목록 조회(달력 선택 표시를 위해)
+	public GetMonthlyReservedTimeResult getMonthlyReservedTime(UUID storeId, YearMonth month) {
+		return GetMonthlyReservedTimeResult.of(availabilityGridService.getMonthlyGrids(storeId, month));
 	}
 
 	// 단건 예약 조회(리뷰에서 호출 용도)
@@ -132,6 +248,7 @@ public class ReservationService {
 			validateStoreOwner(userId, findReservation.getStoreId());
 		}
 		findReservation.noShow();
+		reservationOutboxService.record(findReservation, ReservationEventType.NOSHOW);
 	}
 
 	// 예약 확인(DONE, 오너)
@@ -143,32 +260,122 @@ public class ReservationService {
 			validateStoreOwner(userId, findReservation.getStoreId());
 		}
 		findReservation.done();
+		reservationOutboxService.record(findReservation, ReservationEventType.DONE);
 	}
 
-	// 예약 조회(고객)
+	// 예약 일괄 처리(DONE/NOSHOW/REJECT, 오너). IN 조회 1번, 소유 검증 최대 1번, UPDATE 1번
+	// 조회한 예약은 행 잠금되므로 조회 시점 상태로 판단한 처리 대상이 곧 실제 변경 대상
+	@Transactional
+	public BulkOwnerActionResult bulkOwnerAction(BulkOwnerActionCommand command) {
+		List<UUID> reservationIds = command.reservationIds().stream().distinct().toList();
+		Map<UUID, Reservation> reservations = reservationRepository.findAllByIdIn(reservationIds).stream()
+			.collect(Collectors.toMap(Reservation::getId, Function.identity()));
+
+		// 음식점별로 한 번만 소유 여부 확인 (마스터는 검증하지 않음)
+		Set<UUID> storeIds = reservations.values().stream().map(Reservation::getStoreId).collect(Collectors.toSet());
+		Set<UUID> allowedStoreIds = command.role().equals(UserRole.OWNER)
+			? storeClient.findOwnedStores(command.userId(), storeIds)
+			: storeIds;
+
+		List<BulkOwnerActionResult.Item> items = new ArrayList<>(reservationIds.size());
+		List<Reservation> targets = new ArrayList<>();
+		for (UUID reservationId : reservationIds) {
+			Reservation reservation = reservations.get(reservationId);
+			if (reservation == null) {
+				items.add(new BulkOwnerActionResult.Item(reservationId, BulkOwnerActionResult.Outcome.NOT_FOUND));
+				continue;
+			}
+			if (!allowedStoreIds.contains(reservation.getStoreId())) {
+				items.add(new BulkOwnerActionResult.Item(reservationId, BulkOwnerActionResult.Outcome.FORBIDDEN));
+				continue;
+			}
+			if (!command.action().isApplicableTo(reservation.getReservationStatus())) {
+				items.add(
+					new BulkOwnerActionResult.Item(reservationId, BulkOwnerActionResult.Outcome.INVALID_STATUS));
+				continue;
+			}
+			items.add(new BulkOwnerActionResult.Item(reservationId, BulkOwnerActionResult.Outcome.UPDATED));
+			targets.add(reservation);
+		}
+
+		// 변경된 예약에만 이벤트 기록 (이미 종료된 예약에 이벤트가 중복 발행되지 않도록)
+		if (!targets.isEmpty()) {
+			int updated = reservationRepository.updateStatus(
+				targets.stream().map(Reservation::getId).toList(),
+				command.action().getSourceStatuses(),
+				command.action().getTargetStatus(),
+				command.userId()
+			);
+			if (updated != targets.size()) {
+				// 행 잠금으로 일어나지 않아야 함. 결과와 이벤트가 실제 변경과 어긋나지 않도록 전체 롤백
+				throw new IllegalStateException(
+					"예약 일괄 처리 대상 " + targets.size() + "건 중 " + updated + "건만 변경됨");
+			}
+			reservationOutboxService.recordAll(
+				targets, command.action().getEventType(), command.action().getTargetStatus());
+		}
+
+		// 거절은 예약 현황 그리드에도 반영
+		if (command.action() == OwnerAction.REJECT) {
+			targets.forEach(reservation ->
+				availabilityGridService.released(reservation.getStoreId(), reservation.getReservationDateTime()));
+		}
+
+		return new BulkOwnerActionResult(items);
+	}
+
+	// 예약 조회(고객) - 생성일시 기준 keyset 페이지네이션, COUNT 쿼리 없음
 	@Transactional(readOnly = true)
-	public Page<GetReservationsForCustomerResult> getReservationsForCustomer(UUID userId, Pageable pageable) {
-		Pageable normalizedPageable = PageableUtils.normalize(pageable);
+	public Cursor<GetReservationsForCustomerResult, UUID> getReservationsForCustomer(
+		UUID userId,
+		CursorRequest<UUID> request
+	) {
+		List<ReservationSummary> summaries = reservationRepository.findSummariesByUserId(
+			userId, parseCursor(request), request.cursorId(), request.getLimit());
 
-		Page<Reservation> reservations = reservationRepository.findByUserId(userId, normalizedPageable);
-		return GetReservationsForCustomerResult.toPage(reservations);
+		return CursorUtils.makeResponse(
+			null,
+			summaries,
+			request.size(),
+			summary -> summary.createdAt().toString(),
+			ReservationSummary::reservationId
+		).map(GetReservationsForCustomerResult::from);
 	}
 
-	// 식당 예약 조회
+	// 식당 예약 조회 - 예약 일시 기준 keyset 페이지네이션, COUNT 쿼리 없음
 	@Transactional(readOnly = true)
-	public Page<GetReservationsForOwnerResult> getReservationsForOwner(
+	public Cursor<GetReservationsForOwnerResult, UUID> getReservationsForOwner(
 		UUID userId,
 		UUID storeId,
 		UserRole role,
-		Pageable pageable
+		CursorRequest<UUID> request
 	) {
 		if (role.equals(UserRole.OWNER)) {
 			validateStoreOwner(userId, storeId);
 		}
-		Pageable normalizedPageable = PageableUtils.normalize(pageable);
 
-		Page<Reservation> reservations = reservationRepository.findByStoreId(storeId, normalizedPageable);
-		return GetReservationsForOwnerResult.toPage(reservations);
+		List<ReservationSummary> summaries = reservationRepository.findSummariesByStoreId(
+			storeId, parseCursor(request), request.cursorId(), request.getLimit());
+
+		return CursorUtils.makeResponse(
+			null,
+			summaries,
+			request.size(),
+			summary -> summary.reservationDateTime().toString(),
+			ReservationSummary::reservationId
+		).map(GetReservationsForOwnerResult::from);
+	}
+
+	// 커서 값과 커서 ID 가 모두 있어야 다음 페이지, 아니면 첫 페이지
+	private LocalDateTime parseCursor(CursorRequest<UUID> request) {
+		if (request.cursor() == null || request.cursorId() == null) {
+			return null;
+		}
+		try {
+			return LocalDateTime.parse(request.cursor());
+		} catch (DateTimeParseException e) {
+			throw new AppException(ReservationErrorCode.INVALID_CURSOR);
+		}
 	}
 
 	// 해당 예약의 음식점이 사용자 소유인지
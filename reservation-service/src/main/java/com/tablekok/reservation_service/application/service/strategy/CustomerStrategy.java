@@ -5,7 +5,10 @@ import java.util.UUID;
 import org.springframework.stereotype.Component;
 
 import com.tablekok.entity.UserRole;
+import com.tablekok.reservation_service.application.service.AvailabilityGridService;
+import com.tablekok.reservation_service.application.service.ReservationOutboxService;
 import com.tablekok.reservation_service.domain.entity.Reservation;
+import com.tablekok.reservation_service.domain.entity.ReservationEventType;
 import com.tablekok.reservation_service.domain.repository.ReservationRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -14,6 +17,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CustomerStrategy implements RoleStrategy {
 	private final ReservationRepository reservationRepository;
+	private final AvailabilityGridService availabilityGridService;
+	private final ReservationOutboxService reservationOutboxService;
 
 	public Boolean supports(UserRole role) {
 		return role == UserRole.CUSTOMER;
@@ -22,6 +27,8 @@ public class CustomerStrategy implements RoleStrategy {
 	public void cancelReservation(UUID userId, UUID reservationId) {
 		Reservation findReservation = reservationRepository.findByIdAndUserId(reservationId, userId);
 		findReservation.cancel();
+		reservationOutboxService.record(findReservation, ReservationEventType.CANCELED);
+		availabilityGridService.released(findReservation.getStoreId(), findReservation.getReservationDateTime());
 	}
 
 }
@@ -9,7 +9,10 @@ import com.tablekok.exception.AppException;
 import com.tablekok.reservation_service.application.client.StoreClient;
 import com.tablekok.reservation_service.application.client.dto.request.OwnerVerificationRequest;
 import com.tablekok.reservation_service.application.exception.ReservationErrorCode;
+import com.tablekok.reservation_service.application.service.AvailabilityGridService;
+import com.tablekok.reservation_service.application.service.ReservationOutboxService;
 import com.tablekok.reservation_service.domain.entity.Reservation;
+import com.tablekok.reservation_service.domain.entity.ReservationEventType;
 import com.tablekok.reservation_service.domain.repository.ReservationRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -18,6 +21,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class OwnerStrategy implements RoleStrategy {
 	private final ReservationRepository reservationRepository;
+	private final AvailabilityGridService availabilityGridService;
+	private final ReservationOutboxService reservationOutboxService;
 	private final StoreClient storeClient;
 
 	public Boolean supports(UserRole role) {
@@ -34,6 +39,8 @@ public class OwnerStrategy implements RoleStrategy {
 		}
 
 		findReservation.reject();
+		reservationOutboxService.record(findReservation, ReservationEventType.REJECTED);
+		availabilityGridService.released(findReservation.getStoreId(), findReservation.getReservationDateTime());
 	}
 
 }
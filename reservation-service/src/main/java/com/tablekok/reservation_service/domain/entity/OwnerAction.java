@@ -0,0 +1,26 @@
+package com.tablekok.reservation_service.domain.entity;
+
+import java.util.Set;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 오너가 예약에 일괄 적용할 수 있는 처리
+@Getter
+@RequiredArgsConstructor
+public enum OwnerAction {
+
+	DONE(ReservationStatus.DONE, ReservationEventType.DONE, Set.of(ReservationStatus.RESERVED)),
+	NOSHOW(ReservationStatus.NOSHOW, ReservationEventType.NOSHOW, Set.of(ReservationStatus.RESERVED)),
+	REJECT(ReservationStatus.REJECT, ReservationEventType.REJECTED,
+		Set.of(ReservationStatus.PENDING, ReservationStatus.RESERVED));
+
+	private final ReservationStatus targetStatus;
+	private final ReservationEventType eventType;
+	// 이 처리를 적용할 수 있는 현재 상태. 이미 종료된 예약(완료·취소·거절·노쇼)은 다시 바꾸지 않음
+	private final Set<ReservationStatus> sourceStatuses;
+
+	public boolean isApplicableTo(ReservationStatus status) {
+		return sourceStatuses.contains(status);
+	}
+}
@@ -15,7 +15,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,9 +26,27 @@ import lombok.NoArgsConstructor;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "p_reservation")
+// 같은 음식점·날짜·시간대의 살아 있는 예약은 하나만 존재 (락 없는 예약 경로의 최종 방어선)
+// 취소·거절된 슬롯은 다시 예약할 수 있어야 하므로 부분 유니크 인덱스(SLOT_CONSTRAINT) 사용
+// JPA 로는 부분 인덱스를 선언할 수 없어 기동 시 sql/reservation_slot_index.sql 로 생성
+// 기존 DB 에 살아 있는 예약끼리 겹친 슬롯이 있으면 인덱스를 만들 수 없으므로 배포 전 reservation_slot_cleanup.sql 실행
+@Table(
+	name = "p_reservation",
+	uniqueConstraints = {
+		// 예약 번호 단건 조회
+		@UniqueConstraint(name = "uk_reservation_number", columnNames = "reservation_number")
+	},
+	indexes = {
+		@Index(name = "idx_reservation_user_created", columnList = "user_id, created_at, reservation_id"),
+		// 상태와 무관한 (store_id, reservation_date, reservation_time) 순 조회·음식점 예약 목록 키셋 조회
+		@Index(name = "idx_reservation_store_slot", columnList = "store_id, reservation_date, reservation_time")
+	}
+)
 public class Reservation extends BaseEntity {
 
+	// 취소·거절(ReservationStatus.SLOT_RELEASED)을 제외한 슬롯 부분 유니크 인덱스
+	public static final String SLOT_CONSTRAINT = "uk_reservation_store_slot";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.UUID)
 	@Column(name = "reservation_id", columnDefinition = "uuid")
@@ -71,10 +91,8 @@ public class Reservation extends BaseEntity {
 	}
 
 	public static Reservation create(
-		UUID userId, UUID storeId, ReservationDateTime reservationDateTime, Integer headcount, Integer deposit) {
-
-		// 예약 번호 부여
-		String reservationNumber = "RSV-" + System.currentTimeMillis();
+		UUID userId, UUID storeId, String reservationNumber, ReservationDateTime reservationDateTime,
+		Integer headcount, Integer deposit) {
 
 		// 예약금 여부에 따라 상태 저장
 		ReservationStatus reservationStatus =
@@ -0,0 +1,18 @@
+package com.tablekok.reservation_service.domain.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 외부로 발행하는 예약 도메인 이벤트 종류
+@Getter
+@RequiredArgsConstructor
+public enum ReservationEventType {
+
+	CREATED("예약 생성"),
+	CANCELED("고객 취소"),
+	REJECTED("오너 거절"),
+	DONE("방문 완료"),
+	NOSHOW("노쇼");
+
+	private final String description;
+}
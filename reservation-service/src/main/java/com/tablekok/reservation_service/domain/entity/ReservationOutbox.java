@@ -0,0 +1,83 @@
+package com.tablekok.reservation_service.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 예약 변경과 같은 트랜잭션에서 저장되는 발행 대기 이벤트. 릴레이가 outbox_id 순으로 Kafka 에 발행
+@Table(
+	name = "p_reservation_outbox",
+	indexes = @Index(name = "idx_reservation_outbox_pending", columnList = "published_at, outbox_id")
+)
+public class ReservationOutbox {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "outbox_id")
+	private Long id;
+
+	@Column(name = "reservation_id", columnDefinition = "uuid", nullable = false)
+	private UUID reservationId;
+
+	// Kafka 메시지 키 (같은 음식점 이벤트는 같은 파티션에서 순서 보장)
+	@Column(name = "store_id", columnDefinition = "uuid", nullable = false)
+	private UUID storeId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "event_type", nullable = false)
+	private ReservationEventType eventType;
+
+	@Column(name = "payload", columnDefinition = "text", nullable = false)
+	private String payload;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "published_at")
+	private LocalDateTime publishedAt;
+
+	// 재시도로 해결되지 않는 발행 실패 횟수 (기존 행을 위해 DB 기본값 0)
+	@Column(name = "attempt_count", nullable = false, columnDefinition = "integer default 0")
+	private int attemptCount;
+
+	// 최대 시도 횟수를 넘겨 릴레이 대상에서 제외된 시각. 원인 해결 후 NULL 로 되돌려 재발행
+	@Column(name = "failed_at")
+	private LocalDateTime failedAt;
+
+	@Builder(access = AccessLevel.PRIVATE)
+	private ReservationOutbox(
+		UUID reservationId, UUID storeId, ReservationEventType eventType, String payload, LocalDateTime createdAt) {
+		this.reservationId = reservationId;
+		this.storeId = storeId;
+		this.eventType = eventType;
+		this.payload = payload;
+		this.createdAt = createdAt;
+	}
+
+	public static ReservationOutbox create(
+		UUID reservationId, UUID storeId, ReservationEventType eventType, String payload) {
+		return ReservationOutbox.builder()
+			.reservationId(reservationId)
+			.storeId(storeId)
+			.eventType(eventType)
+			.payload(payload)
+			.createdAt(LocalDateTime.now())
+			.build();
+	}
+}
@@ -1,5 +1,7 @@
 package com.tablekok.reservation_service.domain.entity;
 
+import java.util.Set;
+
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -14,5 +16,8 @@ public enum ReservationStatus {
 	REJECT("오너가 취소한 예약"),
 	NOSHOW("고객이 방문하지 않음");
 
+	// 슬롯을 비운 상태. 예약 현황·중복 검사·슬롯 유니크 인덱스 모두 이 상태의 예약은 없는 것으로 봄
+	public static final Set<ReservationStatus> SLOT_RELEASED = Set.of(CANCELED, REJECT);
+
 	private final String description;
 }
@@ -0,0 +1,23 @@
+package com.tablekok.reservation_service.domain.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.tablekok.reservation_service.domain.vo.AvailabilityGrid;
+
+public interface AvailabilityGridStore {
+	// 만들어져 있는 그리드만 반환 (없는 날짜는 재구성 대상)
+	Map<LocalDate, AvailabilityGrid> findAll(UUID storeId, List<LocalDate> dates);
+
+	// DB 에서 재구성한 그리드 저장
+	void saveAll(UUID storeId, List<AvailabilityGrid> grids);
+
+	// 예약 생성 반영
+	void markReserved(UUID storeId, LocalDate date, LocalTime time);
+
+	// 그리드 무효화
+	void evict(UUID storeId, LocalDate date);
+}
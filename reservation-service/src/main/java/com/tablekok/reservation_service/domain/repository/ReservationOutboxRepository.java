@@ -0,0 +1,31 @@
+package com.tablekok.reservation_service.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.tablekok.reservation_service.domain.entity.ReservationOutbox;
+
+public interface ReservationOutboxRepository {
+	// 발행 대기 이벤트 저장
+	void saveAll(List<ReservationOutbox> outboxes);
+
+	// 현재 트랜잭션 동안 릴레이 권한 획득. 다른 인스턴스가 릴레이 중이면 false
+	boolean tryLockRelay();
+
+	// 발행 대기 이벤트를 오래된 순으로 조회 (제외된 이벤트는 빼고)
+	List<ReservationOutbox> findPending(int limit);
+
+	// 발행 완료 처리
+	void markPublished(Collection<Long> ids, LocalDateTime publishedAt);
+
+	// 발행 실패 횟수를 늘리고, 최대 시도 횟수에 도달한 이벤트는 릴레이 대상에서 제외. 제외한 건수 반환
+	int recordFailure(Collection<Long> ids, int maxAttempts, LocalDateTime failedAt);
+
+	// 가장 오래된 발행 대기 이벤트의 생성 시각
+	Optional<LocalDateTime> findOldestPendingCreatedAt();
+
+	// 보관 기간이 지난 발행 완료 이벤트 삭제
+	int deletePublishedBefore(LocalDateTime threshold);
+}
@@ -1,22 +1,28 @@
 package com.tablekok.reservation_service.domain.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-
 import com.tablekok.reservation_service.domain.entity.Reservation;
+import com.tablekok.reservation_service.domain.entity.ReservationStatus;
+import com.tablekok.reservation_service.domain.vo.ReservationDateTime;
+import com.tablekok.reservation_service.domain.vo.ReservationSummary;
 
 public interface ReservationRepository {
 	// 예약 저장
 	void save(Reservation newReservation);
 
-	// 이미 그 시간대 예약이 있는지 확인용
-	boolean existsByStoreIdAndReservationDateTime_ReservationDateAndReservationDateTime_ReservationTime(
-		UUID storeId, LocalDate reservationDate, LocalTime reservationTime);
+	// 예약 저장 후 즉시 flush (유니크 제약 위반을 호출 지점에서 확인)
+	void saveAndFlush(Reservation newReservation);
+
+	// 이미 그 시간대 예약이 있는지 확인용 (제외할 상태의 예약은 없는 것으로 봄)
+	boolean existsByStoreIdAndReservationDateTime_ReservationDateAndReservationDateTime_ReservationTimeAndReservationStatusNotIn(
+		UUID storeId, LocalDate reservationDate, LocalTime reservationTime,
+		Collection<ReservationStatus> excludedStatuses);
 
 	// 고객 본인의 예약을 가져옴
 	Reservation findByIdAndUserId(UUID reservationId, UUID userId);
@@ -24,12 +30,21 @@ public interface ReservationRepository {
 	// 아이디로 예약 가져옴
 	Reservation findById(UUID reservationId);
 
-	// 고객이 예약한 모든 예약 조회
-	Page<Reservation> findByUserId(UUID userId, Pageable normalizedPageable);
+	// 여러 예약 한 번에 조회 (없는 ID 는 결과에서 빠짐). 상태 변경용이므로 트랜잭션이 끝날 때까지 행 잠금
+	List<Reservation> findAllByIdIn(Collection<UUID> reservationIds);
+
+	// 여러 예약 상태 한 번에 변경. 현재 상태가 fromStatuses 인 예약만 변경하고 변경된 건수 반환
+	int updateStatus(Collection<UUID> reservationIds, Collection<ReservationStatus> fromStatuses,
+		ReservationStatus status, UUID updatedBy);
+
+	// 고객 예약 목록 (최근 생성 순). 커서가 없으면 첫 페이지
+	List<ReservationSummary> findSummariesByUserId(
+		UUID userId, LocalDateTime cursorCreatedAt, UUID cursorId, int limit);
 
-	// 해당 음식점의 모든 예약 조회
-	Page<Reservation> findByStoreId(UUID storeId, Pageable normalizedPageable);
+	// 음식점 예약 목록 (최근 예약 일시 순). 커서가 없으면 첫 페이지
+	List<ReservationSummary> findSummariesByStoreId(
+		UUID storeId, LocalDateTime cursorDateTime, UUID cursorId, int limit);
 
-	// 해당 식당의 특정 일 예약 목록 조회
-	List<Reservation> findByStoreIdAndReservationDateTime_ReservationDate(UUID storeId, LocalDate date);
+	// 해당 식당의 기간 내 예약 일시만 조회 (예약 현황 그리드 재구성용, 취소·거절된 예약 제외)
+	List<ReservationDateTime> findReservationDateTimes(UUID storeId, LocalDate from, LocalDate to);
 }
@@ -0,0 +1,12 @@
+package com.tablekok.reservation_service.domain.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface SlotStore {
+	// 슬롯 선점. 비어있던 슬롯이면 true
+	boolean claimSlot(UUID storeId, LocalDate date, int slotIndex);
+
+	// 선점한 슬롯 반환 (DB 저장 실패 시 보상, 예약 취소·거절 커밋 후)
+	void releaseSlot(UUID storeId, LocalDate date, int slotIndex);
+}
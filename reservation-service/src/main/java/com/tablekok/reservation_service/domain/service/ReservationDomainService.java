@@ -3,13 +3,14 @@ package com.tablekok.reservation_service.domain.service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tablekok.exception.AppException;
+import com.tablekok.reservation_service.domain.entity.ReservationStatus;
 import com.tablekok.reservation_service.domain.exception.ReservationDomainErrorCode;
 import com.tablekok.reservation_service.domain.repository.ReservationRepository;
 import com.tablekok.reservation_service.domain.vo.ReservationDateTime;
@@ -79,13 +80,14 @@ public class ReservationDomainService {
 		}
 	}
 
-	// 중복 예약인지
+	// 중복 예약인지. 취소·거절된 예약의 슬롯은 다시 예약 가능 (예약 현황 그리드와 같은 기준)
 	@Transactional(readOnly = true)
 	public void validateDuplicateReservation(UUID storeId, ReservationDateTime reservationDateTime) {
-		boolean exists = reservationRepository.existsByStoreIdAndReservationDateTime_ReservationDateAndReservationDateTime_ReservationTime(
+		boolean exists = reservationRepository.existsByStoreIdAndReservationDateTime_ReservationDateAndReservationDateTime_ReservationTimeAndReservationStatusNotIn(
 			storeId,
 			reservationDateTime.getReservationDate(),
-			reservationDateTime.getReservationTime()
+			reservationDateTime.getReservationTime(),
+			ReservationStatus.SLOT_RELEASED
 		);
 
 		if (exists) {
@@ -93,9 +95,18 @@ public class ReservationDomainService {
 		}
 	}
 
+	// 정책 기준 슬롯 인덱스. 운영 시간 밖이거나 예약 간격에 맞지 않는 시간이면 거절
+	public int resolveSlotIndex(ReservationDateTime reservationDateTime, StoreReservationPolicy policy) {
+		int slotIndex = policy.slotIndexOf(reservationDateTime.getReservationTime());
+		if (slotIndex < 0) {
+			throw new AppException(ReservationDomainErrorCode.INVALID_RESERVATION_POLICY);
+		}
+		return slotIndex;
+	}
+
 	// 인기 음식점의 예약이면 거절
-	public void validateHotStore(List<UUID> hotStoreList, UUID storeId) {
-		if (hotStoreList.contains(storeId)) {
+	public void validateHotStore(Set<UUID> hotStores, UUID storeId) {
+		if (hotStores.contains(storeId)) {
 			throw new AppException(ReservationDomainErrorCode.HOT_STORE_RESERVATION_NOT_ALLOWED);
 		}
 	}
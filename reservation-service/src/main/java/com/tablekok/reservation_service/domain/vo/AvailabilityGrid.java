@@ -0,0 +1,33 @@
+package com.tablekok.reservation_service.domain.vo;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+// 하루 예약 현황. 정책의 예약 간격과 무관하도록 분(minute-of-day) 단위 비트셋으로 보관
+public record AvailabilityGrid(
+	LocalDate date,
+	BitSet reservedMinutes
+) {
+	public static final int MINUTES_PER_DAY = 24 * 60;
+
+	public static AvailabilityGrid of(LocalDate date, Collection<LocalTime> reservedTimes) {
+		BitSet reservedMinutes = new BitSet(MINUTES_PER_DAY);
+		reservedTimes.forEach(time -> reservedMinutes.set(minuteOf(time)));
+		return new AvailabilityGrid(date, reservedMinutes);
+	}
+
+	public static int minuteOf(LocalTime time) {
+		return time.getHour() * 60 + time.getMinute();
+	}
+
+	// 예약된 시간 목록 (오름차순)
+	public List<LocalTime> reservedTimes() {
+		List<LocalTime> times = new ArrayList<>(reservedMinutes.cardinality());
+		reservedMinutes.stream().forEach(minute -> times.add(LocalTime.of(minute / 60, minute % 60)));
+		return times;
+	}
+}
@@ -0,0 +1,26 @@
+package com.tablekok.reservation_service.domain.vo;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import com.tablekok.reservation_service.domain.entity.ReservationStatus;
+
+// 예약 목록 조회용 프로젝션 (엔티티 전체를 로딩하지 않음)
+public record ReservationSummary(
+	UUID reservationId,
+	UUID userId,
+	UUID storeId,
+	String reservationNumber,
+	LocalDate reservationDate,
+	LocalTime reservationTime,
+	Integer headcount,
+	Integer deposit,
+	ReservationStatus reservationStatus,
+	LocalDateTime createdAt
+) {
+	public LocalDateTime reservationDateTime() {
+		return LocalDateTime.of(reservationDate, reservationTime);
+	}
+}
@@ -1,5 +1,6 @@
 package com.tablekok.reservation_service.domain.vo;
 
+import java.time.Duration;
 import java.time.LocalTime;
 
 import lombok.AccessLevel;
@@ -14,15 +15,38 @@ public class StoreReservationPolicy {
 	private int minHeadCount;        // 예약 최소 인원
 	private int monthlyOpenDay;     // 다음 달 예약이 풀리는 일
 	private LocalTime openTime;        // 다음 달 예약이 풀리는 시간
+	private int reservationInterval;   // 예약 가능한 시간 간격 (분)
+	private LocalTime dailyReservationStartTime; // 하루 예약 시작 시간
+	private LocalTime dailyReservationEndTime;   // 하루 예약 마감 시간
 
 	public static StoreReservationPolicy of(
-		boolean isActive, int maxHeadcount, int minHeadCount, int monthlyOpenDay, LocalTime openTime) {
+		boolean isActive, int maxHeadcount, int minHeadCount, int monthlyOpenDay, LocalTime openTime,
+		int reservationInterval, LocalTime dailyReservationStartTime, LocalTime dailyReservationEndTime) {
 		return StoreReservationPolicy.builder()
 			.isActive(isActive)
 			.maxHeadcount(maxHeadcount)
 			.minHeadCount(minHeadCount)
 			.monthlyOpenDay(monthlyOpenDay)
 			.openTime(openTime)
+			.reservationInterval(reservationInterval)
+			.dailyReservationStartTime(dailyReservationStartTime)
+			.dailyReservationEndTime(dailyReservationEndTime)
 			.build();
 	}
+
+	// 예약 시간이 몇 번째 슬롯인지. 운영 시간 밖이거나 간격에 맞지 않으면 -1
+	public int slotIndexOf(LocalTime reservationTime) {
+		if (reservationInterval <= 0 || dailyReservationStartTime == null || dailyReservationEndTime == null) {
+			return -1;
+		}
+		if (reservationTime.isBefore(dailyReservationStartTime) || !reservationTime.isBefore(dailyReservationEndTime)) {
+			return -1;
+		}
+
+		long minutes = Duration.between(dailyReservationStartTime, reservationTime).toMinutes();
+		if (minutes % reservationInterval != 0 || reservationTime.getSecond() != 0) {
+			return -1;
+		}
+		return (int)(minutes / reservationInterval);
+	}
 }
@@ -1,5 +1,10 @@
 package com.tablekok.reservation_service.global.aop;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -12,8 +17,13 @@ import org.springframework.stereotype.Component;
 import com.tablekok.reservation_service.global.annotation.DistributedLock;
 import com.tablekok.reservation_service.global.util.CustomSpringELParser;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+// hot-reservation-service 와 같은 코드 (공통 모듈이 별도 저장소 배포본이라 서비스마다 복사). 수정 시 함께 반영
+@Slf4j
 @Aspect
 @Component
 @Order(1) // @Transactional보다 먼저 실행되도록 낮은 숫자로 우선순위 설정
@@ -21,32 +31,100 @@ import lombok.RequiredArgsConstructor;
 public class DistributedLockAspect {
 	private final RedissonClient redissonClient;
 	private final CallTransaction callTransaction;
+	private final MeterRegistry meterRegistry;
 
 	@Around("@annotation(distributedLock)")
 	public Object lock(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
 		MethodSignature signature = (MethodSignature)joinPoint.getSignature();
 
-		// 1. SpEL 유틸을 사용하여 동적 키 생성
-		String key = (String)CustomSpringELParser.getDynamicValue(
-			signature.getParameterNames(), joinPoint.getArgs(), distributedLock.key());
+		// 1. SpEL 유틸을 사용하여 동적 키 생성 (단일 키 또는 여러 키)
+		List<String> keys = toKeys(CustomSpringELParser.getDynamicValue(
+			signature.getParameterNames(), joinPoint.getArgs(), distributedLock.key()));
 
-		RLock lock = redissonClient.getLock("lock:" + key);
+		String name = distributedLock.name().isEmpty() ? signature.getName() : distributedLock.name();
+		List<RLock> locks = new ArrayList<>(keys.size());
+		boolean acquired = false;
 
 		try {
-			// 2. 락 획득 시도
-			boolean available = lock.tryLock(distributedLock.waitTime(), distributedLock.leaseTime(),
-				distributedLock.timeUnit());
-			if (!available) {
+			// 2. 락 획득 시도. 여러 키는 정렬된 순서로 하나씩 잠그고, 대기 시간은 전체 키에 걸쳐 적용
+			long waitStart = System.nanoTime();
+			acquired = tryLockAll(keys, locks, distributedLock, waitStart);
+			timer("distributed.lock.wait", name, acquired).record(System.nanoTime() - waitStart,
+				TimeUnit.NANOSECONDS);
+
+			if (!acquired) {
 				throw new RuntimeException("현재 요청이 많아 처리가 지연되고 있습니다.");
 			}
 
 			// 3. 트랜잭션이 보장된 메서드 대리 실행
-			return callTransaction.proceed(joinPoint);
+			long holdStart = System.nanoTime();
+			try {
+				return callTransaction.proceed(joinPoint);
+			} finally {
+				timer("distributed.lock.hold", name, true).record(System.nanoTime() - holdStart,
+					TimeUnit.NANOSECONDS);
+			}
 		} finally {
-			// 4. 락 해제
-			if (lock.isHeldByCurrentThread()) {
-				lock.unlock();
+			// 4. 락 해제. 일부만 잡은 경우도 잡은 락은 모두 역순으로 해제
+			unlockAll(keys, locks);
+		}
+	}
+
+	// 여러 슬롯은 항상 같은 순서로 잠그도록 정렬 (교착 방지)
+	private List<String> toKeys(Object value) {
+		if (value instanceof Collection<?> collection) {
+			return collection.stream()
+				.map(String::valueOf)
+				.distinct()
+				.sorted()
+				.toList();
+		}
+		return List.of(String.valueOf(value));
+	}
+
+	// 잡은 락은 locks 에 순서대로 추가. 하나라도 대기 시간 안에 잡지 못하면 false
+	// RedissonMultiLock 은 isHeldByCurrentThread 를 지원하지 않아 만료된 락을 구분할 수 없으므로 RLock 을 하나씩 사용
+	private boolean tryLockAll(List<String> keys, List<RLock> locks, DistributedLock distributedLock,
+		long waitStart) throws InterruptedException {
+		long waitNanos = distributedLock.timeUnit().toNanos(distributedLock.waitTime());
+		for (String key : keys) {
+			long remaining = Math.max(0, waitNanos - (System.nanoTime() - waitStart));
+			RLock lock = redissonClient.getLock("lock:" + key);
+			if (!lock.tryLock(remaining, distributedLock.timeUnit().toNanos(distributedLock.leaseTime()),
+				TimeUnit.NANOSECONDS)) {
+				return false;
 			}
+			locks.add(lock);
 		}
+		return true;
+	}
+
+	// 점유 시간(leaseTime)이 지나 이미 풀린 락은 해제하지 않음
+	// (트랜잭션은 이미 커밋되었으므로 예외를 던지면 저장된 예약이 실패로 응답됨)
+	private void unlockAll(List<String> keys, List<RLock> locks) {
+		for (int i = locks.size() - 1; i >= 0; i--) {
+			unlock(locks.get(i), keys.get(i));
+		}
+	}
+
+	private void unlock(RLock lock, String key) {
+		if (!lock.isHeldByCurrentThread()) {
+			log.warn("락 점유 시간이 지나 먼저 해제됨 key={}", key);
+			return;
+		}
+		try {
+			lock.unlock();
+		} catch (IllegalMonitorStateException e) {
+			// 확인 직후 점유 시간이 만료된 경우
+			log.warn("락 점유 시간이 지나 먼저 해제됨 key={}", key);
+		}
+	}
+
+	private Timer timer(String metricName, String name, boolean acquired) {
+		return Timer.builder(metricName)
+			.tag("name", name)
+			.tag("acquired", String.valueOf(acquired))
+			.publishPercentileHistogram()
+			.register(meterRegistry);
 	}
 }
@@ -1,7 +1,10 @@
 package com.tablekok.reservation_service.infrastructure.client;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
@@ -9,6 +12,7 @@ import com.tablekok.exception.AppException;
 import com.tablekok.reservation_service.application.client.StoreClient;
 import com.tablekok.reservation_service.application.client.dto.request.OwnerVerificationRequest;
 import com.tablekok.reservation_service.application.client.dto.response.GetStoreReservationPolicyResponse;
+import com.tablekok.reservation_service.application.client.dto.response.OwnerVerificationResponse;
 import com.tablekok.reservation_service.application.exception.ReservationErrorCode;
 
 import lombok.RequiredArgsConstructor;
@@ -37,9 +41,24 @@ public class StoreClientImpl implements StoreClient {
 	}
 
 	@Override
-	public List<UUID> getHotStores() {
+	public Set<UUID> findOwnedStores(UUID ownerId, Collection<UUID> storeIds) {
+		List<OwnerVerificationRequest> requests = storeIds.stream()
+			.map(storeId -> OwnerVerificationRequest.of(storeId, ownerId))
+			.toList();
 		try {
-			return storeFeignClient.getPopularStores().getBody();
+			return storeFeignClient.verifyStoreOwners(requests).getBody().stream()
+				.filter(OwnerVerificationResponse::isOwner)
+				.map(OwnerVerificationResponse::storeId)
+				.collect(Collectors.toSet());
+		} catch (Exception e) {
+			throw new AppException(ReservationErrorCode.INTERNAL_CANNOT_CONNECT);
+		}
+	}
+
+	@Override
+	public Set<UUID> getHotStores() {
+		try {
+			return Set.copyOf(storeFeignClient.getPopularStores().getBody());
 		} catch (Exception e) {
 			throw new AppException(ReservationErrorCode.INTERNAL_CANNOT_CONNECT);
 		}
@@ -0,0 +1,194 @@
+package com.tablekok.reservation_service.infrastructure.client;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tablekok.exception.AppException;
+import com.tablekok.reservation_service.application.client.StoreClient;
+import com.tablekok.reservation_service.application.client.dto.request.OwnerVerificationRequest;
+import com.tablekok.reservation_service.application.client.dto.response.GetStoreReservationPolicyResponse;
+import com.tablekok.reservation_service.application.dto.event.StoreEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+// store-service 조회 앞단의 로컬 캐시. TTL 과 store-events 이벤트로 갱신
+@Slf4j
+@Primary
+@Component
+public class StoreClientNearCache implements StoreClient {
+	private final StoreClientImpl storeClient;
+
+	// 음식점별 예약 정책
+	private final Cache<UUID, GetStoreReservationPolicyResponse> policyCache;
+
+	// 음식점별 오너 ID. 소유가 확인된 경우만 저장 (아닌 경우는 캐시하지 않고 매번 확인)
+	// 음식점 변경 이벤트에서 키 하나만 무효화하면 됨
+	private final Cache<UUID, UUID> ownerCache;
+
+	// 인기 음식점 목록. 전체를 주기적으로 다시 받고, 그 사이에는 이벤트로 추가·삭제
+	// 변경 시 새 불변 Set 을 만들어 교체하므로 읽는 쪽은 항상 완성된 목록만 봄
+	private volatile Set<UUID> hotStores = Set.of();
+	private final ReentrantLock hotStoresLock = new ReentrantLock();
+	private final Object hotStoresWriteLock = new Object();
+	private final long hotStoresTtl;
+	private volatile long hotStoresLoadedAt = 0L;
+
+	private final Counter hotStoresHit;
+	private final Counter hotStoresMiss;
+
+	public StoreClientNearCache(
+		StoreClientImpl storeClient,
+		MeterRegistry meterRegistry,
+		@Value("${store.cache.policy.max-size}") long policyMaxSize,
+		@Value("${store.cache.policy.ttl}") long policyTtl,
+		@Value("${store.cache.hot-stores.ttl}") long hotStoresTtl,
+		@Value("${store.cache.owner.max-size}") long ownerMaxSize,
+		@Value("${store.cache.owner.ttl}") long ownerTtl
+	) {
+		this.storeClient = storeClient;
+		this.hotStoresTtl = hotStoresTtl;
+
+		this.policyCache = Caffeine.newBuilder()
+			.maximumSize(policyMaxSize)
+			.expireAfterWrite(Duration.ofMillis(policyTtl))
+			.recordStats()
+			.build();
+		// cache.gets{cache=store.policy, result=hit|miss}, cache.evictions 등
+		CaffeineCacheMetrics.monitor(meterRegistry, policyCache, "store.policy");
+
+		this.ownerCache = Caffeine.newBuilder()
+			.maximumSize(ownerMaxSize)
+			.expireAfterWrite(Duration.ofMillis(ownerTtl))
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, ownerCache, "store.owner");
+
+		this.hotStoresHit = meterRegistry.counter("cache.gets", "cache", "store.hot-stores", "result", "hit");
+		this.hotStoresMiss = meterRegistry.counter("cache.gets", "cache", "store.hot-stores", "result", "miss");
+	}
+
+	@Override
+	public GetStoreReservationPolicyResponse getStoreReservationPolicy(UUID storeId) {
+		return policyCache.get(storeId, storeClient::getStoreReservationPolicy);
+	}
+
+	// 음식점의 오너는 한 명이므로 캐시된 오너와 다르면 소유하지 않은 것으로 판단
+	@Override
+	public boolean checkStoreOwner(OwnerVerificationRequest request) {
+		UUID cachedOwnerId = ownerCache.getIfPresent(request.storeId());
+		if (cachedOwnerId != null) {
+			return cachedOwnerId.equals(request.ownerId());
+		}
+		boolean owner = storeClient.checkStoreOwner(request);
+		if (owner) {
+			ownerCache.put(request.storeId(), request.ownerId());
+		}
+		return owner;
+	}
+
+	// 오너가 캐시되지 않은 음식점만 모아 한 번의 배치 검증으로 채움
+	@Override
+	public Set<UUID> findOwnedStores(UUID ownerId, Collection<UUID> storeIds) {
+		Map<UUID, UUID> cachedOwners = ownerCache.getAllPresent(storeIds);
+		Set<UUID> owned = cachedOwners.entrySet().stream()
+			.filter(entry -> entry.getValue().equals(ownerId))
+			.map(Map.Entry::getKey)
+			.collect(Collectors.toCollection(HashSet::new));
+
+		Set<UUID> missingStoreIds = storeIds.stream()
+			.filter(storeId -> !cachedOwners.containsKey(storeId))
+			.collect(Collectors.toSet());
+		if (!missingStoreIds.isEmpty()) {
+			Set<UUID> verified = storeClient.findOwnedStores(ownerId, missingStoreIds);
+			verified.forEach(storeId -> ownerCache.put(storeId, ownerId));
+			owned.addAll(verified);
+		}
+		return owned;
+	}
+
+	@Override
+	public Set<UUID> getHotStores() {
+		if (isHotStoresFresh()) {
+			hotStoresHit.increment();
+		} else {
+			hotStoresMiss.increment();
+			refreshHotStores();
+		}
+		return hotStores;
+	}
+
+	// store-events 반영
+	public void onStoreChanged(StoreEvent event) {
+		UUID storeId = event.storeId();
+		policyCache.invalidate(storeId);
+		// 이벤트에 오너 정보가 없으므로 해당 음식점의 오너는 다시 확인
+		ownerCache.invalidate(storeId);
+
+		if (event.isDeleted() || Boolean.FALSE.equals(event.isHot())) {
+			updateHotStores(stores -> stores.remove(storeId));
+		} else if (Boolean.TRUE.equals(event.isHot())) {
+			updateHotStores(stores -> stores.add(storeId));
+		}
+	}
+
+	private boolean isHotStoresFresh() {
+		long loadedAt = hotStoresLoadedAt;
+		return loadedAt > 0 && System.currentTimeMillis() - loadedAt < hotStoresTtl;
+	}
+
+	// 만료를 본 요청 중 하나만 다시 조회하고 나머지는 이전 목록 사용. 최초 로딩만 대기
+	private void refreshHotStores() {
+		boolean loaded = hotStoresLoadedAt > 0;
+		if (loaded) {
+			if (!hotStoresLock.tryLock()) {
+				return;
+			}
+		} else {
+			hotStoresLock.lock();
+		}
+
+		try {
+			if (isHotStoresFresh()) {
+				return;
+			}
+			Set<UUID> latest = Set.copyOf(storeClient.getHotStores());
+			synchronized (hotStoresWriteLock) {
+				hotStores = latest;
+			}
+			hotStoresLoadedAt = System.currentTimeMillis();
+		} catch (AppException e) {
+			// store-service 장애 시 이전 목록이 있으면 그대로 사용
+			if (!loaded) {
+				throw e;
+			}
+			log.warn("인기 음식점 목록 갱신 실패, 이전 목록 사용", e);
+		} finally {
+			hotStoresLock.unlock();
+		}
+	}
+
+	// 이벤트 반영은 복사본을 수정한 뒤 교체. 동시에 들어온 이벤트끼리 서로의 변경을 덮어쓰지 않도록 직렬화
+	private void updateHotStores(Consumer<Set<UUID>> change) {
+		synchronized (hotStoresWriteLock) {
+			Set<UUID> next = new HashSet<>(hotStores);
+			change.accept(next);
+			hotStores = Set.copyOf(next);
+		}
+	}
+}
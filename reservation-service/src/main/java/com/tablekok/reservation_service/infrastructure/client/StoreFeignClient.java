@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import com.tablekok.dto.ApiResponse;
 import com.tablekok.reservation_service.application.client.dto.request.OwnerVerificationRequest;
 import com.tablekok.reservation_service.application.client.dto.response.GetStoreReservationPolicyResponse;
+import com.tablekok.reservation_service.application.client.dto.response.OwnerVerificationResponse;
 
 @FeignClient(name = "store-service", url = "${lb.dns.store}")
 public interface StoreFeignClient {
@@ -24,6 +25,10 @@ public interface StoreFeignClient {
 	@PostMapping("/v1/internal/stores/verify-owner")
 	ResponseEntity<Boolean> verifyStoreOwner(@RequestBody OwnerVerificationRequest request);
 
+	@PostMapping("/v1/internal/stores/verify-owner/batch")
+	ResponseEntity<List<OwnerVerificationResponse>> verifyStoreOwners(
+		@RequestBody List<OwnerVerificationRequest> requests);
+
 	@GetMapping("/v1/internal/stores/popular")
 	ResponseEntity<List<UUID>> getPopularStores();
 }
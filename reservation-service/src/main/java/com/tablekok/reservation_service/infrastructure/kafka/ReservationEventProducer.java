@@ -0,0 +1,84 @@
+package com.tablekok.reservation_service.infrastructure.kafka;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import com.tablekok.reservation_service.application.port.ReservationEventPublisher;
+import com.tablekok.reservation_service.domain.entity.ReservationOutbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationEventProducer implements ReservationEventPublisher {
+
+	private final KafkaTemplate<String, String> kafkaTemplate;
+
+	@Value("${reservation.outbox.topic}")
+	private String topic;
+
+	@Value("${reservation.outbox.relay.send-timeout}")
+	private long sendTimeout;
+
+	@Override
+	public PublishResult publishAll(List<ReservationOutbox> outboxes) {
+		// 묶음 전체를 먼저 보내고 한 번에 대기 -> 프로듀서가 배치·압축
+		List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(outboxes.size());
+		for (ReservationOutbox outbox : outboxes) {
+			futures.add(kafkaTemplate.send(topic, outbox.getStoreId().toString(), outbox.getPayload()));
+		}
+		kafkaTemplate.flush();
+
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(sendTimeout, TimeUnit.MILLISECONDS);
+		} catch (Exception e) {
+			log.warn("예약 이벤트 발행 대기 중 실패 size={}", outboxes.size(), e);
+		}
+
+		// 같은 음식점에서 앞선 이벤트가 실패하면 뒤 이벤트도 미발행으로 남겨 다음 주기에 순서대로 재발행
+		Set<Long> publishedIds = new LinkedHashSet<>();
+		Set<Long> failedIds = new LinkedHashSet<>();
+		Set<UUID> failedStores = new HashSet<>();
+		for (int i = 0; i < outboxes.size(); i++) {
+			ReservationOutbox outbox = outboxes.get(i);
+			CompletableFuture<SendResult<String, String>> future = futures.get(i);
+			boolean sent = future.isDone() && !future.isCompletedExceptionally();
+			if (!sent && isPermanentFailure(future)) {
+				failedIds.add(outbox.getId());
+			}
+			if (!sent || failedStores.contains(outbox.getStoreId())) {
+				failedStores.add(outbox.getStoreId());
+				continue;
+			}
+			publishedIds.add(outbox.getId());
+		}
+		return new PublishResult(publishedIds, failedIds);
+	}
+
+	// 메시지 크기 초과처럼 다시 보내도 실패하는 오류. 브로커 장애, 시간 초과(RetriableException)나 미완료는 제외
+	private boolean isPermanentFailure(CompletableFuture<?> future) {
+		if (!future.isCompletedExceptionally()) {
+			return false;
+		}
+		for (Throwable cause = future.exceptionNow(); cause != null; cause = cause.getCause()) {
+			if (cause instanceof RetriableException) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,128 @@
+package com.tablekok.reservation_service.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.tablekok.reservation_service.domain.repository.AvailabilityGridStore;
+import com.tablekok.reservation_service.domain.vo.AvailabilityGrid;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class AvailabilityGridStoreAdapter implements AvailabilityGridStore {
+
+	// 예약 시간 기록 + 최초 만료 설정
+	private static final RedisScript<Long> MARK_RESERVED_TIME_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/mark_reserved_time.lua"), Long.class);
+
+	// 하루치 비트(0~1439) 뒤에 DB 재구성이 끝난 그리드임을 표시하는 비트
+	private static final int READY_OFFSET = AvailabilityGrid.MINUTES_PER_DAY;
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Value("${redis.grid.key}")
+	private String GRID_KEY;
+	@Value("${redis.grid.ttl}")
+	private long GRID_TTL;
+	@Value("${redis.grid.past-ttl}")
+	private long PAST_GRID_TTL;
+
+	@Override
+	public Map<LocalDate, AvailabilityGrid> findAll(UUID storeId, List<LocalDate> dates) {
+		byte[][] keys = dates.stream().map(date -> rawKey(storeId, date)).toArray(byte[][]::new);
+		List<byte[]> values = redisTemplate.execute(
+			(RedisCallback<List<byte[]>>)connection -> connection.stringCommands().mGet(keys));
+
+		Map<LocalDate, AvailabilityGrid> grids = new HashMap<>();
+		if (values == null) {
+			return grids;
+		}
+		for (int i = 0; i < dates.size(); i++) {
+			BitSet bits = toBitSet(values.get(i));
+			if (bits.get(READY_OFFSET)) {
+				grids.put(dates.get(i), new AvailabilityGrid(dates.get(i), bits.get(0, READY_OFFSET)));
+			}
+		}
+		return grids;
+	}
+
+	@Override
+	public void saveAll(UUID storeId, List<AvailabilityGrid> grids) {
+		// 덮어쓰지 않고 비트를 더하기만 해서, 재구성 중에 들어온 예약 기록이 사라지지 않도록 함
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (AvailabilityGrid grid : grids) {
+				byte[] key = rawKey(storeId, grid.date());
+				grid.reservedMinutes().stream()
+					.forEach(minute -> connection.stringCommands().setBit(key, minute, true));
+				connection.stringCommands().setBit(key, READY_OFFSET, true);
+				connection.keyCommands().pExpireAt(key, expireAt(grid.date()));
+			}
+			return null;
+		});
+	}
+
+	@Override
+	public void markReserved(UUID storeId, LocalDate date, LocalTime time) {
+		redisTemplate.execute(
+			MARK_RESERVED_TIME_SCRIPT,
+			List.of(gridKey(storeId, date)),
+			String.valueOf(AvailabilityGrid.minuteOf(time)),
+			String.valueOf(expireAt(date))
+		);
+	}
+
+	@Override
+	public void evict(UUID storeId, LocalDate date) {
+		redisTemplate.delete(gridKey(storeId, date));
+	}
+
+	private String gridKey(UUID storeId, LocalDate date) {
+		return GRID_KEY + ":" + storeId + ":" + date;
+	}
+
+	private byte[] rawKey(UUID storeId, LocalDate date) {
+		return gridKey(storeId, date).getBytes(StandardCharsets.UTF_8);
+	}
+
+	// 예약일이 지나거나 TTL 이 지나면 만료 (누락된 갱신이 있어도 TTL 안에 복구)
+	// 이미 지난 날짜는 더 바뀌지 않으므로 긴 TTL (과거 날짜 조회마다 재구성하지 않도록)
+	private long expireAt(LocalDate date) {
+		long now = System.currentTimeMillis();
+		long endOfDate = date.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		if (endOfDate <= now) {
+			return now + PAST_GRID_TTL;
+		}
+		return Math.min(endOfDate, now + GRID_TTL);
+	}
+
+	// Redis 비트맵은 바이트마다 상위 비트부터 오프셋이 증가
+	private BitSet toBitSet(byte[] value) {
+		BitSet bits = new BitSet();
+		if (value == null) {
+			return bits;
+		}
+		for (int i = 0; i < value.length; i++) {
+			for (int j = 0; j < 8; j++) {
+				if ((value[i] & (0x80 >>> j)) != 0) {
+					bits.set(i * 8 + j);
+				}
+			}
+		}
+		return bits;
+	}
+}
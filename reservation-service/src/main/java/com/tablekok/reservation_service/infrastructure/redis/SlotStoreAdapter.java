@@ -0,0 +1,55 @@
+package com.tablekok.reservation_service.infrastructure.redis;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.tablekok.reservation_service.domain.repository.SlotStore;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SlotStoreAdapter implements SlotStore {
+
+	// SETBIT 과 최초 만료 설정을 한 번에 처리
+	private static final RedisScript<Long> CLAIM_SLOT_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/claim_slot.lua"), Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Value("${redis.slot.key}")
+	private String SLOT_KEY;
+
+	@Override
+	public boolean claimSlot(UUID storeId, LocalDate date, int slotIndex) {
+		Long previous = redisTemplate.execute(
+			CLAIM_SLOT_SCRIPT,
+			List.of(slotKey(storeId, date)),
+			String.valueOf(slotIndex),
+			String.valueOf(expireAt(date))
+		);
+		return previous != null && previous == 0L;
+	}
+
+	@Override
+	public void releaseSlot(UUID storeId, LocalDate date, int slotIndex) {
+		redisTemplate.opsForValue().setBit(slotKey(storeId, date), slotIndex, false);
+	}
+
+	private String slotKey(UUID storeId, LocalDate date) {
+		return SLOT_KEY + ":" + storeId + ":" + date;
+	}
+
+	// 예약일이 지나면 비트맵은 필요 없음
+	private long expireAt(LocalDate date) {
+		return date.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+}
@@ -1,30 +1,121 @@
 package com.tablekok.reservation_service.infrastructure.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.tablekok.reservation_service.domain.entity.Reservation;
+import com.tablekok.reservation_service.domain.entity.ReservationStatus;
+import com.tablekok.reservation_service.domain.vo.ReservationDateTime;
+import com.tablekok.reservation_service.domain.vo.ReservationSummary;
+
+import jakarta.persistence.LockModeType;
 
 public interface ReservationJpaRepository extends JpaRepository<Reservation, UUID> {
 
-	boolean existsByStoreIdAndReservationDateTime_ReservationDateAndReservationDateTime_ReservationTime(
+	boolean existsByStoreIdAndReservationDateTime_ReservationDateAndReservationDateTime_ReservationTimeAndReservationStatusNotIn(
 		UUID storeId,
 		LocalDate reservationDate,
-		LocalTime reservationTime
+		LocalTime reservationTime,
+		Collection<ReservationStatus> excludedStatuses
 	);
 
 	Optional<Reservation> findByIdAndUserId(UUID reservationId, UUID userId);
 
-	Page<Reservation> findByUserId(UUID userId, Pageable pageable);
+	// 조회한 상태로 처리 가능 여부를 판단하므로 UPDATE 까지 다른 트랜잭션의 상태 변경을 막음
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	List<Reservation> findAllByIdIn(Collection<UUID> reservationIds);
+
+	// 영속성 컨텍스트를 거치지 않는 단일 UPDATE. 감사 필드는 직접 갱신
+	// 현재 상태 조건으로 이미 종료된 예약은 덮어쓰지 않음
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Reservation r " +
+		"SET r.reservationStatus = :status, r.updatedAt = :updatedAt, r.updatedBy = :updatedBy " +
+		"WHERE r.id IN :reservationIds " +
+		"AND r.reservationStatus IN :fromStatuses")
+	int updateStatus(
+		@Param("reservationIds") Collection<UUID> reservationIds,
+		@Param("fromStatuses") Collection<ReservationStatus> fromStatuses,
+		@Param("status") ReservationStatus status,
+		@Param("updatedAt") LocalDateTime updatedAt,
+		@Param("updatedBy") UUID updatedBy
+	);
 
-	Page<Reservation> findByStoreId(UUID storeId, Pageable pageable);
+	// 고객 예약 목록 첫 페이지
+	@Query("SELECT new com.tablekok.reservation_service.domain.vo.ReservationSummary(" +
+		"r.id, r.userId, r.storeId, r.reservationNumber, " +
+		"r.reservationDateTime.reservationDate, r.reservationDateTime.reservationTime, " +
+		"r.headcount, r.deposit, r.reservationStatus, r.createdAt) " +
+		"FROM Reservation r " +
+		"WHERE r.userId = :userId " +
+		"ORDER BY r.createdAt DESC, r.id DESC")
+	List<ReservationSummary> findSummariesByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+	// 고객 예약 목록 다음 페이지 (createdAt, id) < (cursor)
+	@Query("SELECT new com.tablekok.reservation_service.domain.vo.ReservationSummary(" +
+		"r.id, r.userId, r.storeId, r.reservationNumber, " +
+		"r.reservationDateTime.reservationDate, r.reservationDateTime.reservationTime, " +
+		"r.headcount, r.deposit, r.reservationStatus, r.createdAt) " +
+		"FROM Reservation r " +
+		"WHERE r.userId = :userId " +
+		"AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :cursorId)) " +
+		"ORDER BY r.createdAt DESC, r.id DESC")
+	List<ReservationSummary> findSummariesByUserIdAfter(
+		@Param("userId") UUID userId,
+		@Param("createdAt") LocalDateTime createdAt,
+		@Param("cursorId") UUID cursorId,
+		Pageable pageable
+	);
 
-	List<Reservation> findByStoreIdAndReservationDateTime_ReservationDate(UUID storeId, LocalDate date);
+	// 음식점 예약 목록 첫 페이지
+	@Query("SELECT new com.tablekok.reservation_service.domain.vo.ReservationSummary(" +
+		"r.id, r.userId, r.storeId, r.reservationNumber, " +
+		"r.reservationDateTime.reservationDate, r.reservationDateTime.reservationTime, " +
+		"r.headcount, r.deposit, r.reservationStatus, r.createdAt) " +
+		"FROM Reservation r " +
+		"WHERE r.storeId = :storeId " +
+		"ORDER BY r.reservationDateTime.reservationDate DESC, r.reservationDateTime.reservationTime DESC, r.id DESC")
+	List<ReservationSummary> findSummariesByStoreId(@Param("storeId") UUID storeId, Pageable pageable);
+
+	// 음식점 예약 목록 다음 페이지 (date, time, id) < (cursor)
+	@Query("SELECT new com.tablekok.reservation_service.domain.vo.ReservationSummary(" +
+		"r.id, r.userId, r.storeId, r.reservationNumber, " +
+		"r.reservationDateTime.reservationDate, r.reservationDateTime.reservationTime, " +
+		"r.headcount, r.deposit, r.reservationStatus, r.createdAt) " +
+		"FROM Reservation r " +
+		"WHERE r.storeId = :storeId " +
+		"AND (r.reservationDateTime.reservationDate < :date " +
+		"OR (r.reservationDateTime.reservationDate = :date AND r.reservationDateTime.reservationTime < :time) " +
+		"OR (r.reservationDateTime.reservationDate = :date AND r.reservationDateTime.reservationTime = :time " +
+		"AND r.id < :cursorId)) " +
+		"ORDER BY r.reservationDateTime.reservationDate DESC, r.reservationDateTime.reservationTime DESC, r.id DESC")
+	List<ReservationSummary> findSummariesByStoreIdAfter(
+		@Param("storeId") UUID storeId,
+		@Param("date") LocalDate date,
+		@Param("time") LocalTime time,
+		@Param("cursorId") UUID cursorId,
+		Pageable pageable
+	);
+
+	@Query("SELECT r.reservationDateTime FROM Reservation r " +
+		"WHERE r.storeId = :storeId " +
+		"AND r.reservationDateTime.reservationDate BETWEEN :from AND :to " +
+		"AND r.reservationStatus NOT IN :releasedStatuses")
+	List<ReservationDateTime> findReservationDateTimes(
+		@Param("storeId") UUID storeId,
+		@Param("from") LocalDate from,
+		@Param("to") LocalDate to,
+		@Param("releasedStatuses") Collection<ReservationStatus> releasedStatuses
+	);
 }
@@ -0,0 +1,50 @@
+package com.tablekok.reservation_service.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.tablekok.reservation_service.domain.entity.ReservationOutbox;
+
+public interface ReservationOutboxJpaRepository extends JpaRepository<ReservationOutbox, Long> {
+
+	// 트랜잭션이 끝나면 자동으로 풀리는 advisory lock. 인스턴스가 죽어도 커넥션과 함께 해제
+	@Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+	boolean tryAdvisoryXactLock(@Param("key") long key);
+
+	@Query(value = "SELECT * FROM p_reservation_outbox " +
+		"WHERE published_at IS NULL AND failed_at IS NULL " +
+		"ORDER BY outbox_id " +
+		"LIMIT :limit", nativeQuery = true)
+	List<ReservationOutbox> findPending(@Param("limit") int limit);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE ReservationOutbox o SET o.publishedAt = :publishedAt WHERE o.id IN :ids")
+	int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE ReservationOutbox o SET o.attemptCount = o.attemptCount + 1 WHERE o.id IN :ids")
+	int increaseAttemptCount(@Param("ids") Collection<Long> ids);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE ReservationOutbox o SET o.failedAt = :failedAt " +
+		"WHERE o.id IN :ids AND o.attemptCount >= :maxAttempts")
+	int markFailed(
+		@Param("ids") Collection<Long> ids,
+		@Param("maxAttempts") int maxAttempts,
+		@Param("failedAt") LocalDateTime failedAt
+	);
+
+	@Query("SELECT MIN(o.createdAt) FROM ReservationOutbox o WHERE o.publishedAt IS NULL AND o.failedAt IS NULL")
+	Optional<LocalDateTime> findOldestPendingCreatedAt();
+
+	@Modifying
+	@Query("DELETE FROM ReservationOutbox o WHERE o.publishedAt < :threshold")
+	int deletePublishedBefore(@Param("threshold") LocalDateTime threshold);
+}
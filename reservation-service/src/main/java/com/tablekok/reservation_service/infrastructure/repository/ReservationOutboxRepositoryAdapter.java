@@ -0,0 +1,65 @@
+package com.tablekok.reservation_service.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+
+import com.tablekok.reservation_service.domain.entity.ReservationOutbox;
+import com.tablekok.reservation_service.domain.repository.ReservationOutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationOutboxRepositoryAdapter implements ReservationOutboxRepository {
+
+	// 예약 이벤트 릴레이 advisory lock 키
+	private static final long RELAY_LOCK_KEY = 7_301_001L;
+
+	private final ReservationOutboxJpaRepository reservationOutboxJpaRepository;
+
+	@Override
+	public void saveAll(List<ReservationOutbox> outboxes) {
+		reservationOutboxJpaRepository.saveAll(outboxes);
+	}
+
+	@Override
+	public boolean tryLockRelay() {
+		return reservationOutboxJpaRepository.tryAdvisoryXactLock(RELAY_LOCK_KEY);
+	}
+
+	@Override
+	public List<ReservationOutbox> findPending(int limit) {
+		return reservationOutboxJpaRepository.findPending(limit);
+	}
+
+	@Override
+	public void markPublished(Collection<Long> ids, LocalDateTime publishedAt) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		reservationOutboxJpaRepository.markPublished(ids, publishedAt);
+	}
+
+	@Override
+	public int recordFailure(Collection<Long> ids, int maxAttempts, LocalDateTime failedAt) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		reservationOutboxJpaRepository.increaseAttemptCount(ids);
+		return reservationOutboxJpaRepository.markFailed(ids, maxAttempts, failedAt);
+	}
+
+	@Override
+	public Optional<LocalDateTime> findOldestPendingCreatedAt() {
+		return reservationOutboxJpaRepository.findOldestPendingCreatedAt();
+	}
+
+	@Override
+	public int deletePublishedBefore(LocalDateTime threshold) {
+		return reservationOutboxJpaRepository.deletePublishedBefore(threshold);
+	}
+}
@@ -1,18 +1,23 @@
 package com.tablekok.reservation_service.infrastructure.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import com.tablekok.exception.AppException;
 import com.tablekok.reservation_service.application.exception.ReservationErrorCode;
 import com.tablekok.reservation_service.domain.entity.Reservation;
+import com.tablekok.reservation_service.domain.entity.ReservationStatus;
 import com.tablekok.reservation_service.domain.repository.ReservationRepository;
+import com.tablekok.reservation_service.domain.vo.ReservationDateTime;
+import com.tablekok.reservation_service.domain.vo.ReservationSummary;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,10 +32,16 @@ public class ReservationRepositoryAdapter implements ReservationRepository {
 	}
 
 	@Override
-	public boolean existsByStoreIdAndReservationDateTime_ReservationDateAndReservationDateTime_ReservationTime(
-		UUID storeId, LocalDate reservationDate, LocalTime reservationTime) {
-		return reservationJpaRepository.existsByStoreIdAndReservationDateTime_ReservationDateAndReservationDateTime_ReservationTime(
-			storeId, reservationDate, reservationTime);
+	public void saveAndFlush(Reservation newReservation) {
+		reservationJpaRepository.saveAndFlush(newReservation);
+	}
+
+	@Override
+	public boolean existsByStoreIdAndReservationDateTime_ReservationDateAndReservationDateTime_ReservationTimeAndReservationStatusNotIn(
+		UUID storeId, LocalDate reservationDate, LocalTime reservationTime,
+		Collection<ReservationStatus> excludedStatuses) {
+		return reservationJpaRepository.existsByStoreIdAndReservationDateTime_ReservationDateAndReservationDateTime_ReservationTimeAndReservationStatusNotIn(
+			storeId, reservationDate, reservationTime, excludedStatuses);
 	}
 
 	@Override
@@ -46,18 +57,42 @@ public class ReservationRepositoryAdapter implements ReservationRepository {
 	}
 
 	@Override
-	public Page<Reservation> findByUserId(UUID userId, Pageable pageable) {
-		return reservationJpaRepository.findByUserId(userId, pageable);
+	public List<Reservation> findAllByIdIn(Collection<UUID> reservationIds) {
+		return reservationJpaRepository.findAllByIdIn(reservationIds);
+	}
+
+	@Override
+	public int updateStatus(Collection<UUID> reservationIds, Collection<ReservationStatus> fromStatuses,
+		ReservationStatus status, UUID updatedBy) {
+		return reservationJpaRepository.updateStatus(reservationIds, fromStatuses, status, LocalDateTime.now(),
+			updatedBy);
+	}
+
+	// List 반환이라 COUNT 쿼리 없이 LIMIT 만 적용
+	@Override
+	public List<ReservationSummary> findSummariesByUserId(
+		UUID userId, LocalDateTime cursorCreatedAt, UUID cursorId, int limit) {
+		Pageable pageable = PageRequest.of(0, limit);
+		if (cursorCreatedAt == null || cursorId == null) {
+			return reservationJpaRepository.findSummariesByUserId(userId, pageable);
+		}
+		return reservationJpaRepository.findSummariesByUserIdAfter(userId, cursorCreatedAt, cursorId, pageable);
 	}
 
 	@Override
-	public Page<Reservation> findByStoreId(UUID storeId, Pageable pageable) {
-		return reservationJpaRepository.findByStoreId(storeId, pageable);
+	public List<ReservationSummary> findSummariesByStoreId(
+		UUID storeId, LocalDateTime cursorDateTime, UUID cursorId, int limit) {
+		Pageable pageable = PageRequest.of(0, limit);
+		if (cursorDateTime == null || cursorId == null) {
+			return reservationJpaRepository.findSummariesByStoreId(storeId, pageable);
+		}
+		return reservationJpaRepository.findSummariesByStoreIdAfter(
+			storeId, cursorDateTime.toLocalDate(), cursorDateTime.toLocalTime(), cursorId, pageable);
 	}
 
 	@Override
-	public List<Reservation> findByStoreIdAndReservationDateTime_ReservationDate(UUID storeId, LocalDate date) {
-		return reservationJpaRepository.findByStoreIdAndReservationDateTime_ReservationDate(storeId, date);
+	public List<ReservationDateTime> findReservationDateTimes(UUID storeId, LocalDate from, LocalDate to) {
+		return reservationJpaRepository.findReservationDateTimes(storeId, from, to, ReservationStatus.SLOT_RELEASED);
 	}
 
 }
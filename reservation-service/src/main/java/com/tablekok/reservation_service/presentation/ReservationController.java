@@ -2,15 +2,16 @@ package com.tablekok.reservation_service.presentation;
 
 import java.net.URI;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -20,14 +21,20 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.tablekok.cursor.dto.response.Cursor;
 import com.tablekok.dto.ApiResponse;
 import com.tablekok.dto.auth.AuthUser;
 import com.tablekok.entity.UserRole;
+import com.tablekok.reservation_service.application.dto.result.BulkOwnerActionResult;
 import com.tablekok.reservation_service.application.dto.result.CreateReservationResult;
 import com.tablekok.reservation_service.application.service.ReservationService;
+import com.tablekok.reservation_service.presentation.dto.request.BulkOwnerActionRequest;
 import com.tablekok.reservation_service.presentation.dto.request.CreateReservationRequest;
+import com.tablekok.reservation_service.presentation.dto.request.GetReservationsCursorRequest;
 import com.tablekok.reservation_service.presentation.dto.request.UpdateHeadcountRequest;
+import com.tablekok.reservation_service.presentation.dto.response.BulkOwnerActionResponse;
 import com.tablekok.reservation_service.presentation.dto.response.CreateReservationResponse;
+import com.tablekok.reservation_service.presentation.dto.response.GetMonthlyReservedTimeResponse;
 import com.tablekok.reservation_service.presentation.dto.response.GetReservationResponse;
 import com.tablekok.reservation_service.presentation.dto.response.GetReservationsForCustomerResponse;
 import com.tablekok.reservation_service.presentation.dto.response.GetReservationsForOwnerResponse;
@@ -63,6 +70,27 @@ public class ReservationController {
 				HttpStatus.CREATED));
 	}
 
+	// 예약 생성(락 없는 경로). 기존 분산락 경로와 처리량 비교용
+	@PreAuthorize("isAuthenticated()")
+	@PostMapping("/lock-free")
+	public ResponseEntity<ApiResponse<CreateReservationResponse>> createReservationLockFree(
+		@Valid @RequestBody CreateReservationRequest request,
+		@AuthenticationPrincipal AuthUser authUser
+	) {
+		CreateReservationResult result = reservationService.createReservationLockFree(
+			request.toCommand(authUser.userId()));
+
+		URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+			.path("/v1/reservations/{reservationId}")
+			.buildAndExpand(result.reservationId())
+			.toUri();
+
+		return ResponseEntity.created(location)
+			.body(ApiResponse.success("예약 성공",
+				CreateReservationResponse.fromResult(result),
+				HttpStatus.CREATED));
+	}
+
 	// 특정 식당의 선택 일자의 예약 목록 조회(프론트에서 예약 가능 시간 선택 표시를 위해)
 	@GetMapping("/internal/store/{storeId}")
 	public ResponseEntity<GetReservedTimeResponse> getReservedTime(
@@ -74,6 +102,16 @@ public class ReservationController {
 			GetReservedTimeResponse.fromResult(reservationService.getReservedTime(storeId, date)));
 	}
 
+	// 특정 식당의 한 달 예약 목록 조회(달력에서 예약 가능 일자 표시를 위해)
+	@GetMapping("/internal/store/{storeId}/monthly")
+	public ResponseEntity<GetMonthlyReservedTimeResponse> getMonthlyReservedTime(
+		@PathVariable("storeId") UUID storeId,
+		@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+	) {
+		return ResponseEntity.ok(
+			GetMonthlyReservedTimeResponse.fromResult(reservationService.getMonthlyReservedTime(storeId, month)));
+	}
+
 	// 단건 예약 조회(리뷰에서 호출 용도)
 	@GetMapping("/internal/review/{reservationId}")
 	public ResponseEntity<GetReservationResponse> getReservation(
@@ -140,36 +178,53 @@ public class ReservationController {
 			ApiResponse.success("예약 확인(오너) 성공", HttpStatus.OK));
 	}
 
+	// 예약 일괄 처리(DONE/NOSHOW/REJECT, 오너). 건별 처리 결과 반환
+	@PreAuthorize("hasAnyRole('MASTER', 'OWNER')")
+	@PatchMapping("/owner/bulk")
+	public ResponseEntity<ApiResponse<BulkOwnerActionResponse>> bulkOwnerAction(
+		@Valid @RequestBody BulkOwnerActionRequest request,
+		@AuthenticationPrincipal AuthUser authUser
+	) {
+		BulkOwnerActionResult result = reservationService.bulkOwnerAction(
+			request.toCommand(authUser.userId(), UserRole.fromName(authUser.role())));
+		return ResponseEntity.ok(
+			ApiResponse.success("예약 일괄 처리(오너) 성공",
+				BulkOwnerActionResponse.fromResult(result),
+				HttpStatus.OK));
+	}
+
 	// 예약 조회(고객)
 	@PreAuthorize("hasRole('CUSTOMER')")
 	@GetMapping
-	public ResponseEntity<ApiResponse<Page<GetReservationsForCustomerResponse>>> getReservationsForCustomer(
+	public ResponseEntity<ApiResponse<Cursor<GetReservationsForCustomerResponse, UUID>>> getReservationsForCustomer(
 		@AuthenticationPrincipal AuthUser authUser,
-		Pageable pageable
+		@ModelAttribute GetReservationsCursorRequest request
 	) {
 		return ResponseEntity.ok(
 			ApiResponse.success("예약 조회(고객) 성공",
-				GetReservationsForCustomerResponse.fromResult(
-					reservationService.getReservationsForCustomer(UUID.fromString(authUser.userId()), pageable)),
+				reservationService.getReservationsForCustomer(
+						UUID.fromString(authUser.userId()), request.toCursorRequest())
+					.map(GetReservationsForCustomerResponse::from),
 				HttpStatus.OK));
 	}
 
 	// 식당 예약 조회
 	@PreAuthorize("hasAnyRole('OWNER', 'MASTER')")
 	@GetMapping("/owner")
-	public ResponseEntity<ApiResponse<Page<GetReservationsForOwnerResponse>>> getReservationsForOwner(
+	public ResponseEntity<ApiResponse<Cursor<GetReservationsForOwnerResponse, UUID>>> getReservationsForOwner(
 		@RequestParam UUID storeId,
 		@AuthenticationPrincipal AuthUser authUser,
-		Pageable pageable
+		@ModelAttribute GetReservationsCursorRequest request
 	) {
 		return ResponseEntity.ok(
 			ApiResponse.success("식당 예약 조회 성공",
-				GetReservationsForOwnerResponse.fromResult(reservationService.getReservationsForOwner(
-					UUID.fromString(authUser.userId()),
-					storeId,
-					UserRole.fromName(authUser.role()),
-					pageable
-				)),
+				reservationService.getReservationsForOwner(
+						UUID.fromString(authUser.userId()),
+						storeId,
+						UserRole.fromName(authUser.role()),
+						request.toCursorRequest()
+					)
+					.map(GetReservationsForOwnerResponse::from),
 				HttpStatus.OK));
 	}
 
@@ -0,0 +1,31 @@
+package com.tablekok.reservation_service.presentation.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.tablekok.entity.UserRole;
+import com.tablekok.reservation_service.application.dto.command.BulkOwnerActionCommand;
+import com.tablekok.reservation_service.domain.entity.OwnerAction;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record BulkOwnerActionRequest(
+
+	@NotNull(message = "처리 종류는 필수입니다.")
+	OwnerAction action,
+
+	@NotEmpty(message = "예약 ID 목록은 필수입니다.")
+	@Size(max = 200, message = "한 번에 최대 200건까지 처리할 수 있습니다.")
+	List<@NotNull UUID> reservationIds
+) {
+	public BulkOwnerActionCommand toCommand(String strUserId, UserRole role) {
+		return BulkOwnerActionCommand.builder()
+			.userId(UUID.fromString(strUserId))
+			.role(role)
+			.action(action)
+			.reservationIds(reservationIds)
+			.build();
+	}
+}
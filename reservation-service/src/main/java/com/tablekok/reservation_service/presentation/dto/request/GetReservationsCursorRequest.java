@@ -0,0 +1,15 @@
+package com.tablekok.reservation_service.presentation.dto.request;
+
+import java.util.UUID;
+
+import com.tablekok.cursor.dto.request.CursorRequest;
+
+public record GetReservationsCursorRequest(
+	String cursor,
+	UUID cursorId,
+	Integer size
+) {
+	public CursorRequest<UUID> toCursorRequest() {
+		return new CursorRequest<>(cursor, cursorId, size);
+	}
+}
@@ -0,0 +1,29 @@
+package com.tablekok.reservation_service.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.tablekok.reservation_service.application.dto.result.BulkOwnerActionResult;
+
+import lombok.Builder;
+
+@Builder
+public record BulkOwnerActionResponse(
+	long updatedCount,
+	List<Item> items
+) {
+	public record Item(
+		UUID reservationId,
+		String outcome
+	) {
+	}
+
+	public static BulkOwnerActionResponse fromResult(BulkOwnerActionResult result) {
+		return BulkOwnerActionResponse.builder()
+			.updatedCount(result.count(BulkOwnerActionResult.Outcome.UPDATED))
+			.items(result.items().stream()
+				.map(item -> new Item(item.reservationId(), item.outcome().name()))
+				.toList())
+			.build();
+	}
+}
@@ -0,0 +1,21 @@
+package com.tablekok.reservation_service.presentation.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import com.tablekok.reservation_service.application.dto.result.GetMonthlyReservedTimeResult;
+
+import lombok.Builder;
+
+@Builder
+public record GetMonthlyReservedTimeResponse(
+	Map<LocalDate, List<LocalTime>> reservedTimes
+) {
+	public static GetMonthlyReservedTimeResponse fromResult(GetMonthlyReservedTimeResult result) {
+		return GetMonthlyReservedTimeResponse.builder()
+			.reservedTimes(result.reservedTimes())
+			.build();
+	}
+}
@@ -4,14 +4,13 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-
 import com.tablekok.reservation_service.application.dto.result.GetReservationsForCustomerResult;
 
 import lombok.Builder;
 
 @Builder
 public record GetReservationsForCustomerResponse(
+	UUID reservationId,
 	UUID userId,
 	UUID storeId,
 	String reservationNumber,
@@ -21,8 +20,9 @@ public record GetReservationsForCustomerResponse(
 	Integer deposit,
 	String reservationStatus
 ) {
-	public static Page<GetReservationsForCustomerResponse> fromResult(Page<GetReservationsForCustomerResult> results) {
-		return results.map(result -> GetReservationsForCustomerResponse.builder()
+	public static GetReservationsForCustomerResponse from(GetReservationsForCustomerResult result) {
+		return GetReservationsForCustomerResponse.builder()
+			.reservationId(result.reservationId())
 			.userId(result.userId())
 			.storeId(result.storeId())
 			.reservationNumber(result.reservationNumber())
@@ -31,8 +31,6 @@ public record GetReservationsForCustomerResponse(
 			.headcount(result.headcount())
 			.deposit(result.deposit())
 			.reservationStatus(result.reservationStatus())
-			.build()
-		);
-
+			.build();
 	}
 }
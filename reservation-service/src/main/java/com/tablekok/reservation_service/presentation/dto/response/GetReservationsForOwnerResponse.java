@@ -4,14 +4,13 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-
 import com.tablekok.reservation_service.application.dto.result.GetReservationsForOwnerResult;
 
 import lombok.Builder;
 
 @Builder
 public record GetReservationsForOwnerResponse(
+	UUID reservationId,
 	UUID userId,
 	UUID storeId,
 	String reservationNumber,
@@ -21,8 +20,9 @@ public record GetReservationsForOwnerResponse(
 	Integer deposit,
 	String reservationStatus
 ) {
-	public static Page<GetReservationsForOwnerResponse> fromResult(Page<GetReservationsForOwnerResult> results) {
-		return results.map(result -> GetReservationsForOwnerResponse.builder()
+	public static GetReservationsForOwnerResponse from(GetReservationsForOwnerResult result) {
+		return GetReservationsForOwnerResponse.builder()
+			.reservationId(result.reservationId())
 			.userId(result.userId())
 			.storeId(result.storeId())
 			.reservationNumber(result.reservationNumber())
@@ -31,8 +31,6 @@ public record GetReservationsForOwnerResponse(
 			.headcount(result.headcount())
 			.deposit(result.deposit())
 			.reservationStatus(result.reservationStatus())
-			.build()
-		);
-
+			.build();
 	}
 }
@@ -0,0 +1,11 @@
+-- 예약 슬롯 선점 (비트맵)
+-- KEYS[1] : 음식점·일자별 슬롯 비트맵
+-- ARGV[1] : 슬롯 인덱스
+-- ARGV[2] : 비트맵 만료 시각 (epoch ms)
+-- return  : 이전 비트 값 (0 이면 선점 성공, 1 이면 이미 점유된 슬롯)
+
+local previous = redis.call('SETBIT', KEYS[1], ARGV[1], 1)
+if previous == 0 and redis.call('PTTL', KEYS[1]) == -1 then
+    redis.call('PEXPIREAT', KEYS[1], ARGV[2])
+end
+return previous
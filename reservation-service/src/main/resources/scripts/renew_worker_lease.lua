@@ -0,0 +1,16 @@
+-- 예약 번호 워커 ID 임대 연장
+-- KEYS[1] : 워커 ID 임대 키
+-- ARGV[1] : 이 인스턴스의 임대 토큰
+-- ARGV[2] : 임대 시간 (ms)
+-- return  : 1 이면 연장(또는 만료된 임대 재획득) 성공, 0 이면 다른 인스턴스가 사용 중
+
+local holder = redis.call('GET', KEYS[1])
+if holder == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return 1
+end
+if not holder then
+    redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+    return 1
+end
+return 0
@@ -0,0 +1,8 @@
+-- 취소·거절(ReservationStatus.SLOT_RELEASED)을 제외한 슬롯 부분 유니크 인덱스 (Reservation.SLOT_CONSTRAINT)
+-- ddl-auto 뒤에 매 기동마다 실행되므로 여러 번 실행해도 결과가 같아야 함
+-- 이전 버전의 전체 상태 유니크 제약이 남아 있으면 제거 후 부분 인덱스로 교체
+ALTER TABLE p_reservation DROP CONSTRAINT IF EXISTS uk_reservation_store_slot;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_reservation_store_slot
+    ON p_reservation (store_id, reservation_date, reservation_time)
+    WHERE reservation_status NOT IN ('CANCELED', 'REJECT');
@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -16,8 +18,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import com.tablekok.exception.AppException;
 import com.tablekok.reservation_service.application.dto.command.CreateReservationCommand;
 import com.tablekok.reservation_service.application.service.ReservationService;
+import com.tablekok.reservation_service.domain.exception.ReservationDomainErrorCode;
 import com.tablekok.reservation_service.domain.vo.ReservationDateTime;
 
 @SpringBootTest
@@ -76,4 +80,56 @@ class ReservationConcurrencyTest {
 			.withFailMessage("동시성 이슈가 발생하였습니다.")
 			.isEqualTo(1);
 	}
+
+	@Test
+	@DisplayName("락_없는_경로도_동시에_100명_예약_시_한_건만_저장된다")
+	void concurrency_test_lock_free() throws InterruptedException {
+
+		int threadCount = 100;
+		ExecutorService executorService = Executors.newFixedThreadPool(32);
+
+		CountDownLatch latch = new CountDownLatch(threadCount);
+
+		CreateReservationCommand command = CreateReservationCommand.builder()
+			.userId(UUID.fromString("2a34bc0d-21c1-4381-b892-4b1123bb964f"))
+			.storeId(UUID.fromString("a0c33cc2-bafc-4031-8173-c95ad7fb7621"))
+			.reservationDateTime(ReservationDateTime.of(LocalDateTime.of(2026, 1, 15, 19, 0)))
+			.headcount(4)
+			.build();
+
+		Queue<Exception> failures = new ConcurrentLinkedQueue<>();
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				try {
+					reservationService.createReservationLockFree(command);
+				} catch (Exception e) {
+					failures.add(e);
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+
+		latch.await();
+
+		// 한 건을 제외한 나머지는 모두 중복 예약으로 거절
+		assertThat(failures).hasSize(threadCount - 1);
+		assertThat(failures).allSatisfy(e -> {
+			assertThat(e).isInstanceOf(AppException.class);
+			assertThat(((AppException)e).getErrorCode())
+				.isEqualTo(ReservationDomainErrorCode.DUPLICATE_RESERVATION_TIME);
+		});
+
+		Integer duplicateCount = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM p_reservation WHERE store_id = ? AND reservation_date = ? AND reservation_time = ?",
+			Integer.class,
+			command.storeId(),
+			command.reservationDateTime().getReservationDate(),
+			command.reservationDateTime().getReservationTime()
+		);
+
+		assertThat(duplicateCount)
+			.withFailMessage("동시성 이슈가 발생하였습니다.")
+			.isEqualTo(1);
+	}
 }
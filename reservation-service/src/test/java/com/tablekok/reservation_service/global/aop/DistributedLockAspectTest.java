@@ -0,0 +1,101 @@
+package com.tablekok.reservation_service.global.aop;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import com.tablekok.reservation_service.global.annotation.DistributedLock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DistributedLockAspectTest {
+
+	private final RedissonClient redissonClient = mock(RedissonClient.class);
+	private final CallTransaction callTransaction = mock(CallTransaction.class);
+	private final ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+	private final RLock slot1 = mock(RLock.class);
+	private final RLock slot2 = mock(RLock.class);
+
+	private DistributedLockAspect aspect;
+	private DistributedLock distributedLock;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		aspect = new DistributedLockAspect(redissonClient, callTransaction, new SimpleMeterRegistry());
+		distributedLock = getClass().getDeclaredMethod("lockSlots", List.class).getAnnotation(DistributedLock.class);
+
+		MethodSignature signature = mock(MethodSignature.class);
+		when(signature.getParameterNames()).thenReturn(new String[] {"slots"});
+		when(signature.getName()).thenReturn("lockSlots");
+		when(joinPoint.getSignature()).thenReturn(signature);
+		// 중복·역순으로 넘어온 슬롯
+		when(joinPoint.getArgs()).thenReturn(new Object[] {List.of("store:slot2", "store:slot1", "store:slot2")});
+
+		when(redissonClient.getLock("lock:store:slot1")).thenReturn(slot1);
+		when(redissonClient.getLock("lock:store:slot2")).thenReturn(slot2);
+		when(slot1.isHeldByCurrentThread()).thenReturn(true);
+		when(slot2.isHeldByCurrentThread()).thenReturn(true);
+	}
+
+	@DistributedLock(key = "#slots", name = "lockSlots")
+	void lockSlots(List<String> slots) {
+	}
+
+	@Test
+	@DisplayName("여러_슬롯은_정렬된_순서로_잠그고_역순으로_해제한다")
+	void lock_multiple_keys_in_order() throws Throwable {
+		when(slot1.tryLock(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(true);
+		when(slot2.tryLock(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(true);
+		when(callTransaction.proceed(joinPoint)).thenReturn("done");
+
+		Object result = aspect.lock(joinPoint, distributedLock);
+
+		assertThat(result).isEqualTo("done");
+		InOrder inOrder = inOrder(slot1, slot2, callTransaction);
+		inOrder.verify(slot1).tryLock(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS));
+		inOrder.verify(slot2).tryLock(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS));
+		inOrder.verify(callTransaction).proceed(joinPoint);
+		inOrder.verify(slot2).unlock();
+		inOrder.verify(slot1).unlock();
+		verify(redissonClient, times(2)).getLock(anyString());
+	}
+
+	@Test
+	@DisplayName("하나라도_잠그지_못하면_실행하지_않고_잡은_락만_해제한다")
+	void lock_multiple_keys_partial_failure() throws Throwable {
+		when(slot1.tryLock(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(true);
+		when(slot2.tryLock(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(false);
+
+		assertThatThrownBy(() -> aspect.lock(joinPoint, distributedLock))
+			.isInstanceOf(RuntimeException.class);
+
+		verify(callTransaction, never()).proceed(any());
+		verify(slot1).unlock();
+		verify(slot2, never()).unlock();
+	}
+
+	@Test
+	@DisplayName("점유_시간이_지나_풀린_락은_해제하지_않고_나머지는_해제한다")
+	void lock_multiple_keys_expired_lease() throws Throwable {
+		when(slot1.tryLock(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(true);
+		when(slot2.tryLock(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(true);
+		when(slot2.isHeldByCurrentThread()).thenReturn(false);
+
+		aspect.lock(joinPoint, distributedLock);
+
+		verify(slot2, never()).unlock();
+		verify(slot1).unlock();
+	}
+}
@@ -0,0 +1,9 @@
+package com.tablekok.store_service.application.dto.command;
+
+import java.util.UUID;
+
+public record VerifyOwnerCommand(
+	UUID storeId,
+	UUID ownerId
+) {
+}
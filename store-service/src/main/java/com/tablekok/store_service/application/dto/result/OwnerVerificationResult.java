@@ -0,0 +1,10 @@
+package com.tablekok.store_service.application.dto.result;
+
+import java.util.UUID;
+
+public record OwnerVerificationResult(
+	UUID storeId,
+	UUID ownerId,
+	boolean isOwner
+) {
+}
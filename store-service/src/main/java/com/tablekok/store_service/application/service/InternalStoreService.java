@@ -1,12 +1,17 @@
 package com.tablekok.store_service.application.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tablekok.exception.AppException;
+import com.tablekok.store_service.application.dto.command.VerifyOwnerCommand;
+import com.tablekok.store_service.application.dto.result.OwnerVerificationResult;
 import com.tablekok.store_service.application.dto.result.StoreWaitingInternalResult;
 import com.tablekok.store_service.application.exception.StoreErrorCode;
 import com.tablekok.store_service.domain.entity.OperatingHour;
@@ -29,6 +34,20 @@ public class InternalStoreService {
 		return storeRepository.isOwner(storeId, ownerId);
 	}
 
+	// 여러 (storeId, ownerId) 쌍을 한 번의 조회로 검증. 결과는 요청 순서대로 반환
+	public List<OwnerVerificationResult> verifyOwners(List<VerifyOwnerCommand> commands) {
+		Set<UUID> storeIds = commands.stream().map(VerifyOwnerCommand::storeId).collect(Collectors.toSet());
+		Map<UUID, UUID> ownerIds = storeRepository.findOwnerIds(storeIds);
+
+		return commands.stream()
+			.map(command -> new OwnerVerificationResult(
+				command.storeId(),
+				command.ownerId(),
+				command.ownerId().equals(ownerIds.get(command.storeId()))
+			))
+			.toList();
+	}
+
 	public StoreWaitingInternalResult getStoreDetailsForWaiting(UUID storeId) {
 		Store store = storeRepository.findById(storeId)
 			.orElseThrow(() -> new AppException(StoreErrorCode.STORE_NOT_FOUND));
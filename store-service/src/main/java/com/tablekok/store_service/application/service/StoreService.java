@@ -194,6 +194,8 @@ public class StoreService {
 		store.setReservationOpenTime(policy.getOpenTime());
 		storeRepository.save(store);
 
+		// kafka 이벤트 알림 (예약 서비스 정책 캐시 무효화)
+		publishPolicyChangeEvent(store);
 	}
 
 	@Transactional
@@ -232,6 +234,8 @@ public class StoreService {
 			command.isActive()
 		);
 
+		// kafka 이벤트 알림 (예약 서비스 정책 캐시 무효화)
+		publishPolicyChangeEvent(store);
 	}
 
 	@Transactional
@@ -242,6 +246,14 @@ public class StoreService {
 		StoreReservationPolicy policy = findPolicy(store);
 
 		policy.setIsActive(command.isActive());
+
+		// kafka 이벤트 알림 (예약 서비스 정책 캐시 무효화)
+		publishPolicyChangeEvent(store);
+	}
+
+	private void publishPolicyChangeEvent(Store store) {
+		StoreEvent event = storeEventMapper.createEvent(store, OperationType.POLICY_CHANGE.toString());
+		storeEventPublisher.publish(event);
 	}
 
 	private Store findStore(UUID storeId) {
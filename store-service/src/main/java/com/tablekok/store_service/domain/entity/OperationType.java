@@ -9,6 +9,7 @@ public enum OperationType {
 	CREATE("생성"),
 	UPDATE("정보 수정"),
 	STATUS_CHANGE("상태 수정"),
+	POLICY_CHANGE("예약 정책 수정"),
 	DELETE("삭제");
 
 	private final String description;
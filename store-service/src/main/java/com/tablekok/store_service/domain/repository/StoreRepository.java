@@ -1,6 +1,8 @@
 package com.tablekok.store_service.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,4 +21,7 @@ public interface StoreRepository {
 	List<UUID> findHotStoreIds();
 
 	boolean isOwner(UUID storeId, UUID ownerId);
+
+	// storeId -> ownerId (없는 음식점은 제외)
+	Map<UUID, UUID> findOwnerIds(Collection<UUID> storeIds);
 }
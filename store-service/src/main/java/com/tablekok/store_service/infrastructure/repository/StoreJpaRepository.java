@@ -1,5 +1,6 @@
 package com.tablekok.store_service.infrastructure.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,7 +19,15 @@ public interface StoreJpaRepository extends JpaRepository<Store, UUID> {
 
 	boolean existsByIdAndOwnerId(UUID storeId, UUID ownerId);
 
+	List<StoreOwnerOnly> findByIdIn(Collection<UUID> storeIds); // Projection 사용
+
 	interface StoreIdOnly {
 		UUID getId();
 	}
+
+	interface StoreOwnerOnly {
+		UUID getId();
+
+		UUID getOwnerId();
+	}
 }
@@ -1,6 +1,8 @@
 package com.tablekok.store_service.infrastructure.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -51,4 +53,13 @@ public class StoreRepositoryAdapter implements StoreRepository {
 		return storeJpaRepository.existsByIdAndOwnerId(storeId, ownerId);
 	}
 
+	@Override
+	public Map<UUID, UUID> findOwnerIds(Collection<UUID> storeIds) {
+		return storeJpaRepository.findByIdIn(storeIds).stream()
+			.collect(Collectors.toMap(
+				StoreJpaRepository.StoreOwnerOnly::getId,
+				StoreJpaRepository.StoreOwnerOnly::getOwnerId
+			));
+	}
+
 }
@@ -11,11 +11,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.tablekok.store_service.application.dto.result.OwnerVerificationResult;
 import com.tablekok.store_service.application.dto.result.StoreWaitingInternalResult;
 import com.tablekok.store_service.application.service.InternalStoreService;
 import com.tablekok.store_service.presentation.dto.request.OwnerVerificationRequest;
+import com.tablekok.store_service.presentation.dto.response.OwnerVerificationResponse;
 import com.tablekok.store_service.presentation.dto.response.StoreWaitingInternalResponse;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 
 @RestController
@@ -40,6 +46,21 @@ public class InternalStoreController {
 		return ResponseEntity.ok(isOwner);
 	}
 
+	// 여러 음식점의 오너 여부를 한 번에 검증
+	// 목록 자체의 @Valid 는 요소를 검증하지 않으므로 요소·크기 제약을 메서드 검증으로 적용 (위반 시 400)
+	// 최대 크기는 예약 일괄 처리 한도(200건)의 음식점 수
+	@PostMapping("/verify-owner/batch")
+	public ResponseEntity<List<OwnerVerificationResponse>> verifyStoreOwners(
+		@RequestBody
+		@NotEmpty(message = "검증할 음식점을 하나 이상 입력해야 합니다.")
+		@Size(max = 200, message = "한 번에 최대 200개 음식점까지 검증할 수 있습니다.")
+		List<@Valid @NotNull OwnerVerificationRequest> requests
+	) {
+		List<OwnerVerificationResult> results = internalStoreService.verifyOwners(
+			requests.stream().map(OwnerVerificationRequest::toCommand).toList());
+		return ResponseEntity.ok(OwnerVerificationResponse.from(results));
+	}
+
 	@GetMapping("/{storeId}/waiting-details")
 	public ResponseEntity<StoreWaitingInternalResponse> getStoreDetailsForWaiting(
 		@PathVariable UUID storeId
@@ -2,6 +2,8 @@ package com.tablekok.store_service.presentation.dto.request;
 
 import java.util.UUID;
 
+import com.tablekok.store_service.application.dto.command.VerifyOwnerCommand;
+
 import jakarta.validation.constraints.NotNull;
 
 public record OwnerVerificationRequest(
@@ -10,4 +12,7 @@ public record OwnerVerificationRequest(
 	@NotNull(message = "owner ID 입력은 필수입니다.")
 	UUID ownerId
 ) {
+	public VerifyOwnerCommand toCommand() {
+		return new VerifyOwnerCommand(storeId, ownerId);
+	}
 }
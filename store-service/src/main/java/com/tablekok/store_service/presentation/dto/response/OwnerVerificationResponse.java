@@ -0,0 +1,18 @@
+package com.tablekok.store_service.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.tablekok.store_service.application.dto.result.OwnerVerificationResult;
+
+public record OwnerVerificationResponse(
+	UUID storeId,
+	UUID ownerId,
+	boolean isOwner
+) {
+	public static List<OwnerVerificationResponse> from(List<OwnerVerificationResult> results) {
+		return results.stream()
+			.map(result -> new OwnerVerificationResponse(result.storeId(), result.ownerId(), result.isOwner()))
+			.toList();
+	}
+}
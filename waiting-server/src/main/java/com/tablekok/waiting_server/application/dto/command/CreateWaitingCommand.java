@@ -19,7 +19,12 @@ public record CreateWaitingCommand(
 
 ) {
 
-	public Waiting toEntity(int waitingNumber) {
-		return Waiting.create(storeId, waitingNumber, customerType, memberId, nonMemberName, nonMemberPhone, headcount);
+	public Waiting toEntity(UUID waitingId, int waitingNumber) {
+		return Waiting.create(waitingId, storeId, waitingNumber, customerType, memberId, nonMemberName, nonMemberPhone,
+			headcount);
+	}
+
+	public String customerKey() {
+		return Waiting.customerKeyOf(customerType, memberId, nonMemberPhone);
 	}
 }
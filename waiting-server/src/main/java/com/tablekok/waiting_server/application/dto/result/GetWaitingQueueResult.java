@@ -4,7 +4,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import com.tablekok.waiting_server.domain.entity.CustomerType;
-import com.tablekok.waiting_server.domain.entity.Waiting;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueEntry;
 
 import lombok.Builder;
 
@@ -20,32 +20,26 @@ public record GetWaitingQueueResult(
 	CustomerType customerType,        // MEMBER 또는 NON_MEMBER
 	Integer headcount,          // 인원수 (테이블 할당 기준)
 
-	// 3. 연락 정보 (비회원일 경우만 값이 채워짐)
+	// 3. 연락 정보 (비회원일 경우만 값이 채워짐, 마스킹)
 	String nonMemberName,
 	String nonMemberPhone
 ) {
 
-	public static GetWaitingQueueResult of(Waiting waiting, int rank) {
-		CustomerType customerType = waiting.getCustomerType();
-		boolean isNonMember = customerType == CustomerType.NON_MEMBER;
-
-		String name = isNonMember ? waiting.getNonMemberName() : null;
-		String phone = isNonMember ? waiting.getNonMemberPhone() : null;
-
+	public static GetWaitingQueueResult of(WaitingQueueEntry entry, int rank) {
 		return GetWaitingQueueResult.builder()
-			.waitingId(waiting.getId())
+			.waitingId(entry.waitingId())
 			.rank(rank)
-			.waitingNumber(waiting.getWaitingNumber())
-			.status(waiting.getStatus().name())
-			.queuedAt(waiting.getQueuedAt())
+			.waitingNumber(entry.waitingNumber())
+			.status(entry.status().name())
+			.queuedAt(entry.queuedAt())
 
 			// 사장님께 필요한 추가 정보
-			.customerType(customerType)
-			.headcount(waiting.getHeadcount())
+			.customerType(entry.customerType())
+			.headcount(entry.headcount())
 
-			// 연락 정보
-			.nonMemberName(name)
-			.nonMemberPhone(phone)
+			// 연락 정보 (마스킹)
+			.nonMemberName(entry.nonMemberName())
+			.nonMemberPhone(entry.nonMemberPhone())
 			.build();
 	}
 }
@@ -1,9 +1,14 @@
 package com.tablekok.waiting_server.application.port;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.tablekok.waiting_server.application.dto.result.GetWaitingQueueResult;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueCursor;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueDelta;
+
 public interface NotificationPort {
 	SseEmitter connectCustomer(UUID waitingId);
 
@@ -15,7 +20,14 @@ public interface NotificationPort {
 
 	void sendWaitingConfirmed(UUID waitingId, int waitingNumber, UUID storeId);
 
-	void sendOwnerQueueUpdate(UUID storeId);
+	// 사장님 대기열 화면 변경분 (SSE 이벤트 ID = 세대-순번)
+	void sendOwnerQueueDelta(UUID storeId, WaitingQueueDelta delta);
+
+	// 사장님 대기열 화면 전체 (연결 또는 변경분으로 복구할 수 없는 재연결 시, 방금 연결한 Emitter 로만 전송)
+	void sendOwnerQueueSnapshot(SseEmitter emitter, WaitingQueueCursor cursor, List<GetWaitingQueueResult> waitings);
+
+	// 놓친 변경분 재전송 (방금 연결한 Emitter 로만 전송)
+	void sendOwnerQueueReplay(SseEmitter emitter, List<WaitingQueueDelta> deltas);
 
 	void sendOwnerCancelAlert(UUID waitingId);
 
@@ -0,0 +1,101 @@
+package com.tablekok.waiting_server.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.tablekok.waiting_server.application.port.NotificationPort;
+import com.tablekok.waiting_server.domain.repository.WaitingQueueEventPort;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueCursor;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueDelta;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueEntry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 사장님 대기열 화면을 변경분(delta)으로 갱신
+// - 상태가 바뀌면 매장별 순번을 붙여 기록하고 사장님 SSE 로 전송
+// - 재연결 시 Last-Event-ID 이후 변경을 다시 보내고, 로그에 없으면 전체 스냅샷 전송
+// - 변경분은 여러 서버에서 발행되므로 도착 순서가 순번 순서와 다를 수 있음. 클라이언트는 웨이팅별로
+//   마지막에 적용한 순번을 기억하고 (제거된 웨이팅 포함) 그보다 큰 순번의 변경만 적용.
+//   스냅샷을 받으면 화면을 교체하고 모든 웨이팅의 기준 순번을 스냅샷 순번으로 초기화
+// - 일일 초기화 등으로 순번이 새로 시작되면 세대(epoch)가 바뀜. 클라이언트는 다른 세대의 변경분을 받으면
+//   순번을 비교하지 않고 재연결하여 스냅샷을 받음
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OwnerQueueEventService {
+
+	private final WaitingQueueEventPort waitingQueueEventPort;
+	private final NotificationPort notificationPort;
+	private final WaitingQueueViewService waitingQueueViewService;
+
+	// 이 서버 안에서 순번 발급 순서와 발행 순서를 맞추기 위한 매장별 락
+	private final Map<UUID, ReentrantLock> storeLocks = new ConcurrentHashMap<>();
+
+	// 트랜잭션 안에서 호출되면 커밋 후 전송 (롤백된 변경은 보내지 않음)
+	public void publish(UUID storeId, WaitingQueueDelta.Type type, WaitingQueueEntry waiting) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			send(storeId, type, waiting);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				send(storeId, type, waiting);
+			}
+		});
+	}
+
+	public SseEmitter connect(UUID storeId, String lastEventId) {
+		ReentrantLock lock = lockOf(storeId);
+		lock.lock();
+		try {
+			SseEmitter emitter = notificationPort.connectOwner(storeId);
+
+			Optional<List<WaitingQueueDelta>> missed = WaitingQueueCursor.parse(lastEventId)
+				.flatMap(last -> waitingQueueEventPort.findSince(storeId, last));
+			if (missed.isPresent()) {
+				notificationPort.sendOwnerQueueReplay(emitter, missed.get());
+				return emitter;
+			}
+
+			// 순번을 먼저 읽으므로 스냅샷에는 이 순번까지의 변경이 모두 반영되어 있음
+			WaitingQueueCursor cursor = waitingQueueEventPort.currentCursor(storeId);
+			notificationPort.sendOwnerQueueSnapshot(emitter, cursor, waitingQueueViewService.getQueue(storeId));
+
+			// 구독이 활성화되기 전에 발행되었거나, 스냅샷보다 먼저 도착한 이후 변경을 다시 보냄 (중복 적용되어도 무방)
+			waitingQueueEventPort.findSince(storeId, cursor)
+				.ifPresent(deltas -> notificationPort.sendOwnerQueueReplay(emitter, deltas));
+			return emitter;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// 알림 실패가 웨이팅 상태 변경을 막지 않도록 예외는 기록만 함 (사장님은 재연결 시 스냅샷으로 복구)
+	private void send(UUID storeId, WaitingQueueDelta.Type type, WaitingQueueEntry waiting) {
+		ReentrantLock lock = lockOf(storeId);
+		lock.lock();
+		try {
+			WaitingQueueDelta delta = waitingQueueEventPort.append(storeId, type, waiting);
+			notificationPort.sendOwnerQueueDelta(storeId, delta);
+		} catch (Exception e) {
+			log.error("대기열 변경 전송 실패 storeId={}, type={}", storeId, type, e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private ReentrantLock lockOf(UUID storeId) {
+		return storeLocks.computeIfAbsent(storeId, id -> new ReentrantLock());
+	}
+}
@@ -18,6 +18,7 @@ public class WaitingBatchService {
 
 	private final StoreWaitingStatusRepository storeWaitingStatusRepository;
 	private final RedisTemplate<String, String> redisTemplate;
+	private final WaitingNumberSequence waitingNumberSequence;
 
 	private static final String WAITING_KEY_PREFIX = "waiting:queue:";
 
@@ -32,5 +33,8 @@ public class WaitingBatchService {
 			redisTemplate.delete(keys);
 			log.info("Redis: {} 개의 웨이팅 키 삭제 완료", keys.size());
 		}
+
+		// 이 서버가 받아 둔 번호 블록 폐기 (모든 서버가 초기화 작업을 실행)
+		waitingNumberSequence.reset();
 	}
 }
@@ -0,0 +1,151 @@
+package com.tablekok.waiting_server.application.service;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tablekok.waiting_server.domain.repository.WaitingNumberSequencePort;
+import com.tablekok.waiting_server.domain.repository.WaitingRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 매장별 웨이팅 번호 발급
+// - Redis 에서 block-size 만큼 번호를 미리 받아 두고 이 서버에서 차례로 발급 (블록 안에서는 락 없이 발급)
+// - 번호 키가 없으면 (일일 초기화, Redis 재시작, failover) p_waiting 의 오늘 최대 번호로 다시 초기화
+//   각 서버가 아직 다 쓰지 않은 블록과 겹치지 않도록 최대 서버 수 x block-size 만큼 건너뜀
+// 서버마다 블록이 다르므로 번호는 서버 간 등록 순서와 다를 수 있음 (대기 순서는 등록 순번 기준)
+@Component
+@Slf4j
+public class WaitingNumberSequence {
+
+	// WaitingBatchScheduler 일일 초기화 기준 시각
+	private static final LocalTime DAILY_RESET_TIME = LocalTime.of(3, 0);
+	private static final ZoneId DAILY_RESET_ZONE = ZoneId.of("Asia/Seoul");
+
+	private final WaitingNumberSequencePort sequencePort;
+	private final WaitingRepository waitingRepository;
+	private final int blockSize;
+	private final int reseedGap;
+	private final Counter reseedCounter;
+
+	// 매장별로 이 서버가 받아 둔 번호 블록
+	private final Map<UUID, NumberBlock> blocks = new ConcurrentHashMap<>();
+	// 매장별 새 블록 할당 락. Redis, DB 호출을 ConcurrentHashMap 연산 밖에서 하면서 한 스레드만 할당
+	private final Map<UUID, ReentrantLock> allocationLocks = new ConcurrentHashMap<>();
+
+	public WaitingNumberSequence(
+		WaitingNumberSequencePort sequencePort,
+		WaitingRepository waitingRepository,
+		MeterRegistry meterRegistry,
+		@Value("${waiting.number.block-size}") int blockSize,
+		@Value("${waiting.number.max-nodes}") int maxNodes
+	) {
+		if (blockSize < 1 || maxNodes < 1) {
+			throw new IllegalStateException("waiting.number.block-size, max-nodes 는 1 이상이어야 합니다. blockSize="
+				+ blockSize + ", maxNodes=" + maxNodes);
+		}
+		this.sequencePort = sequencePort;
+		this.waitingRepository = waitingRepository;
+		this.blockSize = blockSize;
+		this.reseedGap = Math.multiplyExact(maxNodes, blockSize);
+		this.reseedCounter = Counter.builder("waiting.number.reseed")
+			.description("DB 기준 웨이팅 번호 재초기화 횟수")
+			.register(meterRegistry);
+	}
+
+	// 다음 웨이팅 번호. latestAssignedNumber 는 DB 에 기록된 최근 발급 번호 (Redis 번호가 되돌아가는 것을 막는 하한)
+	public int next(UUID storeId, int latestAssignedNumber) {
+		while (true) {
+			NumberBlock block = blocks.get(storeId);
+			if (block != null) {
+				int number = block.next();
+				if (number > 0) {
+					return number;
+				}
+			}
+			refill(storeId, block, latestAssignedNumber);
+		}
+	}
+
+	// 블록을 다 쓴 경우에만 한 스레드가 새 블록을 받아 교체 (다른 스레드가 이미 교체했으면 그 블록 사용)
+	private void refill(UUID storeId, NumberBlock exhausted, int latestAssignedNumber) {
+		ReentrantLock lock = allocationLocks.computeIfAbsent(storeId, id -> new ReentrantLock());
+		lock.lock();
+		try {
+			if (blocks.get(storeId) != exhausted) {
+				return;
+			}
+			NumberBlock allocated = allocate(storeId, latestAssignedNumber);
+			// 할당하는 사이 일일 초기화로 블록이 비워졌으면 교체하지 않고 다시 할당
+			if (exhausted == null) {
+				blocks.putIfAbsent(storeId, allocated);
+			} else {
+				blocks.replace(storeId, exhausted, allocated);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// 일일 초기화 시 받아 둔 블록 폐기
+	public void reset() {
+		blocks.clear();
+	}
+
+	private NumberBlock allocate(UUID storeId, int latestAssignedNumber) {
+		int last = sequencePort.allocate(storeId, blockSize, latestAssignedNumber, false);
+		if (last == 0) {
+			int floor = rebuildFloor(storeId, latestAssignedNumber);
+			last = sequencePort.allocate(storeId, blockSize, floor, true);
+		}
+		return new NumberBlock(last - blockSize + 1, last);
+	}
+
+	// 번호 키가 없을 때 이어서 발급할 번호. 오늘 발급된 번호가 있으면 다른 서버가 아직 쓰는 블록과 겹치지 않도록 간격을 둠
+	private int rebuildFloor(UUID storeId, int latestAssignedNumber) {
+		int floor = Math.max(latestAssignedNumber,
+			waitingRepository.findMaxWaitingNumberSince(storeId, lastDailyResetAt()));
+		if (floor == 0) {
+			return 0;
+		}
+		reseedCounter.increment();
+		log.warn("웨이팅 번호 키 없음, DB 기준으로 재초기화 storeId={}, 최근 번호={}", storeId, floor);
+		return floor + reseedGap;
+	}
+
+	private LocalDateTime lastDailyResetAt() {
+		ZonedDateTime now = ZonedDateTime.now(DAILY_RESET_ZONE);
+		ZonedDateTime resetAt = now.with(DAILY_RESET_TIME);
+		if (now.isBefore(resetAt)) {
+			resetAt = resetAt.minusDays(1);
+		}
+		return resetAt.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+	}
+
+	private static final class NumberBlock {
+		private final AtomicInteger next;
+		private final int last;
+
+		private NumberBlock(int first, int last) {
+			this.next = new AtomicInteger(first);
+			this.last = last;
+		}
+
+		// 블록을 다 쓰면 0
+		private int next() {
+			int number = next.getAndIncrement();
+			return number <= last ? number : 0;
+		}
+	}
+}
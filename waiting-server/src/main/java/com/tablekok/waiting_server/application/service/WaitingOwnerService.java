@@ -1,12 +1,7 @@
 package com.tablekok.waiting_server.application.service;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +24,8 @@ import com.tablekok.waiting_server.domain.repository.StoreWaitingStatusRepositor
 import com.tablekok.waiting_server.domain.repository.WaitingCachePort;
 import com.tablekok.waiting_server.domain.repository.WaitingRepository;
 import com.tablekok.waiting_server.domain.vo.StoreInfoVo;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueDelta;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueEntry;
 
 import lombok.RequiredArgsConstructor;
 
@@ -41,6 +38,9 @@ public class WaitingOwnerService {
 	private final NoShowSchedulerPort noShowSchedulerPort;
 	private final WaitingCachePort waitingCache;
 	private final StoreClient storeClient;
+	private final WaitingQueueViewService waitingQueueViewService;
+	private final OwnerQueueEventService ownerQueueEventService;
+	private final WaitingWriter waitingWriter;
 
 	@Transactional
 	public void startWaitingService(StartWaitingServiceCommand command) {
@@ -67,24 +67,10 @@ public class WaitingOwnerService {
 		status.stopWaiting();
 	}
 
-	@Transactional(readOnly = true)
+	// 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회
 	@CheckOwner
 	public List<GetWaitingQueueResult> getStoreWaitingQueue(UUID storeId, UUID ownerId) {
-		// Redis ZSET에서 현재 대기 중인 모든 waitingId를 가져옴
-		List<String> waitingIdStrings = waitingCache.getWaitingIds(storeId);
-		if (waitingIdStrings.isEmpty()) {
-			return Collections.emptyList();
-		}
-
-		List<UUID> waitingIds = waitingIdStrings.stream()
-			.map(UUID::fromString)
-			.toList();
-
-		//  waitingIds 로 RDB에서 waitings 조회
-		List<Waiting> waitings = waitingRepository.findAllByIdIn(waitingIds);
-
-		// Redis의 순서를 보장하며 DTO로 변환
-		return mapToRankedQueueResults(waitingIdStrings, waitings);
+		return waitingQueueViewService.getQueue(storeId);
 	}
 
 	@Transactional
@@ -99,6 +85,10 @@ public class WaitingOwnerService {
 		// StoreWaitingStatus 업데이트 (currentCallingNumber)
 		status.setCurrentCallingNumber(waiting.getWaitingNumber());
 
+		// 대기열 화면 정보 상태 변경
+		waitingQueueViewService.updateAfterCommit(WaitingQueueEntry.from(waiting), waiting.getStoreId());
+		publishQueueDelta(waiting, WaitingQueueDelta.Type.CALLED);
+
 		// DB 상태가 커밋된 이후에 알람, 스케줄러 등록
 		registerPostCommitActions(callingWaitingId, waiting.getWaitingNumber());
 	}
@@ -114,7 +104,7 @@ public class WaitingOwnerService {
 		waitingRepository.save(waiting);
 
 		// WaitingId Redis ZSET 에서 제거
-		waitingCache.removeWaiting(storeId, waitingId.toString());
+		waitingCache.removeWaiting(storeId, waitingId.toString(), waiting.getCustomerKey());
 
 		//  노쇼 자동 처리 타이머를 중단
 		cancelNoShowTimerIfActive(waitingId, originalStatus);
@@ -123,7 +113,8 @@ public class WaitingOwnerService {
 		updateCurrentCallingNumber(storeId, waiting.getWaitingNumber());
 
 		// DB 상태가 커밋된 이후에 알람
-		registerPostEnterActions(waitingId, storeId);
+		registerPostEnterActions(waitingId);
+		publishQueueDelta(waiting, WaitingQueueDelta.Type.ENTERED);
 	}
 
 	@Transactional
@@ -137,13 +128,14 @@ public class WaitingOwnerService {
 		waitingRepository.save(waiting);
 
 		// WaitingId Redis ZSET 에서 제거
-		waitingCache.removeWaiting(storeId, waitingId.toString());
+		waitingCache.removeWaiting(storeId, waitingId.toString(), waiting.getCustomerKey());
 
 		// 만약 상태가 CALLED 또는 CONFIRM, 노쇼 자동 처리 타이머를 중단
 		cancelNoShowTimerIfActive(waitingId, originalStatus);
 
 		// 고객에게 웨이팅이 취소되었음을 알림
 		registerPostOwnerCancelActions(waitingId);
+		publishQueueDelta(waiting, WaitingQueueDelta.Type.CANCELLED);
 	}
 
 	@Transactional
@@ -157,13 +149,14 @@ public class WaitingOwnerService {
 		waitingRepository.save(waiting);
 
 		// WaitingId Redis ZSET 에서 제거
-		waitingCache.removeWaiting(storeId, waitingId.toString());
+		waitingCache.removeWaiting(storeId, waitingId.toString(), waiting.getCustomerKey());
 
 		// 만약 상태가 CALLED 또는 CONFIRM, 노쇼 자동 처리 타이머를 중단
 		cancelNoShowTimerIfActive(waitingId, originalStatus);
 
 		// 고객에게 노쇼 처리되었음을 알림
 		registerPostMarkNoShowActions(waitingId);
+		publishQueueDelta(waiting, WaitingQueueDelta.Type.NO_SHOW);
 	}
 
 	private StoreWaitingStatus getOrCreateStoreWaitingStatus(StartWaitingServiceCommand command) {
@@ -171,13 +164,17 @@ public class WaitingOwnerService {
 			.orElseGet(() -> command.toEntity(command.ownerId()));
 	}
 
+	// 방금 등록되어 아직 DB 에 기록되지 않은 웨이팅이면 기록된 뒤 조회 (다른 서버에서 등록된 경우 포함)
 	private Waiting findWaiting(UUID waitingId) {
 		return waitingRepository.findById(waitingId)
+			.or(() -> waitingWriter.findAfterWrite(waitingId, () -> waitingRepository.findById(waitingId)))
 			.orElseThrow(() -> new AppException(WaitingErrorCode.WAITING_NOT_FOUND));
 	}
 
 	private Waiting findWaitingForStore(UUID waitingId, UUID storeId) {
 		return waitingRepository.findByIdAndStoreId(waitingId, storeId)
+			.or(() -> waitingWriter.findAfterWrite(waitingId,
+				() -> waitingRepository.findByIdAndStoreId(waitingId, storeId)))
 			.orElseThrow(() -> new AppException(WaitingErrorCode.WAITING_NOT_IN_STORE));
 	}
 
@@ -204,8 +201,10 @@ public class WaitingOwnerService {
 		});
 	}
 
-	public SseEmitter connectOwnerWaitingNotification(UUID storeId) {
-		return notificationPort.connectOwner(storeId);
+	// 연결 시 대기열 스냅샷, 재연결 시 Last-Event-ID 이후 변경분 전송
+	@CheckOwner
+	public SseEmitter connectOwnerWaitingNotification(UUID storeId, String lastEventId, UUID ownerId) {
+		return ownerQueueEventService.connect(storeId, lastEventId);
 	}
 
 	private void registerPostMarkNoShowActions(UUID waitingId) {
@@ -231,15 +230,12 @@ public class WaitingOwnerService {
 		storeWaitingStatusRepository.save(status);
 	}
 
-	private void registerPostEnterActions(UUID waitingId, UUID storeId) {
+	private void registerPostEnterActions(UUID waitingId) {
 		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
 			@Override
 			public void afterCommit() {
 				// 고객에게 입장 처리되었음을 알림 (SSE 연결 종료)
 				notificationPort.sendEnteredAlert(waitingId);
-
-				// 사장님에게 큐 상태 업데이트 알림
-				notificationPort.sendOwnerQueueUpdate(storeId);
 			}
 		});
 	}
@@ -255,29 +251,9 @@ public class WaitingOwnerService {
 		});
 	}
 
-	private List<GetWaitingQueueResult> mapToRankedQueueResults(
-		List<String> orderedWaitingIdStrings,
-		List<Waiting> waitings
-	) {
-		// 1. RDB 결과를 Map으로 변환
-		Map<UUID, Waiting> waitingMap = waitings.stream()
-			.collect(Collectors.toMap(Waiting::getId, Function.identity()));
-
-		List<GetWaitingQueueResult> results = new ArrayList<>();
-		int rank = 1;
-
-		// 2. Redis 순서대로 반복하며 맵에서 조회 및 순위 부여
-		for (String waitingIdStr : orderedWaitingIdStrings) {
-			UUID waitingId = UUID.fromString(waitingIdStr);
-			Waiting waiting = waitingMap.get(waitingId);
-
-			if (waiting != null) {
-				results.add(GetWaitingQueueResult.of(waiting, rank));
-			}
-			rank++;
-		}
-
-		return results;
+	// 사장님 대기열 화면에 변경분 전송 (커밋 후)
+	private void publishQueueDelta(Waiting waiting, WaitingQueueDelta.Type type) {
+		ownerQueueEventService.publish(waiting.getStoreId(), type, WaitingQueueEntry.from(waiting));
 	}
 
 }
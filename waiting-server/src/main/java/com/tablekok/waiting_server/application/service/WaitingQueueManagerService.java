@@ -11,6 +11,8 @@ import com.tablekok.waiting_server.domain.entity.Waiting;
 import com.tablekok.waiting_server.domain.entity.WaitingStatus;
 import com.tablekok.waiting_server.domain.repository.WaitingCachePort;
 import com.tablekok.waiting_server.domain.repository.WaitingRepository;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueDelta;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueEntry;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,6 +22,7 @@ public class WaitingQueueManagerService implements NoShowProcessingPort {
 	private final WaitingRepository waitingRepository;
 	private final WaitingCachePort waitingCache;
 	private final NotificationPort notificationPort;
+	private final OwnerQueueEventService ownerQueueEventService;
 
 	// 타이머 만료 시 no_show 상태로
 	@Transactional
@@ -32,13 +35,14 @@ public class WaitingQueueManagerService implements NoShowProcessingPort {
 				waiting.noShow();
 
 				// cache에서 waitingQueue 삭제
-				waitingCache.removeWaiting(waiting.getStoreId(), waitingId.toString());
+				waitingCache.removeWaiting(waiting.getStoreId(), waitingId.toString(), waiting.getCustomerKey());
 
 				// Noshow 알림
 				notificationPort.sendNoShowAlert(waitingId);
 
-				// 사장님에게 큐 상태 변경 알림
-				notificationPort.sendOwnerQueueUpdate(waiting.getStoreId());
+				// 사장님 대기열 화면에 노쇼 변경분 전송 (커밋 후)
+				ownerQueueEventService.publish(waiting.getStoreId(), WaitingQueueDelta.Type.NO_SHOW,
+					WaitingQueueEntry.from(waiting));
 			}
 		}
 	}
@@ -0,0 +1,82 @@
+package com.tablekok.waiting_server.application.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tablekok.waiting_server.application.dto.result.GetWaitingQueueResult;
+import com.tablekok.waiting_server.domain.repository.WaitingCachePort;
+import com.tablekok.waiting_server.domain.repository.WaitingRepository;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueEntry;
+
+import lombok.RequiredArgsConstructor;
+
+// 사장님 대기열 화면 조회 (대기열 조회 API, SSE 재연결 스냅샷에서 사용)
+@Service
+@RequiredArgsConstructor
+public class WaitingQueueViewService {
+	private final WaitingCachePort waitingCache;
+	private final WaitingRepository waitingRepository;
+
+	// 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회
+	public List<GetWaitingQueueResult> getQueue(UUID storeId) {
+		// Redis 에서 대기 순서대로 waitingId 와 화면 정보를 한 번에 가져옴
+		Map<UUID, WaitingQueueEntry> queueView = waitingCache.getQueueView(storeId);
+		if (queueView.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		// 화면 정보가 없는 웨이팅만 RDB 에서 조회하여 Redis 에 다시 채움
+		// DB 조회와 채우기 사이에 상태가 바뀌어 저장된 최신 정보는 덮어쓰지 않음 (HSETNX)
+		List<UUID> missingIds = queueView.entrySet().stream()
+			.filter(entry -> entry.getValue() == null)
+			.map(Map.Entry::getKey)
+			.toList();
+		if (!missingIds.isEmpty()) {
+			List<WaitingQueueEntry> loaded = waitingRepository.findAllByIdIn(missingIds).stream()
+				.map(WaitingQueueEntry::from)
+				.toList();
+			waitingCache.fillQueueEntries(storeId, loaded);
+			loaded.forEach(entry -> queueView.put(entry.waitingId(), entry));
+		}
+
+		// Redis의 순서를 보장하며 DTO로 변환
+		return mapToRankedQueueResults(queueView);
+	}
+
+	// 상태 변경은 커밋된 뒤에만 대기열 화면 정보에 반영 (롤백되면 이전 상태 유지)
+	// 같은 트랜잭션에서 이후 등록한 변경분 전송보다 먼저 실행됨
+	public void updateAfterCommit(WaitingQueueEntry entry, UUID storeId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			waitingCache.putQueueEntries(storeId, List.of(entry));
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				waitingCache.putQueueEntries(storeId, List.of(entry));
+			}
+		});
+	}
+
+	private List<GetWaitingQueueResult> mapToRankedQueueResults(Map<UUID, WaitingQueueEntry> queueView) {
+		List<GetWaitingQueueResult> results = new ArrayList<>();
+		int rank = 1;
+
+		// Redis 순서대로 반복하며 순위 부여 (DB 에도 없는 웨이팅은 건너뜀)
+		for (WaitingQueueEntry entry : queueView.values()) {
+			if (entry != null) {
+				results.add(GetWaitingQueueResult.of(entry, rank));
+			}
+			rank++;
+		}
+
+		return results;
+	}
+}
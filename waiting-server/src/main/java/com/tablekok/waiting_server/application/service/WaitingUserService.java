@@ -1,5 +1,6 @@
 package com.tablekok.waiting_server.application.service;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
@@ -23,11 +24,16 @@ import com.tablekok.waiting_server.domain.repository.StoreWaitingStatusRepositor
 import com.tablekok.waiting_server.domain.repository.WaitingCachePort;
 import com.tablekok.waiting_server.domain.repository.WaitingRepository;
 import com.tablekok.waiting_server.domain.service.WaitingUserDomainService;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueDelta;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueEntry;
+import com.tablekok.waiting_server.domain.vo.WaitingRegistration;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class WaitingUserService {
 
 	private final WaitingCachePort waitingCache;
@@ -36,6 +42,10 @@ public class WaitingUserService {
 	private final WaitingUserDomainService waitingUserDomainService;
 	private final NotificationPort notificationPort;
 	private final NoShowSchedulerPort noShowSchedulerPort;
+	private final WaitingWriter waitingWriter;
+	private final WaitingNumberSequence waitingNumberSequence;
+	private final OwnerQueueEventService ownerQueueEventService;
+	private final WaitingQueueViewService waitingQueueViewService;
 
 	@Transactional
 	public CreateWaitingResult createWaiting(CreateWaitingCommand command) {
@@ -46,42 +56,40 @@ public class WaitingUserService {
 
 		waitingUserDomainService.validateHeadcountPolicy(command.headcount(), status.getMinHeadcount(),
 			status.getMaxHeadcount()); // 인원수 유효성 검사
-		// 고객 웨이팅 중복 확인
-		waitingUserDomainService.validateDuplicateWaiting(
-			command.storeId(),
-			command.customerType(),
-			command.memberId(),
-			command.nonMemberPhone()
-		);
+		waitingUserDomainService.validateCustomer(command.customerType(), command.memberId(),
+			command.nonMemberPhone());
 
-		// 번호표 발급
-		int assignedNumber = waitingCache.incrementAndGetLatestNumber(
-			command.storeId(),
-			status.getLatestAssignedNumber() // Redis가 비었을 때 사용할 초기값
-		);
+		// 번호표 발급 (DB 에 기록된 최근 번호보다 작게 발급하지 않음)
+		int assignedNumber = waitingNumberSequence.next(command.storeId(), status.getLatestAssignedNumber());
 
-		// Waiting 엔티티 생성 후 저장
-		Waiting newWaiting = command.toEntity(assignedNumber);
-		UUID newWaitingId = newWaiting.getId();
-		Waiting savedWaiting = waitingRepository.save(newWaiting);
+		// Waiting 엔티티 생성 (ID 를 먼저 정하고 Redis 등록 후 DB 기록)
+		UUID newWaitingId = UUID.randomUUID();
+		Waiting newWaiting = command.toEntity(newWaitingId, assignedNumber);
 
-		// 발급된 번호(Score)와 WaitingId를 Redis ZSET에 등록
-		waitingCache.addWaiting(
-			command.storeId(),
-			assignedNumber,
-			newWaitingId.toString()
-		);
+		// 응답과 대기열 화면에 쓰는 등록 시각 (DB queued_at 과 기록 시점만큼 차이날 수 있음)
+		LocalDateTime queuedAt = LocalDateTime.now();
 
-		// Redis ZSET에서 본인의 순위(ZRANK)를 조회
-		Long rankZeroBased = waitingCache.getRank(command.storeId(), newWaitingId.toString());
-		int rank = (rankZeroBased != null) ? rankZeroBased.intValue() + 1 : 1;
+		// 중복 확인 + ZSET 등록 + 대기열 화면 정보 저장 + 순위(ZRANK) 조회를 Redis 한 번에 처리
+		WaitingQueueEntry queueEntry = WaitingQueueEntry.of(newWaiting, queuedAt);
+		WaitingRegistration registration = registerWaiting(command, queueEntry);
+		waitingUserDomainService.validateDuplicateWaiting(command.customerType(), registration.isDuplicate());
+
+		// 설정에 따라 즉시 또는 배치로 DB 저장. 실패하면 Redis 등록 취소
+		try {
+			waitingWriter.write(newWaiting);
+		} catch (RuntimeException e) {
+			waitingCache.removeWaiting(command.storeId(), newWaitingId.toString(), command.customerKey());
+			throw e;
+		}
+
+		// 사장님 대기열 화면에 새 웨이팅 전송 (커밋 후)
+		ownerQueueEventService.publish(command.storeId(), WaitingQueueDelta.Type.ADDED, queueEntry);
+
+		int rank = (int)registration.rank() + 1;
 
 		// ((현재 대기 팀 수) / (테이블 수))* (팀당 평균 소요 시간) 공식을 사용하여 estimatedWaitMinutes를 계산
 		int estimatedTime = waitingUserDomainService.calculateEstimateWaitMinutes(rank, status);
 
-		// status update
-		storeWaitingStatusRepository.updateLatestNumberIfGreater(command.storeId(), assignedNumber);
-
 		// CreateWaitingResult DTO를 반환
 		return CreateWaitingResult.of(
 			newWaitingId,
@@ -89,11 +97,34 @@ public class WaitingUserService {
 			assignedNumber,
 			rank,
 			estimatedTime,
-			savedWaiting.getStatus().name(), // WAITING
-			savedWaiting.getQueuedAt()
+			newWaiting.getStatus().name(), // WAITING
+			queuedAt
 		);
 	}
 
+	// 매장의 활성 고객 목록이 Redis 에 없으면 DB 기준으로 채운 뒤 다시 등록
+	private WaitingRegistration registerWaiting(CreateWaitingCommand command, WaitingQueueEntry entry) {
+		WaitingRegistration registration = waitingCache.registerWaiting(command.storeId(), command.customerKey(),
+			entry);
+		if (registration.isUninitialized()) {
+			waitingCache.initActiveCustomers(command.storeId(),
+				waitingUserDomainService.findActiveCustomers(command.storeId()));
+			registration = waitingCache.registerWaiting(command.storeId(), command.customerKey(), entry);
+		}
+
+		// 초기화용 DB 조회와 취소가 겹치면 이미 끝난 웨이팅이 활성 고객으로 남을 수 있음
+		// 중복으로 거절하기 전에 DB 상태를 확인하고, 끝난 웨이팅이면 정리한 뒤 한 번 더 등록
+		if (registration.isDuplicate()
+			&& waitingUserDomainService.isFinishedWaiting(registration.activeWaitingId())) {
+			log.warn("종료된 웨이팅이 활성 고객으로 남아 정리 storeId={}, waitingId={}", command.storeId(),
+				registration.activeWaitingId());
+			waitingCache.removeWaiting(command.storeId(), registration.activeWaitingId().toString(),
+				command.customerKey());
+			registration = waitingCache.registerWaiting(command.storeId(), command.customerKey(), entry);
+		}
+		return registration;
+	}
+
 	@Transactional(readOnly = true)
 	public GetWaitingResult getWaiting(GetWaitingCommand command) {
 		Waiting waiting = findWaiting(command.waitingId());
@@ -140,6 +171,11 @@ public class WaitingUserService {
 		// entity 상태 변경 (CALLED -> CONFIRMED)
 		waiting.confirmByUser();
 
+		// 대기열 화면 정보 상태 변경
+		WaitingQueueEntry queueEntry = WaitingQueueEntry.from(waiting);
+		waitingQueueViewService.updateAfterCommit(queueEntry, waiting.getStoreId());
+		ownerQueueEventService.publish(waiting.getStoreId(), WaitingQueueDelta.Type.CONFIRMED, queueEntry);
+
 		// 호출(CALLED) 시점부터 시작된 노쇼 자동 처리 타이머를 즉시 중단(취소)
 		noShowSchedulerPort.cancelNoShowProcessing(command.waitingId());
 
@@ -158,7 +194,9 @@ public class WaitingUserService {
 		waiting.cancelByUser();
 
 		// Redis ZSET에서 제거
-		waitingCache.removeWaiting(waiting.getStoreId(), command.waitingId().toString());
+		waitingCache.removeWaiting(waiting.getStoreId(), command.waitingId().toString(), waiting.getCustomerKey());
+		ownerQueueEventService.publish(waiting.getStoreId(), WaitingQueueDelta.Type.CANCELLED,
+			WaitingQueueEntry.from(waiting));
 
 		// CALLED 상태였다면 노쇼 타이머 중단
 		if (waiting.getStatus() == WaitingStatus.CALLED) {
@@ -182,8 +220,10 @@ public class WaitingUserService {
 			.orElseThrow(() -> new AppException(WaitingErrorCode.STORE_WAITING_STATUS_NOT_FOUND));
 	}
 
+	// 방금 등록되어 아직 DB 에 기록되지 않은 웨이팅이면 먼저 기록한 뒤 조회
 	private Waiting findWaiting(UUID waitingId) {
 		return waitingRepository.findById(waitingId)
+			.or(() -> waitingWriter.findAfterWrite(waitingId, () -> waitingRepository.findById(waitingId)))
 			.orElseThrow(() -> new AppException(WaitingErrorCode.WAITING_NOT_FOUND));
 	}
 
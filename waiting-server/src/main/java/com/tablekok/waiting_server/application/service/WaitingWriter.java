@@ -0,0 +1,266 @@
+package com.tablekok.waiting_server.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tablekok.waiting_server.domain.entity.Waiting;
+import com.tablekok.waiting_server.domain.repository.StoreWaitingStatusRepository;
+import com.tablekok.waiting_server.domain.repository.WaitingCachePort;
+import com.tablekok.waiting_server.domain.repository.WaitingRepository;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueDelta;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueEntry;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Redis 에 등록된 웨이팅을 DB 에 기록 (waiting.registration.durability)
+// - SYNC : 요청 트랜잭션에서 바로 INSERT. 롤백되면 Redis 등록도 취소
+// - WRITE_BEHIND : 버퍼에 넣고 응답. 전용 스레드가 batch-size 단위로 모아 INSERT 와 최근 번호 갱신
+//   버퍼가 가득 차면 요청 스레드에서 바로 기록. 서버가 비정상 종료되면 버퍼의 웨이팅은 유실될 수 있음
+//   다른 서버 버퍼에 있는 웨이팅은 기록될 때까지 조회되지 않으므로 조회 측은 findAfterWrite 로 잠시 기다림
+@Component
+@Slf4j
+public class WaitingWriter {
+
+	public enum Durability {
+		SYNC,
+		WRITE_BEHIND
+	}
+
+	private final WaitingRepository waitingRepository;
+	private final StoreWaitingStatusRepository storeWaitingStatusRepository;
+	private final WaitingCachePort waitingCache;
+	private final OwnerQueueEventService ownerQueueEventService;
+	private final TransactionTemplate transactionTemplate;
+	private final Durability durability;
+	private final int batchSize;
+	private final long flushInterval;
+	private final long remoteWait;
+
+	private final BlockingQueue<Waiting> buffer;
+	// 아직 DB 에 기록되지 않은 웨이팅 (read-your-writes 용)
+	private final Map<UUID, Waiting> pending = new ConcurrentHashMap<>();
+	// 기록 중인 배치가 커밋될 때까지 즉시 기록 요청을 기다리게 함
+	private final ReentrantLock flushLock = new ReentrantLock();
+	// 배치 기록이 끝날 때마다 신호
+	private final Condition flushed = flushLock.newCondition();
+	private final Thread flusher;
+	private volatile boolean running = true;
+
+	public WaitingWriter(
+		WaitingRepository waitingRepository,
+		StoreWaitingStatusRepository storeWaitingStatusRepository,
+		WaitingCachePort waitingCache,
+		OwnerQueueEventService ownerQueueEventService,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${waiting.registration.durability}") Durability durability,
+		@Value("${waiting.registration.write-behind.batch-size}") int batchSize,
+		@Value("${waiting.registration.write-behind.capacity}") int capacity,
+		@Value("${waiting.registration.write-behind.flush-interval}") long flushInterval,
+		@Value("${waiting.registration.write-behind.remote-wait}") long remoteWait
+	) {
+		this.waitingRepository = waitingRepository;
+		this.storeWaitingStatusRepository = storeWaitingStatusRepository;
+		this.waitingCache = waitingCache;
+		this.ownerQueueEventService = ownerQueueEventService;
+		// 조회 트랜잭션(readOnly) 안에서 즉시 기록을 요청해도 별도 트랜잭션으로 커밋
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.durability = durability;
+		this.batchSize = batchSize;
+		this.flushInterval = flushInterval;
+		this.remoteWait = remoteWait;
+		this.buffer = new LinkedBlockingQueue<>(capacity);
+
+		Gauge.builder("waiting.registration.pending", pending, Map::size)
+			.description("DB 기록 대기 중인 웨이팅 수")
+			.register(meterRegistry);
+
+		this.flusher = durability == Durability.WRITE_BEHIND
+			? Thread.ofPlatform().name("waiting-write-behind").daemon().start(this::runFlusher)
+			: null;
+		log.info("웨이팅 등록 기록 방식 : {}", durability);
+	}
+
+	// 새 웨이팅 기록. SYNC 는 호출 트랜잭션에 참여
+	public void write(Waiting waiting) {
+		if (durability == Durability.WRITE_BEHIND) {
+			pending.put(waiting.getId(), waiting);
+			if (buffer.offer(waiting)) {
+				return;
+			}
+			pending.remove(waiting.getId());
+			log.warn("웨이팅 기록 버퍼 초과, 즉시 기록 waitingId={}", waiting.getId());
+		}
+
+		insert(List.of(waiting));
+		cancelOnRollback(waiting);
+	}
+
+	// DB 에서 찾지 못한 웨이팅을 기록된 뒤 다시 조회
+	// - 이 서버 버퍼에 있으면 바로 기록
+	// - WRITE_BEHIND 에서는 다른 서버가 등록해 그 서버 버퍼에 있을 수 있으므로 remote-wait 동안 다시 조회
+	public <T> Optional<T> findAfterWrite(UUID waitingId, Supplier<Optional<T>> lookup) {
+		if (flushIfPending(waitingId)) {
+			return lookup.get();
+		}
+		if (durability != Durability.WRITE_BEHIND) {
+			return Optional.empty();
+		}
+
+		long deadline = System.currentTimeMillis() + remoteWait;
+		try {
+			while (System.currentTimeMillis() < deadline) {
+				Thread.sleep(flushInterval);
+				Optional<T> found = lookup.get();
+				if (found.isPresent()) {
+					return found;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return Optional.empty();
+	}
+
+	// 이 서버 버퍼에 있는 웨이팅이면 즉시 기록. 버퍼에 있었으면 true
+	private boolean flushIfPending(UUID waitingId) {
+		if (!pending.containsKey(waitingId)) {
+			return false;
+		}
+		flushLock.lock();
+		try {
+			flushBuffer();
+			// 기록 스레드가 버퍼에서 꺼냈지만 아직 락을 잡기 전이면 그 배치가 기록될 때까지 대기
+			while (pending.containsKey(waitingId)) {
+				flushed.await(flushInterval, TimeUnit.MILLISECONDS);
+				flushBuffer();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			flushLock.unlock();
+		}
+		return true;
+	}
+
+	private void runFlusher() {
+		while (running || !buffer.isEmpty()) {
+			try {
+				Waiting first = buffer.poll(flushInterval, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				flushLock.lock();
+				try {
+					List<Waiting> batch = new ArrayList<>(batchSize);
+					batch.add(first);
+					buffer.drainTo(batch, batchSize - 1);
+					flush(batch);
+					flushed.signalAll();
+				} finally {
+					flushLock.unlock();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				log.error("웨이팅 기록 스레드 오류", e);
+			}
+		}
+	}
+
+	// flushLock 을 잡은 상태에서 호출
+	private void flushBuffer() {
+		List<Waiting> batch = new ArrayList<>(batchSize);
+		while (buffer.drainTo(batch, batchSize) > 0) {
+			flush(batch);
+			batch.clear();
+		}
+	}
+
+	private void flush(List<Waiting> batch) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> insert(batch));
+		} catch (Exception e) {
+			// 배치 중 일부만 실패했을 수 있으므로 한 건씩 다시 기록
+			log.warn("웨이팅 배치 기록 실패, 개별 기록으로 재시도 size={}", batch.size(), e);
+			batch.forEach(this::flushOne);
+		} finally {
+			batch.forEach(waiting -> pending.remove(waiting.getId()));
+		}
+	}
+
+	private void flushOne(Waiting waiting) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> insert(List.of(waiting)));
+		} catch (Exception e) {
+			log.error("웨이팅 기록 실패, 대기열에서 제거 waitingId={}", waiting.getId(), e);
+			removeFromCache(waiting);
+			// 이미 등록 변경분을 받은 사장님 화면에서도 제거
+			ownerQueueEventService.publish(waiting.getStoreId(), WaitingQueueDelta.Type.CANCELLED,
+				WaitingQueueEntry.from(waiting));
+		}
+	}
+
+	// 웨이팅 INSERT 후 매장별 최근 발급 번호를 가장 큰 번호로 갱신
+	private void insert(List<Waiting> waitings) {
+		waitingRepository.insertAll(waitings);
+		waitings.stream()
+			.collect(Collectors.toMap(Waiting::getStoreId, Waiting::getWaitingNumber, Math::max))
+			.forEach(storeWaitingStatusRepository::updateLatestNumberIfGreater);
+	}
+
+	private void cancelOnRollback(Waiting waiting) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_ROLLED_BACK) {
+					removeFromCache(waiting);
+				}
+			}
+		});
+	}
+
+	private void removeFromCache(Waiting waiting) {
+		try {
+			waitingCache.removeWaiting(waiting.getStoreId(), waiting.getId().toString(), waiting.getCustomerKey());
+		} catch (Exception e) {
+			log.error("대기열 제거 실패 waitingId={}", waiting.getId(), e);
+		}
+	}
+
+	// 종료 시 남은 버퍼를 모두 기록
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		running = false;
+		if (flusher != null) {
+			flusher.join(TimeUnit.SECONDS.toMillis(10));
+		}
+	}
+}
@@ -101,10 +101,26 @@ public class Waiting extends BaseEntity {
 		String nonMemberPhone, // nullable
 		int headcount) {
 
+		// 객체 생성시 ID 바로 발급
+		return create(UUID.randomUUID(), storeId, waitingNumber, customerType, memberId, nonMemberName,
+			nonMemberPhone, headcount);
+	}
+
+	// 번호 발급 전에 ID 를 먼저 정한 경우 (Redis 대기열 등록 후 생성)
+	public static Waiting create(
+		UUID id,
+		UUID storeId,
+		int waitingNumber,
+		CustomerType customerType,
+		UUID memberId, // nullable
+		String nonMemberName, // nullable
+		String nonMemberPhone, // nullable
+		int headcount) {
+
 		validateCustomerInfo(customerType, memberId, nonMemberName, nonMemberPhone);
 
 		return Waiting.builder()
-			.id(UUID.randomUUID()) // 객체 생성시 ID 바로 발급
+			.id(id)
 			.storeId(storeId)
 			.waitingNumber(waitingNumber)
 			.customerType(customerType)
@@ -131,6 +147,15 @@ public class Waiting extends BaseEntity {
 		}
 	}
 
+	// 매장별 중복 웨이팅 확인용 고객 식별 키 (회원 ID 또는 비회원 전화번호)
+	public static String customerKeyOf(CustomerType customerType, UUID memberId, String nonMemberPhone) {
+		return customerType == CustomerType.MEMBER ? "M:" + memberId : "P:" + nonMemberPhone;
+	}
+
+	public String getCustomerKey() {
+		return customerKeyOf(customerType, memberId, nonMemberPhone);
+	}
+
 	public boolean isMember() {
 		return this.customerType == CustomerType.MEMBER;
 	}
@@ -1,19 +1,32 @@
 package com.tablekok.waiting_server.domain.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import com.tablekok.waiting_server.domain.vo.WaitingQueueEntry;
+import com.tablekok.waiting_server.domain.vo.WaitingRegistration;
+
 public interface WaitingCachePort {
 
-	// ZSET에 웨이팅 항목을 추가합니다. (Score: 웨이팅번호, Member: 사용자 식별자)
-	void addWaiting(UUID storeId, int waitingNumber, String memberKey);
+	// 중복 확인, ZSET 등록(Score: 등록 순번, Member: waitingId), 대기열 화면 정보 저장, 순위 조회를 한 번에 처리
+	WaitingRegistration registerWaiting(UUID storeId, String customerKey, WaitingQueueEntry entry);
+
+	// 매장의 활성 고객 목록 초기화. Key: 고객 키, Value: waitingId
+	void initActiveCustomers(UUID storeId, Map<String, String> activeCustomers);
 
 	// ZSET에서 특정 항목의 대기 순위(Rank, 1-based)를 조회합니다.
 	Long getRank(UUID storeId, String memberKey);
 
-	void removeWaiting(UUID storeId, String toString);
+	// 대기열, 대기열 화면 정보, 활성 고객 목록에서 제거
+	void removeWaiting(UUID storeId, String waitingId, String customerKey);
+
+	// 대기열 화면 정보 저장 (커밋된 상태 변경 반영)
+	void putQueueEntries(UUID storeId, List<WaitingQueueEntry> entries);
 
-	List<String> getWaitingIds(UUID storeId);
+	// 비어 있는 대기열 화면 정보만 채움 (캐시 미스 시 DB 값). 그 사이 저장된 최신 정보는 덮어쓰지 않음
+	void fillQueueEntries(UUID storeId, List<WaitingQueueEntry> entries);
 
-	int incrementAndGetLatestNumber(UUID storeId, int dbLastNumber);
+	// 대기 순서대로 waitingId 와 화면 정보 조회. 화면 정보가 없는 웨이팅은 값이 null
+	Map<UUID, WaitingQueueEntry> getQueueView(UUID storeId);
 }
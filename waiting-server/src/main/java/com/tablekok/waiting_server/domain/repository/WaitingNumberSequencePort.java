@@ -0,0 +1,10 @@
+package com.tablekok.waiting_server.domain.repository;
+
+import java.util.UUID;
+
+public interface WaitingNumberSequencePort {
+
+	// 매장 번호를 blockSize 만큼 할당하고 블록의 마지막 번호 반환 (floor 보다 작은 번호는 발급하지 않음)
+	// 번호 키가 없으면 seed 가 true 일 때 floor 부터 초기화, false 면 0 반환
+	int allocate(UUID storeId, int blockSize, int floor, boolean seed);
+}
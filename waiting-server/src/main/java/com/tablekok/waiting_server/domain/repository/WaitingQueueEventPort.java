@@ -0,0 +1,21 @@
+package com.tablekok.waiting_server.domain.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.tablekok.waiting_server.domain.vo.WaitingQueueCursor;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueDelta;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueEntry;
+
+public interface WaitingQueueEventPort {
+
+	// 매장 대기열 변경을 순번과 함께 기록
+	WaitingQueueDelta append(UUID storeId, WaitingQueueDelta.Type type, WaitingQueueEntry waiting);
+
+	// last 이후의 변경. 로그가 잘렸거나 일일 초기화 등으로 세대가 바뀌었으면 empty (스냅샷 필요)
+	Optional<List<WaitingQueueDelta>> findSince(UUID storeId, WaitingQueueCursor last);
+
+	// 현재까지 발급된 위치 (스냅샷 기준)
+	WaitingQueueCursor currentCursor(UUID storeId);
+}
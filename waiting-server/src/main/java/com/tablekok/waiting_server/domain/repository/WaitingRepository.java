@@ -1,5 +1,6 @@
 package com.tablekok.waiting_server.domain.repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -12,14 +13,17 @@ public interface WaitingRepository {
 
 	Waiting save(Waiting waiting);
 
+	// 새 웨이팅을 한 번에 저장 (ID 가 미리 정해져 있으므로 merge 조회 없이 persist)
+	void insertAll(List<Waiting> waitings);
+
 	Optional<Waiting> findById(UUID waitingId);
 
 	Optional<Waiting> findByIdAndStoreId(UUID waitingId, UUID storeId);
 
 	List<Waiting> findAllByIdIn(List<UUID> waitingIds);
 
-	boolean existsByStoreIdAndMemberIdAndStatusIn(UUID storeId, UUID memberId, Collection<WaitingStatus> status);
+	List<Waiting> findAllByStoreIdAndStatusIn(UUID storeId, Collection<WaitingStatus> status);
 
-	boolean existsByStoreIdAndNonMemberPhoneAndStatusIn(UUID storeId, String nonMemberPhone,
-		Collection<WaitingStatus> status);
+	// since 이후 등록된 웨이팅 중 가장 큰 번호 (없으면 0)
+	int findMaxWaitingNumberSince(UUID storeId, LocalDateTime since);
 }
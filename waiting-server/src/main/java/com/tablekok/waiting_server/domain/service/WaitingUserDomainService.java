@@ -1,6 +1,8 @@
 package com.tablekok.waiting_server.domain.service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
@@ -46,41 +48,48 @@ public class WaitingUserDomainService {
 		return requiredTableTurns * status.getTurnoverRateMinutes();
 	}
 
-	public void validateDuplicateWaiting(UUID storeId, CustomerType customerType, UUID memberId,
-		String nonMemberPhone) {
+	// 중복 확인에 쓰이는 고객 정보 검증 (실제 중복 여부는 Redis 활성 고객 목록으로 확인)
+	public void validateCustomer(CustomerType customerType, UUID memberId, String nonMemberPhone) {
 
 		// 유효하지 않은 CustomerType인 경우 예외 처리
 		if (customerType != CustomerType.MEMBER && customerType != CustomerType.NON_MEMBER) {
 			throw new AppException(WaitingDomainErrorCode.INVALID_CUSTOMER_TYPE);
 		}
 
-		if (customerType == CustomerType.MEMBER) {
-			if (memberId == null) {
-				throw new AppException(WaitingDomainErrorCode.MEMBER_ID_REQUIRED);
-			}
-
-			boolean exists = waitingRepository.existsByStoreIdAndMemberIdAndStatusIn(
-				storeId, memberId, ACTIVE_STATUSES
-			);
-
-			if (exists) { // 이미 웨이팅 등록이 되어있다면
-				throw new AppException(WaitingDomainErrorCode.DUPLICATE_MEMBER_WAITING);
-			}
+		if (customerType == CustomerType.MEMBER && memberId == null) {
+			throw new AppException(WaitingDomainErrorCode.MEMBER_ID_REQUIRED);
 		}
 
-		if (customerType == CustomerType.NON_MEMBER) {
-			if (nonMemberPhone == null || nonMemberPhone.isEmpty()) {
-				throw new AppException(WaitingDomainErrorCode.PHONE_NUMBER_REQUIRED);
-			}
+		if (customerType == CustomerType.NON_MEMBER && (nonMemberPhone == null || nonMemberPhone.isEmpty())) {
+			throw new AppException(WaitingDomainErrorCode.PHONE_NUMBER_REQUIRED);
+		}
+	}
 
-			boolean exists = waitingRepository.existsByStoreIdAndNonMemberPhoneAndStatusIn(
-				storeId, nonMemberPhone, ACTIVE_STATUSES
-			);
+	// 이미 웨이팅 등록이 되어있다면 고객 타입에 맞는 예외
+	public void validateDuplicateWaiting(CustomerType customerType, boolean duplicated) {
+		if (!duplicated) {
+			return;
+		}
+		if (customerType == CustomerType.MEMBER) {
+			throw new AppException(WaitingDomainErrorCode.DUPLICATE_MEMBER_WAITING);
+		}
+		throw new AppException(WaitingDomainErrorCode.DUPLICATE_NON_MEMBER_WAITING);
+	}
 
-			if (exists) { // 이미 웨이팅 등록이 되어있다면
-				throw new AppException(WaitingDomainErrorCode.DUPLICATE_NON_MEMBER_WAITING);
-			}
+	// 매장의 활성 웨이팅 고객 목록 (Redis 초기화용). Key: 고객 키, Value: waitingId
+	public Map<String, String> findActiveCustomers(UUID storeId) {
+		Map<String, String> activeCustomers = new HashMap<>();
+		for (Waiting waiting : waitingRepository.findAllByStoreIdAndStatusIn(storeId, ACTIVE_STATUSES)) {
+			activeCustomers.put(waiting.getCustomerKey(), waiting.getId().toString());
 		}
+		return activeCustomers;
+	}
+
+	// 이미 종료된 상태로 DB 에 기록된 웨이팅인지 (아직 기록되지 않은 웨이팅은 false)
+	public boolean isFinishedWaiting(UUID waitingId) {
+		return waitingRepository.findById(waitingId)
+			.map(waiting -> !ACTIVE_STATUSES.contains(waiting.getStatus()))
+			.orElse(false);
 	}
 
 	public void validateAccessPermission(Waiting waiting, UUID memberId, String nonMemberName, String nonMemberPhone) {
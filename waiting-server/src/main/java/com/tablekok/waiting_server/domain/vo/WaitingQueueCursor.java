@@ -0,0 +1,34 @@
+package com.tablekok.waiting_server.domain.vo;
+
+import java.util.Optional;
+
+// 사장님 대기열 변경 위치. SSE 이벤트 ID 는 "세대-순번"
+// 세대는 일일 초기화나 Redis 유실로 순번이 처음부터 다시 시작될 때마다 바뀜. 세대가 다르면 순번을 비교하지 않고 스냅샷 전송
+public record WaitingQueueCursor(
+	String epoch,
+	long seq
+) {
+	private static final char SEPARATOR = '-';
+
+	public String toEventId() {
+		return epoch + SEPARATOR + seq;
+	}
+
+	// Last-Event-ID 해석. 형식이 맞지 않으면 (세대가 없던 이전 형식 포함) empty
+	public static Optional<WaitingQueueCursor> parse(String eventId) {
+		if (eventId == null || eventId.isBlank()) {
+			return Optional.empty();
+		}
+		String value = eventId.trim();
+		int separator = value.lastIndexOf(SEPARATOR);
+		if (separator <= 0) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(new WaitingQueueCursor(value.substring(0, separator),
+				Long.parseLong(value.substring(separator + 1))));
+		} catch (NumberFormatException e) {
+			return Optional.empty();
+		}
+	}
+}
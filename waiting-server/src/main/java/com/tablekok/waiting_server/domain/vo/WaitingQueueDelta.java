@@ -0,0 +1,28 @@
+package com.tablekok.waiting_server.domain.vo;
+
+// 사장님 대기열 화면에 보내는 변경 단위. seq 는 매장별로 증가하는 순번, epoch 는 순번의 세대 (SSE 이벤트 ID)
+// waiting 은 변경 후 화면 정보이므로 같은 변경을 여러 번 적용해도 결과가 같음
+public record WaitingQueueDelta(
+	String epoch,
+	long seq,
+	Type type,
+	WaitingQueueEntry waiting
+) {
+	public WaitingQueueCursor cursor() {
+		return new WaitingQueueCursor(epoch, seq);
+	}
+
+	public enum Type {
+		ADDED,
+		CALLED,
+		CONFIRMED,
+		ENTERED,
+		CANCELLED,
+		NO_SHOW;
+
+		// 대기열에서 빠지는 변경
+		public boolean removesFromQueue() {
+			return this == ENTERED || this == CANCELLED || this == NO_SHOW;
+		}
+	}
+}
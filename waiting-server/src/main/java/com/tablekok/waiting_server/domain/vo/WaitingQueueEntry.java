@@ -0,0 +1,53 @@
+package com.tablekok.waiting_server.domain.vo;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.tablekok.waiting_server.domain.entity.CustomerType;
+import com.tablekok.waiting_server.domain.entity.Waiting;
+import com.tablekok.waiting_server.domain.entity.WaitingStatus;
+
+// 사장님 대기열 화면에 보여줄 웨이팅 정보 (Redis 에 매장별로 저장)
+// 비회원 이름은 마스킹하여 저장 (전화번호는 사장님이 연락할 수 있도록 그대로)
+public record WaitingQueueEntry(
+	UUID waitingId,
+	int waitingNumber,
+	WaitingStatus status,
+	CustomerType customerType,
+	int headcount,
+	String nonMemberName,
+	String nonMemberPhone,
+	LocalDateTime queuedAt
+) {
+
+	public static WaitingQueueEntry from(Waiting waiting) {
+		return of(waiting, waiting.getQueuedAt());
+	}
+
+	// 아직 DB 에 기록되지 않아 queuedAt 이 비어 있는 웨이팅
+	public static WaitingQueueEntry of(Waiting waiting, LocalDateTime queuedAt) {
+		boolean isNonMember = waiting.getCustomerType() == CustomerType.NON_MEMBER;
+
+		return new WaitingQueueEntry(
+			waiting.getId(),
+			waiting.getWaitingNumber(),
+			waiting.getStatus(),
+			waiting.getCustomerType(),
+			waiting.getHeadcount(),
+			isNonMember ? maskName(waiting.getNonMemberName()) : null,
+			isNonMember ? waiting.getNonMemberPhone() : null,
+			queuedAt
+		);
+	}
+
+	// 홍길동 -> 홍*동, 김철 -> 김*
+	private static String maskName(String name) {
+		if (name == null || name.length() < 2) {
+			return name;
+		}
+		if (name.length() == 2) {
+			return name.charAt(0) + "*";
+		}
+		return name.charAt(0) + "*".repeat(name.length() - 2) + name.charAt(name.length() - 1);
+	}
+}
@@ -0,0 +1,39 @@
+package com.tablekok.waiting_server.domain.vo;
+
+import java.util.UUID;
+
+// Redis 웨이팅 등록 결과. rank 는 0부터 시작, activeWaitingId 는 중복일 때 이미 등록된 웨이팅
+public record WaitingRegistration(
+	Result result,
+	int waitingNumber,
+	long rank,
+	UUID activeWaitingId
+) {
+	public enum Result {
+		REGISTERED,
+		// 같은 매장에 이미 활성 웨이팅이 있는 고객
+		DUPLICATE,
+		// 매장의 활성 고객 목록이 아직 Redis 에 없음 (DB 기준으로 초기화 필요)
+		UNINITIALIZED
+	}
+
+	public static WaitingRegistration registered(int waitingNumber, long rank) {
+		return new WaitingRegistration(Result.REGISTERED, waitingNumber, rank, null);
+	}
+
+	public static WaitingRegistration duplicate(UUID activeWaitingId) {
+		return new WaitingRegistration(Result.DUPLICATE, 0, 0, activeWaitingId);
+	}
+
+	public static WaitingRegistration uninitialized() {
+		return new WaitingRegistration(Result.UNINITIALIZED, 0, 0, null);
+	}
+
+	public boolean isDuplicate() {
+		return result == Result.DUPLICATE;
+	}
+
+	public boolean isUninitialized() {
+		return result == Result.UNINITIALIZED;
+	}
+}
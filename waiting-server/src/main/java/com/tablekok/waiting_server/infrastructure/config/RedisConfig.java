@@ -4,7 +4,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class RedisConfig {
@@ -30,4 +32,27 @@ public class RedisConfig {
 		redisTemplate.afterPropertiesSet();
 		return redisTemplate;
 	}
+
+	// 서버 간 SSE 알림 구독. 같은 연결로 가는 알림 순서가 바뀌지 않도록 메시지는 한 스레드에서 처리
+	// (처리는 SseDispatcher outbox 에 넣기만 하고 ack 회신도 따로 모아 보내므로 오래 걸리지 않음)
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(
+		RedisConnectionFactory connectionFactory,
+		ThreadPoolTaskExecutor sseNotifyExecutor
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.setTaskExecutor(sseNotifyExecutor);
+		return container;
+	}
+
+	// 종료 시 컨테이너와 함께 정리되도록 스프링 빈으로 관리
+	@Bean
+	public ThreadPoolTaskExecutor sseNotifyExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setThreadNamePrefix("sse-notify-");
+		return executor;
+	}
 }
@@ -1,14 +1,24 @@
 package com.tablekok.waiting_server.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 public class SchedulerConfig {
 	@Bean
-	public TaskScheduler taskScheduler() {
+	public TaskScheduler taskScheduler(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		// 가상 스레드 모드: 작업마다 가상 스레드에서 실행 (풀 크기 제한 없음)
+		if (virtualThreads) {
+			SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+			scheduler.setVirtualThreads(true);
+			scheduler.setThreadNamePrefix("NoShow-Scheduler-");
+			return scheduler;
+		}
+
 		// 작업을 처리할 스레드 풀 크기 설정 (10개)
 		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
 		scheduler.setPoolSize(10);
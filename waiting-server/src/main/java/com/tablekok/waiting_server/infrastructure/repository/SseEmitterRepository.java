@@ -21,9 +21,9 @@ public class SseEmitterRepository {
 		return emitter;
 	}
 
-	// 연결 삭제
-	public void deleteCustomerEmitter(UUID waitingId) {
-		customerEmitters.remove(waitingId);
+	// 연결 삭제. 해당 연결이 아직 저장되어 있을 때만 삭제 (같은 키로 다시 연결된 Emitter 는 유지)
+	public boolean deleteCustomerEmitter(UUID waitingId, SseEmitter emitter) {
+		return customerEmitters.remove(waitingId, emitter);
 	}
 
 	// 특정 Emitter 조회
@@ -38,9 +38,9 @@ public class SseEmitterRepository {
 		return emitter;
 	}
 
-	// 사장님 연결 삭제
-	public void deleteOwnerEmitter(UUID storeId) {
-		ownerEmitters.remove(storeId);
+	// 사장님 연결 삭제. 해당 연결이 아직 저장되어 있을 때만 삭제
+	public boolean deleteOwnerEmitter(UUID storeId, SseEmitter emitter) {
+		return ownerEmitters.remove(storeId, emitter);
 	}
 
 	// 사장님 Emitter 조회
@@ -1,152 +1,145 @@
 package com.tablekok.waiting_server.infrastructure.repository;
 
-import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.tablekok.waiting_server.application.dto.result.GetWaitingQueueResult;
 import com.tablekok.waiting_server.application.port.NotificationPort;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueCursor;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueDelta;
+import com.tablekok.waiting_server.infrastructure.sse.NotificationMessage.Target;
+import com.tablekok.waiting_server.infrastructure.sse.SseDispatcher;
+import com.tablekok.waiting_server.infrastructure.sse.SseEvent;
+import com.tablekok.waiting_server.infrastructure.sse.SseNotificationBroker;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+// 알림은 연결이 어느 서버에 있든 전달되도록 브로커로 발행 (연결을 가진 서버가 전송)
+// 연결 직후 보내는 데이터(연결 확인, 스냅샷, 재전송)만 이 서버의 연결로 직접 전송
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SseNotificationAdapter implements NotificationPort {
 
 	private final SseEmitterRepository sseEmitterRepository;
+	// 실제 전송은 디스패처 워커가 수행 (요청 스레드의 afterCommit 이 느린 클라이언트에 막히지 않도록)
+	private final SseDispatcher sseDispatcher;
+	private final SseNotificationBroker sseNotificationBroker;
 	private static final Long DEFAULT_TIMEOUT = 60L * 60 * 1000; // 1시간 타임아웃
 
 	@Override
 	public void sendWaitingCall(UUID waitingId, int waitingNumber) {
-		sseEmitterRepository.findCustomerEmitter(waitingId).ifPresent(emitter -> {
-			try {
-				// 이벤트 빌더를 사용하여 데이터 전송 (이벤트 이름: "waiting-call")
-				emitter.send(SseEmitter.event()
-					.name("waiting-call") // 클라이언트가 수신할 이벤트 이름
-					.data(Map.of(
-						"waitingNumber", waitingNumber,
-						"message", "입장 호출! 10분 내 매장으로 와주세요. \n 10분 내로 오지 않으면 자동 취소돼요."
-					))
-					.id(waitingId.toString()) // 이벤트 ID (재연결 시 유용)
-				);
-
-			} catch (IOException e) {
-				// 전송 실패 시 (클라이언트 연결 끊김 등) 연결 삭제
-				log.error("SSE 전송 실패 (waiting-call). WaitingId: {}", waitingId, e);
-				sseEmitterRepository.deleteCustomerEmitter(waitingId);
-			}
-		});
+		// 이벤트 이름: "waiting-call", 이벤트 ID (재연결 시 유용)
+		sseNotificationBroker.publish(
+			Target.CUSTOMER,
+			waitingId,
+			"waiting-call",
+			Map.of(
+				"waitingNumber", waitingNumber,
+				"message", "입장 호출! 10분 내 매장으로 와주세요. \n 10분 내로 오지 않으면 자동 취소돼요."
+			),
+			waitingId.toString(),
+			false
+		);
 	}
 
 	@Override
 	public void sendNoShowAlert(UUID waitingId) {
-		sseEmitterRepository.findCustomerEmitter(waitingId).ifPresent(emitter -> {
-			try {
-				// 이벤트 빌더를 사용하여 데이터 전송 (이벤트 이름: "waiting-call")
-				emitter.send(SseEmitter.event()
-					.name("waiting-noshow-timeout") // 클라이언트가 수신할 이벤트 이름
-					.data(Map.of(
-						"newStatus", "NO_SHOW",
-						"message", "호출 응답 시간이 초과되어 자동 노쇼 처리되었습니다."
-					))
-					.id(waitingId.toString()) // 이벤트 ID (재연결 시 유용)
-				);
-
-				// 연결 종료
-				emitter.complete();
-				sseEmitterRepository.deleteCustomerEmitter(waitingId);
-			} catch (IOException e) {
-				// 전송 실패 시 (클라이언트 연결 끊김 등) 연결 삭제
-				log.error("SSE 전송 실패 (waiting-noshow-timeout). WaitingId: {}", waitingId, e);
-				sseEmitterRepository.deleteCustomerEmitter(waitingId);
-			}
-		});
+		// 전송 후 연결 종료
+		sseNotificationBroker.publish(
+			Target.CUSTOMER,
+			waitingId,
+			"waiting-noshow-timeout",
+			Map.of(
+				"newStatus", "NO_SHOW",
+				"message", "호출 응답 시간이 초과되어 자동 노쇼 처리되었습니다."
+			),
+			waitingId.toString(),
+			true
+		);
 	}
 
 	@Override
 	public void sendWaitingConfirmed(UUID waitingId, int waitingNumber, UUID storeId) {
-		sseEmitterRepository.findOwnerEmitter(storeId).ifPresent(emitter -> {
-			try {
-				// 2. 이벤트 빌더를 사용하여 데이터 전송
-				emitter.send(SseEmitter.event()
-					.name("waiting-confirmed") // 사장님 분클라이언트가 수신할 이벤트 이름
-					.data(Map.of(
-						"waitingId", waitingId.toString(),
-						"waitingNumber", waitingNumber,
-						"newStatus", "CONFIRMED",
-						"message", waitingNumber + "번 손님이 웨이팅을 확정했습니다. 10분 내로 매장 근처로 온다면 '입장'으로 상태를 변경하세요."
-					))
-					.id(storeId.toString() + "-" + waitingId)
-				);
-
-			} catch (IOException e) {
-				// 전송 실패 시 (사장님 클라이언트 연결 끊김 등) 연결 삭제
-				log.error("SSE 전송 실패 (waiting-confirmed). StoreId: {}", storeId, e);
-				sseEmitterRepository.deleteOwnerEmitter(storeId);
-			}
-		});
+		sseNotificationBroker.publish(
+			Target.OWNER,
+			storeId,
+			"waiting-confirmed", // 사장님 분클라이언트가 수신할 이벤트 이름
+			Map.of(
+				"waitingId", waitingId.toString(),
+				"waitingNumber", waitingNumber,
+				"newStatus", "CONFIRMED",
+				"message", waitingNumber + "번 손님이 웨이팅을 확정했습니다. 10분 내로 매장 근처로 온다면 '입장'으로 상태를 변경하세요."
+			),
+			null, // 사장님 채널의 이벤트 ID 는 대기열 변경 순번 (Last-Event-ID) 으로만 사용
+			false
+		);
 	}
 
 	@Override
-	public void sendOwnerQueueUpdate(UUID storeId) {
-		sseEmitterRepository.findOwnerEmitter(storeId).ifPresent(emitter -> {
-			try {
-				emitter.send(SseEmitter.event()
-					.name("queue-update")
-					.data(Map.of("message", "노쇼 처리로 인해 웨이팅 큐가 변경되었습니다."))
-				);
-			} catch (IOException e) {
-				log.error("사장님 SSE 알림 전송 실패: StoreId={}", storeId, e);
-				sseEmitterRepository.deleteOwnerEmitter(storeId);
-			}
-		});
+	public void sendOwnerQueueDelta(UUID storeId, WaitingQueueDelta delta) {
+		// 변경분은 순서대로 모두 적용해야 하므로 대체하지 않음. outbox 를 넘기면 연결이 끊기고 재연결 시 복구
+		sseNotificationBroker.publish(
+			Target.OWNER,
+			storeId,
+			"queue-delta",
+			delta,
+			delta.cursor().toEventId(),
+			false
+		);
+	}
+
+	@Override
+	public void sendOwnerQueueSnapshot(SseEmitter emitter, WaitingQueueCursor cursor,
+		List<GetWaitingQueueResult> waitings) {
+		sseDispatcher.send(emitter, SseEvent.of(
+			"queue-snapshot",
+			Map.of("epoch", cursor.epoch(), "seq", cursor.seq(), "waitings", waitings),
+			cursor.toEventId()
+		));
+	}
+
+	@Override
+	public void sendOwnerQueueReplay(SseEmitter emitter, List<WaitingQueueDelta> deltas) {
+		deltas.forEach(delta -> sseDispatcher.send(emitter, SseEvent.of(
+			"queue-delta",
+			delta,
+			delta.cursor().toEventId()
+		)));
 	}
 
 	@Override
 	public void sendOwnerCancelAlert(UUID waitingId) {
-		sseEmitterRepository.findCustomerEmitter(waitingId).ifPresent(emitter -> {
-			try {
-				emitter.send(SseEmitter.event()
-					.name("waiting-canceled-by-owner") // 이벤트 이름: 사장님 취소임을 명확히
-					.data(Map.of(
-						"newStatus", "OWNER_CANCELED",
-						"message", "죄송합니다. 매장 사정으로 웨이팅이 취소되었습니다."
-					))
-					.id(waitingId.toString())
-				);
-				// 연결 종료
-				emitter.complete();
-				sseEmitterRepository.deleteCustomerEmitter(waitingId);
-			} catch (IOException e) {
-				log.error("SSE 전송 실패 (waiting-canceled-by-owner). WaitingId: {}", waitingId, e);
-				sseEmitterRepository.deleteCustomerEmitter(waitingId);
-			}
-		});
+		// 전송 후 연결 종료
+		sseNotificationBroker.publish(
+			Target.CUSTOMER,
+			waitingId,
+			"waiting-canceled-by-owner", // 이벤트 이름: 사장님 취소임을 명확히
+			Map.of(
+				"newStatus", "OWNER_CANCELED",
+				"message", "죄송합니다. 매장 사정으로 웨이팅이 취소되었습니다."
+			),
+			waitingId.toString(),
+			true
+		);
 	}
 
 	@Override
 	public void sendEnteredAlert(UUID waitingId) {
-		sseEmitterRepository.findCustomerEmitter(waitingId).ifPresent(emitter -> {
-			try {
-				emitter.send(SseEmitter.event()
-					.name("waiting-entered")
-					.data(Map.of("newStatus", "ENTERED", "message", "입장 처리되었습니다."))
-					.id(waitingId.toString())
-				);
-
-				// 최종 상태이므로 연결 종료
-				emitter.complete();
-				sseEmitterRepository.deleteCustomerEmitter(waitingId);
-
-			} catch (IOException e) {
-				log.error("SSE 전송 실패 (waiting-entered). WaitingId: {}", waitingId, e);
-				sseEmitterRepository.deleteCustomerEmitter(waitingId);
-			}
-		});
+		// 최종 상태이므로 전송 후 연결 종료
+		sseNotificationBroker.publish(
+			Target.CUSTOMER,
+			waitingId,
+			"waiting-entered",
+			Map.of("newStatus", "ENTERED", "message", "입장 처리되었습니다."),
+			waitingId.toString(),
+			true
+		);
 	}
 
 	@Override
@@ -154,25 +147,24 @@ public class SseNotificationAdapter implements NotificationPort {
 		// Emitter 생성 및 타임아웃 설정
 		SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
 
-		// 연결 종료(타임아웃, 에러 발생) 시 Emitter 제거
-		emitter.onCompletion(() -> sseEmitterRepository.deleteCustomerEmitter(waitingId));
-		emitter.onTimeout(() -> sseEmitterRepository.deleteCustomerEmitter(waitingId));
-		emitter.onError((e) -> sseEmitterRepository.deleteCustomerEmitter(waitingId));
+		// 연결 종료(타임아웃, 에러 발생) 시 Emitter, outbox 제거
+		emitter.onCompletion(() -> releaseCustomer(waitingId, emitter));
+		emitter.onTimeout(() -> releaseCustomer(waitingId, emitter));
+		emitter.onError((e) -> releaseCustomer(waitingId, emitter));
 
-		// 연결 저장
+		// 연결 저장, heartbeat 전송 실패 시 타임아웃을 기다리지 않고 즉시 제거
 		sseEmitterRepository.saveCustomerEmitter(waitingId, emitter);
+		sseDispatcher.register(emitter, () -> releaseCustomer(waitingId, emitter));
+
+		// 이 웨이팅의 알림을 이 서버가 받도록 구독
+		sseNotificationBroker.subscribe(Target.CUSTOMER, waitingId);
 
 		// 최초 연결 시 더미 데이터 전송 (연결 후 바로 데이터가 오도록 보장)
-		try {
-			emitter.send(SseEmitter.event()
-				.name("connect")
-				.data("Connection established successfully.")
-				.id(waitingId.toString())
-			);
-		} catch (IOException e) {
-			log.error("SSE 최초 연결 데이터 전송 실패. WaitingId: {}", waitingId, e);
-			sseEmitterRepository.deleteCustomerEmitter(waitingId);
-		}
+		sseDispatcher.send(emitter, SseEvent.of(
+			"connect",
+			"Connection established successfully.",
+			waitingId.toString()
+		));
 
 		return emitter;
 	}
@@ -182,24 +174,40 @@ public class SseNotificationAdapter implements NotificationPort {
 		SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
 
 		// Emitter 종료 핸들러 설정: deleteOwnerEmitter 사용
-		emitter.onCompletion(() -> sseEmitterRepository.deleteOwnerEmitter(storeId));
-		emitter.onTimeout(() -> sseEmitterRepository.deleteOwnerEmitter(storeId));
-		emitter.onError((e) -> sseEmitterRepository.deleteOwnerEmitter(storeId));
+		emitter.onCompletion(() -> releaseOwner(storeId, emitter));
+		emitter.onTimeout(() -> releaseOwner(storeId, emitter));
+		emitter.onError((e) -> releaseOwner(storeId, emitter));
 
-		// 연결 저장: saveOwnerEmitter 사용
+		// 연결 저장: saveOwnerEmitter 사용, heartbeat 전송 실패 시 즉시 제거
 		sseEmitterRepository.saveOwnerEmitter(storeId, emitter);
+		sseDispatcher.register(emitter, () -> releaseOwner(storeId, emitter));
+
+		// 이 매장의 알림을 이 서버가 받도록 구독
+		sseNotificationBroker.subscribe(Target.OWNER, storeId);
 
 		// 최초 연결 시 더미 데이터 전송
-		try {
-			emitter.send(SseEmitter.event()
-				.name("owner-connect")
-				.data("Owner connection established successfully. StoreId: " + storeId.toString())
-			);
-		} catch (IOException e) {
-			log.error("SSE 사장님 연결 데이터 전송 실패. StoreId: {}", storeId, e);
-			sseEmitterRepository.deleteOwnerEmitter(storeId);
-		}
+		sseDispatcher.send(emitter, SseEvent.of(
+			"owner-connect",
+			"Owner connection established successfully. StoreId: " + storeId.toString(),
+			null
+		));
 
 		return emitter;
 	}
+
+	// 종료 핸들러가 여러 번 불려도 구독 해제는 저장된 연결을 지운 한 번만 시도
+	// 그 사이 같은 대상이 다시 연결되었으면 브로커가 구독을 유지
+	private void releaseCustomer(UUID waitingId, SseEmitter emitter) {
+		if (sseEmitterRepository.deleteCustomerEmitter(waitingId, emitter)) {
+			sseNotificationBroker.unsubscribeIfIdle(Target.CUSTOMER, waitingId);
+		}
+		sseDispatcher.release(emitter);
+	}
+
+	private void releaseOwner(UUID storeId, SseEmitter emitter) {
+		if (sseEmitterRepository.deleteOwnerEmitter(storeId, emitter)) {
+			sseNotificationBroker.unsubscribeIfIdle(Target.OWNER, storeId);
+		}
+		sseDispatcher.release(emitter);
+	}
 }
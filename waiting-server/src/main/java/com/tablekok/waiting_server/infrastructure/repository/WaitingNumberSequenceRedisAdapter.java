@@ -0,0 +1,33 @@
+package com.tablekok.waiting_server.infrastructure.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.tablekok.waiting_server.domain.repository.WaitingNumberSequencePort;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class WaitingNumberSequenceRedisAdapter implements WaitingNumberSequencePort {
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	// 일일 초기화 시 대기열과 함께 삭제되도록 같은 접두어 사용
+	private static final String NUMBER_KEY_PREFIX = "waiting:queue:number:";
+
+	private static final RedisScript<Long> ALLOCATE_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/allocate_waiting_numbers.lua"), Long.class);
+
+	@Override
+	public int allocate(UUID storeId, int blockSize, int floor, boolean seed) {
+		Long last = redisTemplate.execute(ALLOCATE_SCRIPT, List.of(NUMBER_KEY_PREFIX + storeId),
+			String.valueOf(blockSize), String.valueOf(floor), seed ? "1" : "0");
+		return last.intValue();
+	}
+}
@@ -0,0 +1,120 @@
+package com.tablekok.waiting_server.infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tablekok.waiting_server.domain.repository.WaitingQueueEventPort;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueCursor;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueDelta;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueEntry;
+
+// 매장별 최근 대기열 변경을 Redis ZSET 에 보관 (Score: 순번, Member: "순번:변경 내용")
+// 일일 초기화 시 대기열과 함께 삭제되도록 같은 접두어 사용. 순번이 새로 시작되면 세대도 새로 발급
+@Repository
+public class WaitingQueueEventRedisAdapter implements WaitingQueueEventPort {
+
+	private static final String EVENT_LOG_KEY_PREFIX = "waiting:queue:events:";
+	private static final String EVENT_SEQ_KEY_PREFIX = "waiting:queue:event-seq:";
+	private static final String EVENT_EPOCH_KEY_PREFIX = "waiting:queue:event-epoch:";
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> APPEND_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/append_queue_event.lua"), List.class);
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> CURSOR_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/read_queue_cursor.lua"), List.class);
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> READ_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/read_queue_events.lua"), List.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final int logSize;
+
+	public WaitingQueueEventRedisAdapter(
+		RedisTemplate<String, String> redisTemplate,
+		ObjectMapper objectMapper,
+		@Value("${waiting.owner-event.log-size}") int logSize
+	) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.logSize = logSize;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public WaitingQueueDelta append(UUID storeId, WaitingQueueDelta.Type type, WaitingQueueEntry waiting) {
+		List<Object> result = redisTemplate.execute(APPEND_SCRIPT, keys(storeId),
+			toJson(new Payload(type, waiting)), String.valueOf(logSize), newEpoch());
+		return new WaitingQueueDelta((String)result.get(0), (Long)result.get(1), type, waiting);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Optional<List<WaitingQueueDelta>> findSince(UUID storeId, WaitingQueueCursor last) {
+		List<Object> result = redisTemplate.execute(READ_SCRIPT, keys(storeId), last.epoch(),
+			String.valueOf(last.seq()));
+		if ((Long)result.get(0) == 0) {
+			return Optional.empty();
+		}
+
+		List<WaitingQueueDelta> deltas = new ArrayList<>();
+		for (String member : (List<String>)result.get(1)) {
+			int separator = member.indexOf(':');
+			Payload payload = fromJson(member.substring(separator + 1));
+			deltas.add(new WaitingQueueDelta(last.epoch(), Long.parseLong(member.substring(0, separator)),
+				payload.type(), payload.waiting()));
+		}
+		return Optional.of(deltas);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public WaitingQueueCursor currentCursor(UUID storeId) {
+		List<Object> result = redisTemplate.execute(CURSOR_SCRIPT,
+			List.of(EVENT_SEQ_KEY_PREFIX + storeId, EVENT_EPOCH_KEY_PREFIX + storeId), newEpoch());
+		return new WaitingQueueCursor((String)result.get(0), (Long)result.get(1));
+	}
+
+	private List<String> keys(UUID storeId) {
+		return List.of(EVENT_LOG_KEY_PREFIX + storeId, EVENT_SEQ_KEY_PREFIX + storeId,
+			EVENT_EPOCH_KEY_PREFIX + storeId);
+	}
+
+	// 세대가 없을 때만 사용되는 후보. 초기화마다 달라지도록 현재 시각 사용 (서버끼리 겹쳐도 SET 한 값 하나만 남음)
+	private String newEpoch() {
+		return Long.toString(System.currentTimeMillis(), 36);
+	}
+
+	private String toJson(Payload payload) {
+		try {
+			return objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("대기열 변경 직렬화 실패", e);
+		}
+	}
+
+	private Payload fromJson(String value) {
+		try {
+			return objectMapper.readValue(value, Payload.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("대기열 변경 역직렬화 실패", e);
+		}
+	}
+
+	// 순번은 스크립트가 발급하므로 변경 종류와 화면 정보만 저장
+	private record Payload(WaitingQueueDelta.Type type, WaitingQueueEntry waiting) {
+	}
+}
@@ -1,32 +1,79 @@
 package com.tablekok.waiting_server.infrastructure.repository;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tablekok.waiting_server.domain.repository.WaitingCachePort;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueEntry;
+import com.tablekok.waiting_server.domain.vo.WaitingRegistration;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class WaitingRedisCacheAdapter implements WaitingCachePort {
 
 	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
 	private static final String WAITING_KEY_PREFIX = "waiting:queue:";
+	private static final String ACTIVE_CUSTOMERS_KEY_PREFIX = "waiting:queue:active:";
+	private static final String ARRIVAL_KEY_PREFIX = "waiting:queue:arrival:";
+	private static final String QUEUE_VIEW_KEY_PREFIX = "waiting:queue:view:";
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> REGISTER_WAITING_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/register_waiting.lua"), List.class);
+
+	private static final RedisScript<Long> INIT_ACTIVE_CUSTOMERS_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/init_active_customers.lua"), Long.class);
+
+	private static final RedisScript<Long> REMOVE_WAITING_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/remove_waiting.lua"), Long.class);
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> GET_WAITING_QUEUE_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/get_waiting_queue.lua"), List.class);
 
 	@Override
-	public void addWaiting(UUID storeId, int waitingNumber, String memberKey) {
-		String key = getQueueKey(storeId);
-		// Score는 웨이팅 번호 (낮은 번호가 높은 우선순위를 갖도록 오름차순 정렬)
-		Double score = (double)waitingNumber;
-		redisTemplate.opsForZSet().add(key, memberKey, score);
+	@SuppressWarnings("unchecked")
+	public WaitingRegistration registerWaiting(UUID storeId, String customerKey, WaitingQueueEntry entry) {
+		List<Object> result = redisTemplate.execute(
+			REGISTER_WAITING_SCRIPT,
+			List.of(getQueueKey(storeId), getArrivalKey(storeId), getActiveCustomersKey(storeId),
+				getQueueViewKey(storeId)),
+			customerKey, entry.waitingId().toString(), toJson(entry)
+		);
+
+		long code = (Long)result.get(0);
+		if (code == 1) {
+			return WaitingRegistration.duplicate(UUID.fromString((String)result.get(1)));
+		}
+		if (code == 2) {
+			return WaitingRegistration.uninitialized();
+		}
+		return WaitingRegistration.registered(entry.waitingNumber(), (Long)result.get(1));
+	}
+
+	@Override
+	public void initActiveCustomers(UUID storeId, Map<String, String> activeCustomers) {
+		List<String> args = new ArrayList<>(activeCustomers.size() * 2);
+		activeCustomers.forEach((customerKey, waitingId) -> {
+			args.add(customerKey);
+			args.add(waitingId);
+		});
+		redisTemplate.execute(INIT_ACTIVE_CUSTOMERS_SCRIPT, List.of(getActiveCustomersKey(storeId)), args.toArray());
 	}
 
 	@Override
@@ -36,45 +83,81 @@ public class WaitingRedisCacheAdapter implements WaitingCachePort {
 	}
 
 	@Override
-	public void removeWaiting(UUID storeId, String waitingIdString) {
-		String key = getQueueKey(storeId);
-		redisTemplate.opsForZSet().remove(key, waitingIdString);
+	public void removeWaiting(UUID storeId, String waitingId, String customerKey) {
+		redisTemplate.execute(REMOVE_WAITING_SCRIPT,
+			List.of(getQueueKey(storeId), getActiveCustomersKey(storeId), getQueueViewKey(storeId)),
+			waitingId, customerKey);
 	}
 
 	@Override
-	public List<String> getWaitingIds(UUID storeId) {
-		String key = getQueueKey(storeId);
-		ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
+	public void putQueueEntries(UUID storeId, List<WaitingQueueEntry> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		Map<String, String> values = new LinkedHashMap<>();
+		entries.forEach(entry -> values.put(entry.waitingId().toString(), toJson(entry)));
+		redisTemplate.opsForHash().putAll(getQueueViewKey(storeId), values);
+	}
 
-		// 모든 멤버 조회
-		// score가 낮은 순서로 정렬
-		Set<String> members = zSetOps.range(key, 0, -1);
+	@Override
+	public void fillQueueEntries(UUID storeId, List<WaitingQueueEntry> entries) {
+		String key = getQueueViewKey(storeId);
+		// HSETNX
+		entries.forEach(entry -> redisTemplate.opsForHash().putIfAbsent(key, entry.waitingId().toString(), toJson(entry)));
+	}
 
-		if (members.isEmpty()) {
-			return Collections.emptyList();
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<UUID, WaitingQueueEntry> getQueueView(UUID storeId) {
+		List<List<String>> result = redisTemplate.execute(GET_WAITING_QUEUE_SCRIPT,
+			List.of(getQueueKey(storeId), getQueueViewKey(storeId)));
+
+		List<String> waitingIds = result.get(0);
+		List<String> values = result.get(1);
+
+		// ZSET 순서 유지. 화면 정보가 없으면 null
+		Map<UUID, WaitingQueueEntry> view = new LinkedHashMap<>();
+		for (int i = 0; i < waitingIds.size(); i++) {
+			view.put(UUID.fromString(waitingIds.get(i)), fromJson(values.get(i)));
 		}
+		return view;
+	}
 
-		return new ArrayList<>(members);
+	private String getQueueKey(UUID storeId) {
+		return WAITING_KEY_PREFIX + storeId.toString();
 	}
 
-	@Override
-	public int incrementAndGetLatestNumber(UUID storeId, int dbLastNumber) {
-		String key = "store:" + storeId + ":latest_number";
+	// 일일 초기화 시 대기열과 함께 삭제되도록 같은 접두어 사용
+	private String getActiveCustomersKey(UUID storeId) {
+		return ACTIVE_CUSTOMERS_KEY_PREFIX + storeId.toString();
+	}
 
-		// 1. INCR 실행
-		Long result = redisTemplate.opsForValue().increment(key);
+	private String getArrivalKey(UUID storeId) {
+		return ARRIVAL_KEY_PREFIX + storeId.toString();
+	}
 
-		// 2. 만약 결과가 1이라면(키가 없었을 경우), DB 값으로 초기화
-		if (result == 1) {
-			// DB에서 가져온 값으로 다시 세팅 (DB값이 10이었다면 다음 번호는 11이 되어야 함)
-			redisTemplate.opsForValue().set(key, String.valueOf(dbLastNumber + 1));
-			return dbLastNumber + 1;
-		}
+	private String getQueueViewKey(UUID storeId) {
+		return QUEUE_VIEW_KEY_PREFIX + storeId.toString();
+	}
 
-		return result.intValue();
+	private String toJson(WaitingQueueEntry entry) {
+		try {
+			return objectMapper.writeValueAsString(entry);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("대기열 화면 정보 직렬화 실패", e);
+		}
 	}
 
-	private String getQueueKey(UUID storeId) {
-		return WAITING_KEY_PREFIX + storeId.toString();
+	// 읽을 수 없는 값은 캐시 미스로 처리 (DB 에서 다시 채움)
+	private WaitingQueueEntry fromJson(String value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(value, WaitingQueueEntry.class);
+		} catch (JsonProcessingException e) {
+			log.warn("대기열 화면 정보 역직렬화 실패: {}", e.getMessage());
+			return null;
+		}
 	}
 }
@@ -1,5 +1,6 @@
 package com.tablekok.waiting_server.infrastructure.repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -11,18 +12,27 @@ import com.tablekok.waiting_server.domain.entity.Waiting;
 import com.tablekok.waiting_server.domain.entity.WaitingStatus;
 import com.tablekok.waiting_server.domain.repository.WaitingRepository;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class WaitingRepositoryAdapter implements WaitingRepository {
 	private final WaitingJpaRepository waitingJpaRepository;
+	private final EntityManager entityManager;
 
 	@Override
 	public Waiting save(Waiting waiting) {
 		return waitingJpaRepository.save(waiting);
 	}
 
+	// hibernate.jdbc.batch_size 단위로 묶어서 INSERT
+	@Override
+	public void insertAll(List<Waiting> waitings) {
+		waitings.forEach(entityManager::persist);
+		entityManager.flush();
+	}
+
 	@Override
 	public Optional<Waiting> findById(UUID waitingId) {
 		return waitingJpaRepository.findById(waitingId);
@@ -39,15 +49,13 @@ public class WaitingRepositoryAdapter implements WaitingRepository {
 	}
 
 	@Override
-	public boolean existsByStoreIdAndMemberIdAndStatusIn(UUID storeId, UUID memberId,
-		Collection<WaitingStatus> status) {
-		return waitingJpaRepository.existsByStoreIdAndMemberIdAndStatusIn(storeId, memberId, status);
+	public List<Waiting> findAllByStoreIdAndStatusIn(UUID storeId, Collection<WaitingStatus> status) {
+		return waitingJpaRepository.findAllByStoreIdAndStatusIn(storeId, status);
 	}
 
 	@Override
-	public boolean existsByStoreIdAndNonMemberPhoneAndStatusIn(UUID storeId, String nonMemberPhone,
-		Collection<WaitingStatus> status) {
-		return waitingJpaRepository.existsByStoreIdAndNonMemberPhoneAndStatusIn(storeId, nonMemberPhone, status);
+	public int findMaxWaitingNumberSince(UUID storeId, LocalDateTime since) {
+		return waitingJpaRepository.findMaxWaitingNumberSince(storeId, since);
 	}
 
 }
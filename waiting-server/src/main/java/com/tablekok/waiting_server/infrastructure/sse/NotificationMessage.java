@@ -0,0 +1,23 @@
+package com.tablekok.waiting_server.infrastructure.sse;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+// 서버 간 SSE 알림 메시지. 대상 연결을 가진 서버가 받아 자신의 연결로만 전송
+public record NotificationMessage(
+	String messageId,
+	String originNode,      // 전달 확인(ack)을 받을 서버
+	Target target,
+	UUID targetId,          // CUSTOMER: waitingId, OWNER: storeId
+	String event,
+	JsonNode data,
+	String eventId,
+	boolean complete,       // 전송 후 연결 종료 (최종 상태 알림)
+	long publishedAt
+) {
+	public enum Target {
+		CUSTOMER,
+		OWNER
+	}
+}
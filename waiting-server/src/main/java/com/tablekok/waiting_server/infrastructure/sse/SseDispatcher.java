@@ -0,0 +1,206 @@
+package com.tablekok.waiting_server.infrastructure.sse;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// SSE 전송 전용 디스패처. 호출 스레드(Redis 리스너, 요청 스레드)는 연결별 outbox 에 넣기만 하고
+// 실제 전송은 워커 스레드가 수행하여 느린 클라이언트 하나가 다른 유저의 전송을 막지 않도록 함
+// hot-reservation-service global/sse 와 같은 코드. 공통 모듈(Tablekok-common)은 별도 저장소 배포본이라
+// 서비스마다 복사해 두었으므로 수정 시 두 곳을 함께 반영
+@Component
+@Slf4j
+public class SseDispatcher {
+
+	private final Map<SseEmitter, SseOutbox> outboxes = new ConcurrentHashMap<>();
+	private final AtomicInteger pendingEvents = new AtomicInteger();
+	private final AtomicLong reapedConnections = new AtomicLong();
+	private final ExecutorService workers;
+	private final int outboxCapacity;
+
+	private final Counter coalescedCounter;
+	private final Counter droppedCounter;
+	private final Timer sendTimer;
+
+	public SseDispatcher(
+		MeterRegistry meterRegistry,
+		@Value("${sse.dispatcher.workers}") int workerCount,
+		@Value("${sse.dispatcher.outbox.capacity}") int outboxCapacity,
+		@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+	) {
+		// 가상 스레드 모드에서는 outbox 전송마다 가상 스레드를 사용
+		this.workers = virtualThreads
+			? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-dispatcher-", 0).factory())
+			: Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("sse-dispatcher-"));
+		this.outboxCapacity = outboxCapacity;
+
+		Gauge.builder("sse.dispatcher.queue.depth", pendingEvents, AtomicInteger::get)
+			.description("전송 대기 중인 SSE 이벤트 수")
+			.register(meterRegistry);
+		Gauge.builder("sse.connections.live", outboxes, Map::size)
+			.description("현재 열려 있는 SSE 연결 수")
+			.register(meterRegistry);
+		Gauge.builder("sse.connections.reaped", reapedConnections, AtomicLong::get)
+			.description("전송 실패로 정리된 끊어진 SSE 연결 누적 수")
+			.register(meterRegistry);
+		this.coalescedCounter = Counter.builder("sse.dispatcher.coalesced")
+			.description("최신 값으로 대체된 SSE 이벤트 수")
+			.register(meterRegistry);
+		this.droppedCounter = Counter.builder("sse.dispatcher.dropped")
+			.description("outbox 초과로 버려진 SSE 이벤트 수")
+			.register(meterRegistry);
+		this.sendTimer = Timer.builder("sse.dispatcher.send.latency")
+			.description("SseEmitter.send 소요 시간")
+			.register(meterRegistry);
+	}
+
+	// 연결 등록. 전송 실패로 끊어진 연결이 확인되면 onDead 를 즉시 실행
+	public void register(SseEmitter emitter, Runnable onDead) {
+		outboxes.put(emitter, new SseOutbox(emitter, outboxCapacity, onDead));
+	}
+
+	// 현재 등록된 연결 (heartbeat 대상)
+	public Set<SseEmitter> connections() {
+		return Collections.unmodifiableSet(outboxes.keySet());
+	}
+
+	// 이벤트를 연결의 outbox 에 넣고 즉시 반환. 등록되지 않은(이미 종료된) 연결이면 무시
+	public void send(SseEmitter emitter, SseEvent event) {
+		SseOutbox outbox = outboxes.get(emitter);
+		if (outbox == null) {
+			return;
+		}
+
+		switch (outbox.offer(event)) {
+			case ACCEPTED -> pendingEvents.incrementAndGet();
+			case COALESCED -> coalescedCounter.increment();
+			case OVERFLOW -> {
+				// 따라오지 못하는 클라이언트는 연결을 끊고 재연결 시 최신 상태를 받도록 함
+				// 종료는 전송 워커가 수행 (발행 스레드가 전송 중인 연결의 complete 에 막히거나 경합하지 않도록)
+				droppedCounter.increment();
+				int cleared = outbox.requestAbort();
+				if (cleared < 0) {
+					return;
+				}
+				pendingEvents.addAndGet(-cleared);
+				log.warn("SSE outbox 초과로 연결 종료. event: {}", event.name());
+			}
+		}
+		schedule(outbox);
+	}
+
+	// 대기 중인 이벤트를 모두 전송한 뒤 연결 종료
+	public void complete(SseEmitter emitter) {
+		SseOutbox outbox = outboxes.get(emitter);
+		if (outbox == null) {
+			emitter.complete();
+			return;
+		}
+		outbox.requestComplete();
+		schedule(outbox);
+	}
+
+	// 종료된 연결의 outbox 정리 (onCompletion 콜백 등에서 호출)
+	public void release(SseEmitter emitter) {
+		SseOutbox outbox = outboxes.remove(emitter);
+		if (outbox != null) {
+			pendingEvents.addAndGet(-outbox.clear());
+		}
+	}
+
+	private void schedule(SseOutbox outbox) {
+		if (outbox.tryStartDrain()) {
+			workers.execute(() -> drain(outbox));
+		}
+	}
+
+	private void drain(SseOutbox outbox) {
+		SseEmitter emitter = outbox.getEmitter();
+		try {
+			SseEvent event;
+			while (!outbox.isAbortRequested() && (event = outbox.poll()) != null) {
+				pendingEvents.decrementAndGet();
+				if (!sendNow(outbox, event)) {
+					return;
+				}
+				runOnSent(event);
+			}
+
+			if (outbox.isAbortRequested() || outbox.isCompleteRequested()) {
+				release(emitter);
+				emitter.complete();
+				return;
+			}
+		} finally {
+			outbox.finishDrain();
+		}
+
+		// 전송 종료 직전에 들어온 이벤트가 있으면 다시 예약
+		if (outboxes.get(emitter) == outbox && outbox.hasWork()) {
+			schedule(outbox);
+		}
+	}
+
+	private boolean sendNow(SseOutbox outbox, SseEvent event) {
+		SseEmitter emitter = outbox.getEmitter();
+		long start = System.nanoTime();
+		try {
+			emitter.send(event.toBuilder());
+			return true;
+		} catch (IOException | IllegalStateException e) {
+			// 전송 실패 시 (클라이언트 연결 끊김 등) 연결 종료
+			log.warn("SSE 전송 실패. event: {}, message: {}", event.name(), e.getMessage());
+			release(emitter);
+			emitter.completeWithError(e);
+			reap(outbox);
+			return false;
+		} finally {
+			sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private void runOnSent(SseEvent event) {
+		if (event.onSent() == null) {
+			return;
+		}
+		try {
+			event.onSent().run();
+		} catch (Exception e) {
+			log.warn("SSE 전송 후 처리 실패. event: {}, message: {}", event.name(), e.getMessage());
+		}
+	}
+
+	// 끊어진 연결이 잡고 있던 자원(대기열 순번 등)을 타임아웃을 기다리지 않고 바로 정리
+	private void reap(SseOutbox outbox) {
+		reapedConnections.incrementAndGet();
+		try {
+			outbox.getOnDead().run();
+		} catch (Exception e) {
+			log.error("끊어진 SSE 연결 정리 중 오류 발생: {}", e.getMessage());
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		workers.shutdown();
+	}
+}
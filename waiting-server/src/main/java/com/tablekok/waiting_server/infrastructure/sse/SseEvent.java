@@ -0,0 +1,46 @@
+package com.tablekok.waiting_server.infrastructure.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// SseDispatcher 로 전송할 이벤트
+public record SseEvent(
+	String name,
+	Object data,
+	String id,
+	boolean coalescible,   // 클라이언트가 밀렸을 때 같은 이름의 이전 이벤트를 최신 값으로 대체해도 되는지 (순번 갱신 등)
+	Runnable onSent        // 전송 성공 시 실행 (다른 서버에 전달 확인 등). 없으면 null
+) {
+	private static final String HEARTBEAT = "heartbeat";
+
+	public static SseEvent of(String name, Object data, String id) {
+		return new SseEvent(name, data, id, false, null);
+	}
+
+	public static SseEvent latest(String name, Object data, String id) {
+		return new SseEvent(name, data, id, true, null);
+	}
+
+	// 연결 확인용 comment 프레임. 밀린 경우 하나만 유지
+	public static SseEvent heartbeat() {
+		return new SseEvent(HEARTBEAT, null, null, true, null);
+	}
+
+	public SseEvent withOnSent(Runnable onSent) {
+		return new SseEvent(name, data, id, coalescible, onSent);
+	}
+
+	SseEmitter.SseEventBuilder toBuilder() {
+		if (HEARTBEAT.equals(name)) {
+			return SseEmitter.event().comment(HEARTBEAT);
+		}
+
+		SseEmitter.SseEventBuilder builder = SseEmitter.event()
+			.name(name)
+			.data(data);
+
+		if (id != null) {
+			builder.id(id);
+		}
+		return builder;
+	}
+}
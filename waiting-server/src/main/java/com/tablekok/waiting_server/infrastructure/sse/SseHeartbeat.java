@@ -0,0 +1,35 @@
+package com.tablekok.waiting_server.infrastructure.sse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.RequiredArgsConstructor;
+
+// 등록된 SSE 연결에 주기적으로 comment 프레임을 보내 끊어진 연결(half-open)을 빨리 찾아냄
+// 전체 연결을 slices 개의 묶음으로 나누어 tick 마다 한 묶음씩 전송하므로 연결별 주기는 sse.heartbeat.interval
+@Component
+@RequiredArgsConstructor
+public class SseHeartbeat {
+
+	private final SseDispatcher sseDispatcher;
+	private final AtomicInteger currentSlice = new AtomicInteger();
+
+	@Value("${sse.heartbeat.slices}")
+	private int slices;
+
+	@Scheduled(fixedRateString = "#{${sse.heartbeat.interval} / ${sse.heartbeat.slices}}")
+	public void sendHeartbeats() {
+		int slice = Math.floorMod(currentSlice.getAndIncrement(), slices);
+
+		// 전송 실패는 SseDispatcher 가 감지하여 등록된 정리 작업을 실행
+		for (SseEmitter emitter : sseDispatcher.connections()) {
+			if (Math.floorMod(System.identityHashCode(emitter), slices) == slice) {
+				sseDispatcher.send(emitter, SseEvent.heartbeat());
+			}
+		}
+	}
+}
@@ -0,0 +1,324 @@
+package com.tablekok.waiting_server.infrastructure.sse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tablekok.waiting_server.infrastructure.repository.SseEmitterRepository;
+import com.tablekok.waiting_server.infrastructure.sse.NotificationMessage.Target;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+// 여러 서버에 나뉘어 연결된 SSE 클라이언트에게 알림 전달 (Redis pub/sub)
+// - 알림은 대상별 채널(waitingId, storeId)로 발행하고, 그 연결을 가진 서버만 채널을 구독하여 자신의 연결로 전송
+// - 받은 서버는 전송 결과를 모아 두었다가 발행 서버의 ack 채널로 묶어 회신. 발행 서버가 전달 지연, 미전달을 측정
+@Component
+@Slf4j
+public class SseNotificationBroker implements MessageListener {
+
+	private static final String CUSTOMER_CHANNEL_PREFIX = "waiting:notify:customer:";
+	private static final String OWNER_CHANNEL_PREFIX = "waiting:notify:owner:";
+	private static final String ACK_CHANNEL_PREFIX = "waiting:notify:ack:";
+	private static final int SUBSCRIPTION_LOCK_STRIPES = 64;
+	private static final String ACK_SEPARATOR = "\n";
+
+	enum Outcome {
+		DELIVERED,      // 클라이언트에 전송 완료
+		NO_CONNECTION   // 구독 중이었지만 연결이 이미 종료됨
+	}
+
+	// 이 서버 식별자 (ack 회신 채널)
+	private final String nodeId = UUID.randomUUID().toString();
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final ObjectMapper objectMapper;
+	private final SseEmitterRepository sseEmitterRepository;
+	private final SseDispatcher sseDispatcher;
+	private final long ackTimeout;
+
+	// 이 서버가 구독 중인 채널. 연결 등록·해제에 따른 구독 변경은 채널 단위 락으로 직렬화
+	private final Set<String> subscribedChannels = ConcurrentHashMap.newKeySet();
+	private final Object[] subscriptionLocks = new Object[SUBSCRIPTION_LOCK_STRIPES];
+
+	// 발행 후 ack 를 기다리는 알림. Key: messageId
+	private final Map<String, PendingAck> pendingAcks = new ConcurrentHashMap<>();
+
+	// 다른 서버로 회신할 ack. Key: 발행 서버 nodeId
+	// 리스너 스레드나 전송 워커가 Redis 호출을 기다리지 않도록 쌓아 두고 flushAcks 가 묶어서 회신
+	private final Map<String, Queue<String>> outgoingAcks = new ConcurrentHashMap<>();
+
+	private final Map<Target, Counter> publishedCounters = new EnumMap<>(Target.class);
+	private final Map<Target, Counter> noSubscriberCounters = new EnumMap<>(Target.class);
+	private final Map<Target, Timer> deliveryTimers = new EnumMap<>(Target.class);
+	private final Map<Outcome, Counter> ackCounters = new EnumMap<>(Outcome.class);
+	private final Counter unackedCounter;
+
+	public SseNotificationBroker(
+		RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		ObjectMapper objectMapper,
+		SseEmitterRepository sseEmitterRepository,
+		SseDispatcher sseDispatcher,
+		MeterRegistry meterRegistry,
+		@Value("${waiting.notification.ack-timeout}") long ackTimeout
+	) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.objectMapper = objectMapper;
+		this.sseEmitterRepository = sseEmitterRepository;
+		this.sseDispatcher = sseDispatcher;
+		this.ackTimeout = ackTimeout;
+		for (int i = 0; i < SUBSCRIPTION_LOCK_STRIPES; i++) {
+			subscriptionLocks[i] = new Object();
+		}
+
+		for (Target target : Target.values()) {
+			String tag = target.name().toLowerCase();
+			publishedCounters.put(target, Counter.builder("waiting.notification.published")
+				.tag("target", tag)
+				.description("발행한 SSE 알림 수")
+				.register(meterRegistry));
+			noSubscriberCounters.put(target, Counter.builder("waiting.notification.undelivered")
+				.tag("target", tag)
+				.description("연결을 가진 서버가 없어 전달되지 않은 SSE 알림 수")
+				.register(meterRegistry));
+			deliveryTimers.put(target, Timer.builder("waiting.notification.delivery.latency")
+				.tag("target", tag)
+				.description("알림 발행부터 다른 서버의 전송 완료까지 걸린 시간")
+				.register(meterRegistry));
+		}
+		for (Outcome outcome : Outcome.values()) {
+			ackCounters.put(outcome, Counter.builder("waiting.notification.ack")
+				.tag("outcome", outcome.name().toLowerCase())
+				.description("수신한 SSE 알림 ack 수")
+				.register(meterRegistry));
+		}
+		this.unackedCounter = Counter.builder("waiting.notification.unacked")
+			.description("ack 제한 시간 안에 전송 확인을 받지 못한 SSE 알림 수")
+			.register(meterRegistry);
+		Gauge.builder("waiting.notification.pending.acks", pendingAcks, Map::size)
+			.description("ack 를 기다리는 SSE 알림 수")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void subscribeAcks() {
+		listenerContainer.addMessageListener((message, pattern) -> onAcks(body(message)),
+			new ChannelTopic(ACK_CHANNEL_PREFIX + nodeId));
+	}
+
+	// 이 서버에 대상 연결이 생기면 구독 (연결을 저장한 뒤 호출)
+	public void subscribe(Target target, UUID targetId) {
+		String channel = channel(target, targetId);
+		synchronized (subscriptionLock(channel)) {
+			if (subscribedChannels.add(channel)) {
+				listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+			}
+		}
+	}
+
+	// 이 서버에 대상 연결이 남아 있지 않을 때만 구독 해제 (연결을 삭제한 뒤 호출)
+	// 삭제와 해제 사이에 같은 대상이 다시 연결되었으면 새 연결의 구독을 유지
+	public void unsubscribeIfIdle(Target target, UUID targetId) {
+		String channel = channel(target, targetId);
+		synchronized (subscriptionLock(channel)) {
+			if (findEmitter(target, targetId).isPresent() || !subscribedChannels.remove(channel)) {
+				return;
+			}
+			listenerContainer.removeMessageListener(this, new ChannelTopic(channel));
+		}
+	}
+
+	public void publish(Target target, UUID targetId, String event, Object data, String eventId, boolean complete) {
+		NotificationMessage message = new NotificationMessage(
+			UUID.randomUUID().toString(), nodeId, target, targetId, event, objectMapper.valueToTree(data), eventId,
+			complete, System.currentTimeMillis());
+
+		// ack 가 발행 결과보다 먼저 올 수 있으므로 먼저 등록 (받을 서버 수는 발행 후 더함)
+		PendingAck pending = new PendingAck(target, message.publishedAt());
+		pendingAcks.put(message.messageId(), pending);
+
+		Long receivers = redisTemplate.convertAndSend(channel(target, targetId), toJson(message));
+		publishedCounters.get(target).increment();
+
+		if (receivers == null || receivers == 0) {
+			pendingAcks.remove(message.messageId());
+			noSubscriberCounters.get(target).increment();
+			return;
+		}
+		if (pending.remaining().addAndGet(receivers) <= 0) {
+			pendingAcks.remove(message.messageId());
+		}
+	}
+
+	// 구독한 대상 채널의 알림 수신. 이 서버의 연결로만 전송
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		NotificationMessage notification;
+		try {
+			notification = objectMapper.readValue(body(message), NotificationMessage.class);
+		} catch (JsonProcessingException e) {
+			log.error("SSE 알림 메시지 역직렬화 실패: {}", e.getMessage());
+			return;
+		}
+
+		Optional<SseEmitter> emitter = findEmitter(notification.target(), notification.targetId());
+		if (emitter.isEmpty()) {
+			ack(notification, Outcome.NO_CONNECTION);
+			return;
+		}
+
+		SseEvent event = SseEvent.of(notification.event(), notification.data(), notification.eventId())
+			.withOnSent(() -> ack(notification, Outcome.DELIVERED));
+		sseDispatcher.send(emitter.get(), event);
+
+		if (notification.complete()) {
+			// 전송 후 연결 종료
+			sseDispatcher.complete(emitter.get());
+			if (notification.target() == Target.CUSTOMER
+				&& sseEmitterRepository.deleteCustomerEmitter(notification.targetId(), emitter.get())) {
+				unsubscribeIfIdle(Target.CUSTOMER, notification.targetId());
+			}
+		}
+	}
+
+	// 모아 둔 ack 를 발행 서버별로 한 메시지에 묶어 회신
+	@Scheduled(fixedDelayString = "${waiting.notification.ack-flush-interval}")
+	public void flushAcks() {
+		outgoingAcks.forEach((originNode, queue) -> {
+			List<String> batch = drain(queue);
+			if (batch.isEmpty()) {
+				// 종료된 서버의 큐가 남지 않도록 정리. 정리 직전에 들어온 ack 는 함께 회신
+				outgoingAcks.remove(originNode, queue);
+				batch = drain(queue);
+				if (batch.isEmpty()) {
+					return;
+				}
+			}
+			try {
+				redisTemplate.convertAndSend(ACK_CHANNEL_PREFIX + originNode, String.join(ACK_SEPARATOR, batch));
+			} catch (Exception e) {
+				// 회신하지 못한 알림은 발행 서버에서 미전달로 집계됨
+				log.warn("SSE 알림 ack 회신 실패 originNode={}, size={}", originNode, batch.size(), e);
+			}
+		});
+	}
+
+	// ack 제한 시간이 지난 알림은 미전달로 집계 (전송 실패, outbox 초과, 서버 종료 등)
+	@Scheduled(fixedRateString = "${waiting.notification.ack-timeout}")
+	public void expirePendingAcks() {
+		long deadline = System.currentTimeMillis() - ackTimeout;
+		pendingAcks.entrySet().removeIf(entry -> {
+			if (entry.getValue().publishedAt() > deadline) {
+				return false;
+			}
+			unackedCounter.increment();
+			return true;
+		});
+	}
+
+	private Optional<SseEmitter> findEmitter(Target target, UUID targetId) {
+		return target == Target.CUSTOMER
+			? sseEmitterRepository.findCustomerEmitter(targetId)
+			: sseEmitterRepository.findOwnerEmitter(targetId);
+	}
+
+	private List<String> drain(Queue<String> queue) {
+		List<String> batch = new ArrayList<>();
+		for (String payload = queue.poll(); payload != null; payload = queue.poll()) {
+			batch.add(payload);
+		}
+		return batch;
+	}
+
+	private Object subscriptionLock(String channel) {
+		return subscriptionLocks[Math.floorMod(channel.hashCode(), SUBSCRIPTION_LOCK_STRIPES)];
+	}
+
+	// ack : "messageId:결과:처리 시각". 묶어서 회신하므로 전달 지연은 회신 시각이 아닌 처리 시각으로 측정
+	private void ack(NotificationMessage notification, Outcome outcome) {
+		String payload = notification.messageId() + ":" + outcome.name() + ":" + System.currentTimeMillis();
+		if (nodeId.equals(notification.originNode())) {
+			onAck(payload);
+			return;
+		}
+		outgoingAcks.computeIfAbsent(notification.originNode(), node -> new ConcurrentLinkedQueue<>()).add(payload);
+	}
+
+	private void onAcks(String body) {
+		for (String payload : body.split(ACK_SEPARATOR)) {
+			onAck(payload);
+		}
+	}
+
+	private void onAck(String payload) {
+		int timeSeparator = payload.lastIndexOf(':');
+		int outcomeSeparator = payload.lastIndexOf(':', timeSeparator - 1);
+		String messageId = payload.substring(0, outcomeSeparator);
+		Outcome outcome = Outcome.valueOf(payload.substring(outcomeSeparator + 1, timeSeparator));
+		long handledAt = Long.parseLong(payload.substring(timeSeparator + 1));
+		ackCounters.get(outcome).increment();
+
+		PendingAck pending = pendingAcks.get(messageId);
+		if (pending == null) {
+			return;
+		}
+		if (outcome == Outcome.DELIVERED) {
+			deliveryTimers.get(pending.target())
+				.record(Math.max(handledAt - pending.publishedAt(), 0), TimeUnit.MILLISECONDS);
+		}
+		if (pending.remaining().decrementAndGet() == 0) {
+			pendingAcks.remove(messageId);
+		}
+	}
+
+	private String channel(Target target, UUID targetId) {
+		return (target == Target.CUSTOMER ? CUSTOMER_CHANNEL_PREFIX : OWNER_CHANNEL_PREFIX) + targetId;
+	}
+
+	private String toJson(NotificationMessage message) {
+		try {
+			return objectMapper.writeValueAsString(message);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("SSE 알림 메시지 직렬화 실패", e);
+		}
+	}
+
+	private String body(Message message) {
+		return new String(message.getBody(), StandardCharsets.UTF_8);
+	}
+
+	// remaining : 아직 ack 를 보내지 않은 수신 서버 수
+	private record PendingAck(Target target, long publishedAt, AtomicLong remaining) {
+		PendingAck(Target target, long publishedAt) {
+			this(target, publishedAt, new AtomicLong());
+		}
+	}
+}
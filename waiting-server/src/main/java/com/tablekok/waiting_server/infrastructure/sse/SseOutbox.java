@@ -0,0 +1,149 @@
+package com.tablekok.waiting_server.infrastructure.sse;
+
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.Getter;
+
+// 연결(이미터)별 전송 대기 이벤트 큐. 최대 capacity 개까지만 보관
+class SseOutbox {
+
+	enum OfferResult {
+		ACCEPTED,   // 큐에 추가
+		COALESCED,  // 대기 중인 이전 이벤트를 최신 값으로 대체
+		OVERFLOW    // 큐가 가득 참
+	}
+
+	@Getter
+	private final SseEmitter emitter;
+	// 전송 실패(끊어진 연결) 시 실행할 정리 작업
+	@Getter
+	private final Runnable onDead;
+	private final int capacity;
+	private final LinkedList<SseEvent> events = new LinkedList<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final AtomicBoolean draining = new AtomicBoolean(false);
+	private boolean completeRequested;
+	// outbox 초과로 대기 이벤트를 버리고 연결을 끊어야 함 (전송 워커가 처리)
+	private boolean abortRequested;
+
+	SseOutbox(SseEmitter emitter, int capacity, Runnable onDead) {
+		this.emitter = emitter;
+		this.capacity = capacity;
+		this.onDead = onDead;
+	}
+
+	OfferResult offer(SseEvent event) {
+		lock.lock();
+		try {
+			if (event.coalescible() && replacePending(event)) {
+				return OfferResult.COALESCED;
+			}
+			if (abortRequested || events.size() >= capacity) {
+				return OfferResult.OVERFLOW;
+			}
+			events.addLast(event);
+			return OfferResult.ACCEPTED;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	SseEvent poll() {
+		lock.lock();
+		try {
+			return events.pollFirst();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// 남은 이벤트를 비우고 비운 개수 반환
+	int clear() {
+		lock.lock();
+		try {
+			int size = events.size();
+			events.clear();
+			return size;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	void requestComplete() {
+		lock.lock();
+		try {
+			completeRequested = true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// 대기 이벤트를 비우고 연결 종료 요청. 처음 요청한 경우에만 비운 개수 반환, 이미 요청되었으면 -1
+	int requestAbort() {
+		lock.lock();
+		try {
+			if (abortRequested) {
+				return -1;
+			}
+			abortRequested = true;
+			int size = events.size();
+			events.clear();
+			return size;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	boolean isAbortRequested() {
+		lock.lock();
+		try {
+			return abortRequested;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	boolean isCompleteRequested() {
+		lock.lock();
+		try {
+			return completeRequested && events.isEmpty();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	boolean hasWork() {
+		lock.lock();
+		try {
+			return !events.isEmpty() || completeRequested || abortRequested;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// 한 연결은 한 워커만 전송하도록 보장
+	boolean tryStartDrain() {
+		return draining.compareAndSet(false, true);
+	}
+
+	void finishDrain() {
+		draining.set(false);
+	}
+
+	// 같은 이름의 대기 중인 이벤트가 있으면 그 자리에서 최신 값으로 교체
+	private boolean replacePending(SseEvent event) {
+		for (ListIterator<SseEvent> it = events.listIterator(); it.hasNext(); ) {
+			SseEvent pending = it.next();
+			if (pending.coalescible() && pending.name().equals(event.name())) {
+				it.set(event);
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -48,10 +49,16 @@ public class WaitingOwnerController {
 		);
 	}
 
+	// 사장님 대기열 화면 SSE. 연결 시 스냅샷, 재연결 시 Last-Event-ID 이후 변경분부터 수신
 	@GetMapping("/connect")
+	@PreAuthorize("hasRole('OWNER')")
 	public SseEmitter connectNotification(
-		@PathVariable UUID storeId) {
-		return waitingOwnerService.connectOwnerWaitingNotification(storeId);
+		@PathVariable UUID storeId,
+		@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+		@AuthenticationPrincipal AuthUser authUser
+	) {
+		UUID ownerId = UUID.fromString(authUser.userId());
+		return waitingOwnerService.connectOwnerWaitingNotification(storeId, lastEventId, ownerId);
 	}
 
 	// 사장님이 해당 매장의 웨이팅 기능을 비활성화합니다.
@@ -0,0 +1,17 @@
+-- 매장 웨이팅 번호 블록 할당
+-- KEYS[1] : 매장 번호 키
+-- ARGV[1] : 블록 크기, ARGV[2] : 하한 (DB 기준 최근 발급 번호), ARGV[3] : 키가 없을 때 초기화 여부 ('1')
+-- 반환 : 블록의 마지막 번호 | 0 번호 키 없음 (초기화 필요)
+local current = redis.call('GET', KEYS[1])
+if not current then
+    if ARGV[3] ~= '1' then
+        return 0
+    end
+    current = 0
+end
+
+-- failover 로 번호가 되돌아간 경우에도 DB 에 기록된 번호보다 작게 발급하지 않음
+current = math.max(tonumber(current), tonumber(ARGV[2]))
+local last = current + tonumber(ARGV[1])
+redis.call('SET', KEYS[1], last)
+return last
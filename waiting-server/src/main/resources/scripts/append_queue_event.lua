@@ -0,0 +1,16 @@
+-- 매장 대기열 변경 기록 : 순번 발급 후 최근 변경 로그에 추가
+-- KEYS[1] : 변경 로그 ZSET (Score: 순번), KEYS[2] : 변경 순번, KEYS[3] : 순번 세대
+-- ARGV[1] : 변경 내용 (JSON), ARGV[2] : 보관할 최대 변경 수, ARGV[3] : 새로 시작할 때 사용할 세대
+-- 반환 : {세대, 발급된 순번}
+
+-- 일일 초기화, Redis 유실 등으로 순번이나 세대가 없으면 새 세대로 처음부터 시작
+if redis.call('EXISTS', KEYS[2]) == 0 or redis.call('EXISTS', KEYS[3]) == 0 then
+    redis.call('SET', KEYS[2], 0)
+    redis.call('SET', KEYS[3], ARGV[3])
+end
+
+local epoch = redis.call('GET', KEYS[3])
+local seq = redis.call('INCR', KEYS[2])
+redis.call('ZADD', KEYS[1], seq, seq .. ':' .. ARGV[1])
+redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[2]) + 1))
+return {epoch, seq}
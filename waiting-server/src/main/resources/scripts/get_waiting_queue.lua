@@ -0,0 +1,14 @@
+-- 사장님 대기열 화면 조회 : 대기 순서대로 waitingId 와 화면 정보를 한 번에 조회
+-- KEYS[1] : 대기열 ZSET, KEYS[2] : 대기열 화면 HASH
+-- 반환 : {waitingId 목록, 화면 정보 목록 (없으면 nil)}
+local ids = redis.call('ZRANGE', KEYS[1], 0, -1)
+local values = {}
+
+-- unpack 인자 수 제한을 넘지 않도록 나누어 조회
+for i = 1, #ids, 1000 do
+    local chunk = redis.call('HMGET', KEYS[2], unpack(ids, i, math.min(i + 999, #ids)))
+    for j = 1, #chunk do
+        values[#values + 1] = chunk[j]
+    end
+end
+return {ids, values}
@@ -0,0 +1,8 @@
+-- DB 의 활성 웨이팅으로 활성 고객 HASH 초기화
+-- KEYS[1] : 활성 고객 HASH, ARGV : 고객 키, waitingId 쌍
+-- 초기화 중 먼저 등록된 고객은 덮어쓰지 않음
+for i = 1, #ARGV, 2 do
+    redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+redis.call('HSET', KEYS[1], '__initialized', '1')
+return 1
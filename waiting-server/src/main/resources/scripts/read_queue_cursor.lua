@@ -0,0 +1,11 @@
+-- 스냅샷 기준이 되는 현재 위치 조회
+-- KEYS[1] : 변경 순번, KEYS[2] : 순번 세대
+-- ARGV[1] : 새로 시작할 때 사용할 세대
+-- 반환 : {세대, 현재 순번}
+
+-- 아직 변경이 없으면 세대를 먼저 만들어 이후 변경이 같은 세대로 이어지게 함
+if redis.call('EXISTS', KEYS[1]) == 0 or redis.call('EXISTS', KEYS[2]) == 0 then
+    redis.call('SET', KEYS[1], 0)
+    redis.call('SET', KEYS[2], ARGV[1])
+end
+return {redis.call('GET', KEYS[2]), tonumber(redis.call('GET', KEYS[1]))}
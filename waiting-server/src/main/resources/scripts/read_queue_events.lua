@@ -0,0 +1,26 @@
+-- 재연결한 사장님에게 보낼 놓친 변경 조회
+-- KEYS[1] : 변경 로그 ZSET, KEYS[2] : 변경 순번, KEYS[3] : 순번 세대
+-- ARGV[1] : 클라이언트가 마지막으로 받은 세대, ARGV[2] : 순번
+-- 반환 : {1 (로그로 복구 가능) | 0 (스냅샷 필요), 놓친 변경 목록}
+
+-- 일일 초기화, Redis 유실 등으로 순번이 새로 시작된 경우. 다른 세대의 순번끼리는 비교할 수 없음
+local epoch = redis.call('GET', KEYS[3])
+if not epoch or epoch ~= ARGV[1] then
+    return {0, {}}
+end
+
+local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+local last = tonumber(ARGV[2])
+if last > current then
+    return {0, {}}
+end
+if last == current then
+    return {1, {}}
+end
+
+-- 로그가 잘려 놓친 변경이 남아 있지 않은 경우
+local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+if #oldest == 0 or tonumber(oldest[2]) > last + 1 then
+    return {0, {}}
+end
+return {1, redis.call('ZRANGEBYSCORE', KEYS[1], '(' .. last, '+inf')}
@@ -0,0 +1,18 @@
+-- 웨이팅 등록 : 중복 확인, 대기열 등록, 화면 정보 저장, 순위 조회를 한 번에 처리
+-- KEYS[1] : 대기열 ZSET, KEYS[2] : 등록 순번, KEYS[3] : 활성 고객 HASH (고객 키 -> waitingId)
+-- KEYS[4] : 대기열 화면 HASH (waitingId -> 화면 정보)
+-- ARGV[1] : 고객 키, ARGV[2] : waitingId, ARGV[3] : 화면 정보 (JSON)
+-- 반환 : {0, 순위(0부터)} | {1, 이미 등록된 waitingId} 중복 | {2} 활성 고객 목록 미초기화
+if redis.call('HEXISTS', KEYS[3], '__initialized') == 0 then
+    return {2}
+end
+
+if redis.call('HSETNX', KEYS[3], ARGV[1], ARGV[2]) == 0 then
+    return {1, redis.call('HGET', KEYS[3], ARGV[1])}
+end
+
+-- 번호는 노드별 블록에서 발급되어 등록 순서와 다를 수 있으므로 등록 순번으로 정렬
+local sequence = redis.call('INCR', KEYS[2])
+redis.call('ZADD', KEYS[1], sequence, ARGV[2])
+redis.call('HSET', KEYS[4], ARGV[2], ARGV[3])
+return {0, redis.call('ZRANK', KEYS[1], ARGV[2])}
@@ -0,0 +1,11 @@
+-- 대기열, 대기열 화면 HASH, 활성 고객 HASH 에서 웨이팅 제거
+-- KEYS[1] : 대기열 ZSET, KEYS[2] : 활성 고객 HASH, KEYS[3] : 대기열 화면 HASH
+-- ARGV[1] : waitingId, ARGV[2] : 고객 키
+redis.call('ZREM', KEYS[1], ARGV[1])
+redis.call('HDEL', KEYS[3], ARGV[1])
+
+-- 같은 고객이 다시 등록한 웨이팅은 지우지 않음
+if redis.call('HGET', KEYS[2], ARGV[2]) == ARGV[1] then
+    redis.call('HDEL', KEYS[2], ARGV[2])
+end
+return 1
@@ -0,0 +1,185 @@
+package com.tablekok.waiting_server.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tablekok.waiting_server.application.service.WaitingWriter.Durability;
+import com.tablekok.waiting_server.domain.entity.CustomerType;
+import com.tablekok.waiting_server.domain.entity.Waiting;
+import com.tablekok.waiting_server.domain.repository.StoreWaitingStatusRepository;
+import com.tablekok.waiting_server.domain.repository.WaitingCachePort;
+import com.tablekok.waiting_server.domain.repository.WaitingRepository;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueDelta;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WaitingWriterTest {
+
+	private static final long FLUSH_INTERVAL = 20;
+
+	private final WaitingRepository waitingRepository = mock(WaitingRepository.class);
+	private final StoreWaitingStatusRepository storeWaitingStatusRepository = mock(StoreWaitingStatusRepository.class);
+	private final WaitingCachePort waitingCache = mock(WaitingCachePort.class);
+	private final OwnerQueueEventService ownerQueueEventService = mock(OwnerQueueEventService.class);
+
+	private WaitingWriter waitingWriter;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		waitingWriter.shutdown();
+	}
+
+	@Test
+	@DisplayName("SYNC : 호출 스레드에서 바로 INSERT 하고 매장 최근 번호 갱신")
+	void sync_write_InsertsImmediately() {
+		// Given
+		waitingWriter = writer(Durability.SYNC);
+		Waiting waiting = waiting(7);
+
+		// When
+		waitingWriter.write(waiting);
+
+		// Then
+		verify(waitingRepository).insertAll(List.of(waiting));
+		verify(storeWaitingStatusRepository).updateLatestNumberIfGreater(waiting.getStoreId(), 7);
+	}
+
+	@Test
+	@DisplayName("SYNC : 트랜잭션이 롤백되면 Redis 대기열 등록 취소")
+	void sync_write_RolledBack_RemovesFromCache() {
+		// Given
+		waitingWriter = writer(Durability.SYNC);
+		Waiting waiting = waiting(1);
+		TransactionSynchronizationManager.initSynchronization();
+
+		// When
+		waitingWriter.write(waiting);
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		// Then
+		verify(waitingCache).removeWaiting(waiting.getStoreId(), waiting.getId().toString(),
+			waiting.getCustomerKey());
+	}
+
+	@Test
+	@DisplayName("SYNC : 트랜잭션이 커밋되면 Redis 대기열 유지")
+	void sync_write_Committed_KeepsCache() {
+		// Given
+		waitingWriter = writer(Durability.SYNC);
+		TransactionSynchronizationManager.initSynchronization();
+
+		// When
+		waitingWriter.write(waiting(1));
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+		// Then
+		verify(waitingCache, never()).removeWaiting(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("SYNC : DB 에 없는 웨이팅은 기다리지 않고 바로 empty")
+	void sync_findAfterWrite_Missing_ReturnsEmpty() {
+		// Given
+		waitingWriter = writer(Durability.SYNC);
+
+		// When
+		Optional<Waiting> found = waitingWriter.findAfterWrite(UUID.randomUUID(), Optional::empty);
+
+		// Then
+		assertTrue(found.isEmpty());
+	}
+
+	@Test
+	@DisplayName("WRITE_BEHIND : 버퍼에 넣고 응답한 뒤 기록 스레드가 INSERT")
+	void writeBehind_write_FlushedByWorker() {
+		// Given
+		waitingWriter = writer(Durability.WRITE_BEHIND);
+		Waiting waiting = waiting(3);
+
+		// When
+		waitingWriter.write(waiting);
+
+		// Then
+		verify(waitingRepository, timeout(1000)).insertAll(List.of(waiting));
+		verify(storeWaitingStatusRepository, timeout(1000)).updateLatestNumberIfGreater(waiting.getStoreId(), 3);
+	}
+
+	@Test
+	@DisplayName("WRITE_BEHIND : 기록 전 조회는 기록이 끝난 뒤 결과 반환")
+	void writeBehind_findAfterWrite_ReturnsAfterInsert() {
+		// Given
+		waitingWriter = writer(Durability.WRITE_BEHIND);
+		Waiting waiting = waiting(2);
+		AtomicBoolean inserted = new AtomicBoolean();
+		doAnswer(invocation -> {
+			inserted.set(true);
+			return null;
+		}).when(waitingRepository).insertAll(anyList());
+
+		// When
+		waitingWriter.write(waiting);
+		Optional<Waiting> found = waitingWriter.findAfterWrite(waiting.getId(),
+			() -> inserted.get() ? Optional.of(waiting) : Optional.empty());
+
+		// Then
+		assertEquals(Optional.of(waiting), found);
+	}
+
+	@Test
+	@DisplayName("WRITE_BEHIND : 기록에 실패하면 Redis 대기열과 사장님 화면에서 제거")
+	void writeBehind_write_InsertFails_RemovesWaiting() {
+		// Given
+		waitingWriter = writer(Durability.WRITE_BEHIND);
+		Waiting waiting = waiting(4);
+		doThrow(new IllegalStateException("insert failed")).when(waitingRepository).insertAll(anyList());
+
+		// When
+		waitingWriter.write(waiting);
+
+		// Then : 배치 실패 후 개별 재시도까지 실패
+		verify(waitingRepository, timeout(1000).times(2)).insertAll(List.of(waiting));
+		verify(waitingCache, timeout(1000)).removeWaiting(waiting.getStoreId(), waiting.getId().toString(),
+			waiting.getCustomerKey());
+		verify(ownerQueueEventService, timeout(1000)).publish(eq(waiting.getStoreId()),
+			eq(WaitingQueueDelta.Type.CANCELLED), any());
+	}
+
+	private WaitingWriter writer(Durability durability) {
+		return new WaitingWriter(
+			waitingRepository,
+			storeWaitingStatusRepository,
+			waitingCache,
+			ownerQueueEventService,
+			mock(PlatformTransactionManager.class),
+			new SimpleMeterRegistry(),
+			durability,
+			100,
+			1000,
+			FLUSH_INTERVAL,
+			FLUSH_INTERVAL * 10
+		);
+	}
+
+	private Waiting waiting(int waitingNumber) {
+		return Waiting.create(UUID.randomUUID(), UUID.randomUUID(), waitingNumber, CustomerType.MEMBER,
+			UUID.randomUUID(), null, null, 2);
+	}
+}
@@ -0,0 +1,102 @@
+package com.tablekok.waiting_server.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.tablekok.waiting_server.application.port.NotificationPort;
+import com.tablekok.waiting_server.application.service.OwnerQueueEventService;
+import com.tablekok.waiting_server.application.service.WaitingQueueViewService;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueCursor;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueDelta;
+
+// 사장님 재연결 시 Last-Event-ID 에 따라 변경분 재전송 / 스냅샷 전송 결정
+class OwnerQueueReconnectTest extends RedisScriptTestSupport {
+
+	private final UUID storeId = UUID.randomUUID();
+	private final SseEmitter emitter = new SseEmitter();
+
+	private WaitingQueueEventRedisAdapter eventAdapter;
+	private NotificationPort notificationPort;
+	private WaitingQueueViewService waitingQueueViewService;
+	private OwnerQueueEventService ownerQueueEventService;
+
+	@BeforeEach
+	void setUp() {
+		eventAdapter = new WaitingQueueEventRedisAdapter(redisTemplate, objectMapper, 3);
+		notificationPort = mock(NotificationPort.class);
+		waitingQueueViewService = mock(WaitingQueueViewService.class);
+		when(notificationPort.connectOwner(storeId)).thenReturn(emitter);
+		when(waitingQueueViewService.getQueue(storeId)).thenReturn(List.of());
+		ownerQueueEventService = new OwnerQueueEventService(eventAdapter, notificationPort, waitingQueueViewService);
+	}
+
+	@Test
+	@DisplayName("로그에 남은 위치로 재연결하면 놓친 변경만 재전송하고 스냅샷은 보내지 않음")
+	void connect_WithRecoverableEventId_Replays() {
+		// Given
+		WaitingQueueDelta received = eventAdapter.append(storeId, WaitingQueueDelta.Type.ADDED, entry(1));
+		WaitingQueueDelta missed = eventAdapter.append(storeId, WaitingQueueDelta.Type.CALLED, entry(1));
+
+		// When
+		SseEmitter result = ownerQueueEventService.connect(storeId, received.cursor().toEventId());
+
+		// Then
+		assertSame(emitter, result);
+		verify(notificationPort).sendOwnerQueueReplay(emitter, List.of(missed));
+		verify(notificationPort, never()).sendOwnerQueueSnapshot(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("Last-Event-ID 가 없으면 현재 위치로 스냅샷 전송")
+	void connect_WithoutEventId_SendsSnapshot() {
+		// Given
+		WaitingQueueDelta latest = eventAdapter.append(storeId, WaitingQueueDelta.Type.ADDED, entry(1));
+
+		// When
+		ownerQueueEventService.connect(storeId, null);
+
+		// Then
+		verify(notificationPort).sendOwnerQueueSnapshot(emitter, latest.cursor(), List.of());
+		verify(notificationPort).sendOwnerQueueReplay(emitter, List.of());
+	}
+
+	@Test
+	@DisplayName("형식이 맞지 않는 Last-Event-ID (세대 없는 이전 형식 포함) 는 스냅샷 전송")
+	void connect_WithMalformedEventId_SendsSnapshot() {
+		// Given
+		WaitingQueueDelta latest = eventAdapter.append(storeId, WaitingQueueDelta.Type.ADDED, entry(1));
+
+		// When
+		ownerQueueEventService.connect(storeId, "1");
+
+		// Then
+		verify(notificationPort).sendOwnerQueueSnapshot(emitter, latest.cursor(), List.of());
+	}
+
+	@Test
+	@DisplayName("다른 세대나 잘린 로그의 위치로 재연결하면 스냅샷 전송")
+	void connect_WithUnrecoverableEventId_SendsSnapshot() {
+		// Given
+		WaitingQueueDelta received = eventAdapter.append(storeId, WaitingQueueDelta.Type.ADDED, entry(1));
+		for (int i = 0; i < 4; i++) {
+			eventAdapter.append(storeId, WaitingQueueDelta.Type.ADDED, entry(i + 2));
+		}
+		WaitingQueueCursor current = eventAdapter.currentCursor(storeId);
+
+		// When
+		ownerQueueEventService.connect(storeId, received.cursor().toEventId());
+		ownerQueueEventService.connect(storeId, new WaitingQueueCursor("other", current.seq()).toEventId());
+
+		// Then
+		verify(notificationPort, times(2)).sendOwnerQueueSnapshot(emitter, current, List.of());
+	}
+}
@@ -0,0 +1,75 @@
+package com.tablekok.waiting_server.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tablekok.waiting_server.domain.entity.CustomerType;
+import com.tablekok.waiting_server.domain.entity.WaitingStatus;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueEntry;
+
+// Lua 스크립트를 실제 Redis 에서 실행하는 어댑터 테스트 공통 설정 (Docker 가 없으면 건너뜀)
+// 스프링 컨텍스트 없이 RedisConfig 와 같은 직렬화 설정의 RedisTemplate 만 만들어 사용
+@Testcontainers(disabledWithoutDocker = true)
+abstract class RedisScriptTestSupport {
+
+	@Container
+	private static final GenericContainer<?> REDIS =
+		new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+
+	protected static RedisTemplate<String, String> redisTemplate;
+	protected static final ObjectMapper objectMapper = new ObjectMapper()
+		.findAndRegisterModules()
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	@BeforeAll
+	static void setUpRedis() {
+		connectionFactory = new LettuceConnectionFactory(
+			new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+
+		StringRedisSerializer stringSerializer = new StringRedisSerializer();
+		redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setKeySerializer(stringSerializer);
+		redisTemplate.setHashKeySerializer(stringSerializer);
+		redisTemplate.setValueSerializer(stringSerializer);
+		redisTemplate.setHashValueSerializer(stringSerializer);
+		redisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void tearDownRedis() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void flushRedis() {
+		redisTemplate.execute((RedisCallback<Object>)connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		});
+	}
+
+	protected static WaitingQueueEntry entry(int waitingNumber) {
+		return new WaitingQueueEntry(UUID.randomUUID(), waitingNumber, WaitingStatus.WAITING, CustomerType.MEMBER, 2,
+			null, null, LocalDateTime.of(2026, 1, 1, 12, 0).plusMinutes(waitingNumber));
+	}
+}
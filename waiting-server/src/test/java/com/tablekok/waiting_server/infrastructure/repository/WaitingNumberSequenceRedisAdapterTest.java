@@ -0,0 +1,70 @@
+package com.tablekok.waiting_server.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// allocate_waiting_numbers.lua
+class WaitingNumberSequenceRedisAdapterTest extends RedisScriptTestSupport {
+
+	private static final int BLOCK_SIZE = 10;
+
+	private final UUID storeId = UUID.randomUUID();
+	private WaitingNumberSequenceRedisAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+		adapter = new WaitingNumberSequenceRedisAdapter(redisTemplate);
+	}
+
+	@Test
+	@DisplayName("번호 키가 없으면 초기화 요청 없이는 할당하지 않음")
+	void allocate_MissingKeyWithoutSeed_ReturnsZero() {
+		// When & Then
+		assertEquals(0, adapter.allocate(storeId, BLOCK_SIZE, 0, false));
+		assertEquals(0, adapter.allocate(storeId, BLOCK_SIZE, 0, false));
+	}
+
+	@Test
+	@DisplayName("블록은 이어서 할당되고 반환값은 블록의 마지막 번호")
+	void allocate_ConsecutiveBlocks() {
+		// When
+		int first = adapter.allocate(storeId, BLOCK_SIZE, 0, true);
+		int second = adapter.allocate(storeId, BLOCK_SIZE, 0, false);
+
+		// Then
+		assertEquals(10, first);
+		assertEquals(20, second);
+	}
+
+	@Test
+	@DisplayName("번호가 DB 기록보다 뒤로 간 경우 (failover) DB 최근 번호 이후부터 할당")
+	void allocate_BelowFloor_StartsAfterFloor() {
+		// Given
+		adapter.allocate(storeId, BLOCK_SIZE, 0, true);
+
+		// When
+		int last = adapter.allocate(storeId, BLOCK_SIZE, 57, false);
+
+		// Then
+		assertEquals(67, last);
+	}
+
+	@Test
+	@DisplayName("매장마다 번호가 따로 증가")
+	void allocate_PerStore() {
+		// Given
+		UUID otherStoreId = UUID.randomUUID();
+		adapter.allocate(storeId, BLOCK_SIZE, 0, true);
+
+		// When
+		int last = adapter.allocate(otherStoreId, BLOCK_SIZE, 0, true);
+
+		// Then
+		assertEquals(10, last);
+	}
+}
@@ -0,0 +1,124 @@
+package com.tablekok.waiting_server.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tablekok.waiting_server.domain.vo.WaitingQueueCursor;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueDelta;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueEntry;
+
+// append_queue_event.lua, read_queue_cursor.lua, read_queue_events.lua
+class WaitingQueueEventRedisAdapterTest extends RedisScriptTestSupport {
+
+	private static final int LOG_SIZE = 3;
+
+	private final UUID storeId = UUID.randomUUID();
+	private WaitingQueueEventRedisAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+		adapter = new WaitingQueueEventRedisAdapter(redisTemplate, objectMapper, LOG_SIZE);
+	}
+
+	@Test
+	@DisplayName("변경마다 같은 세대에서 순번이 1씩 증가")
+	void append_IncrementsSeqInSameEpoch() {
+		// When
+		WaitingQueueDelta first = adapter.append(storeId, WaitingQueueDelta.Type.ADDED, entry(1));
+		WaitingQueueDelta second = adapter.append(storeId, WaitingQueueDelta.Type.CALLED, entry(1));
+
+		// Then
+		assertEquals(1, first.seq());
+		assertEquals(2, second.seq());
+		assertEquals(first.epoch(), second.epoch());
+		assertEquals(second.cursor(), adapter.currentCursor(storeId));
+	}
+
+	@Test
+	@DisplayName("변경이 없던 매장의 현재 위치를 먼저 읽으면 이후 변경이 같은 세대로 이어짐")
+	void currentCursor_BeforeAppend_KeepsEpoch() {
+		// When
+		WaitingQueueCursor cursor = adapter.currentCursor(storeId);
+		WaitingQueueDelta delta = adapter.append(storeId, WaitingQueueDelta.Type.ADDED, entry(1));
+
+		// Then
+		assertEquals(0, cursor.seq());
+		assertEquals(cursor.epoch(), delta.epoch());
+		assertEquals(List.of(delta), adapter.findSince(storeId, cursor).orElseThrow());
+	}
+
+	@Test
+	@DisplayName("마지막으로 받은 순번 이후 변경만 순서대로 반환")
+	void findSince_ReturnsMissedDeltas() {
+		// Given
+		WaitingQueueEntry waiting = entry(1);
+		WaitingQueueDelta received = adapter.append(storeId, WaitingQueueDelta.Type.ADDED, waiting);
+		WaitingQueueDelta called = adapter.append(storeId, WaitingQueueDelta.Type.CALLED, waiting);
+		WaitingQueueDelta entered = adapter.append(storeId, WaitingQueueDelta.Type.ENTERED, waiting);
+
+		// When
+		Optional<List<WaitingQueueDelta>> missed = adapter.findSince(storeId, received.cursor());
+
+		// Then
+		assertEquals(Optional.of(List.of(called, entered)), missed);
+	}
+
+	@Test
+	@DisplayName("놓친 변경이 없으면 빈 목록 (스냅샷 불필요)")
+	void findSince_UpToDate_ReturnsEmptyList() {
+		// Given
+		WaitingQueueDelta latest = adapter.append(storeId, WaitingQueueDelta.Type.ADDED, entry(1));
+
+		// When & Then
+		assertEquals(Optional.of(List.of()), adapter.findSince(storeId, latest.cursor()));
+	}
+
+	@Test
+	@DisplayName("보관 개수를 넘어 잘린 변경이 필요하면 스냅샷")
+	void findSince_TrimmedLog_RequiresSnapshot() {
+		// Given
+		WaitingQueueDelta received = adapter.append(storeId, WaitingQueueDelta.Type.ADDED, entry(1));
+		for (int i = 0; i < LOG_SIZE + 1; i++) {
+			adapter.append(storeId, WaitingQueueDelta.Type.ADDED, entry(i + 2));
+		}
+
+		// When & Then
+		assertTrue(adapter.findSince(storeId, received.cursor()).isEmpty());
+	}
+
+	@Test
+	@DisplayName("다른 세대의 순번이나 현재보다 앞선 순번은 비교하지 않고 스냅샷")
+	void findSince_OtherEpochOrFutureSeq_RequiresSnapshot() {
+		// Given
+		WaitingQueueDelta latest = adapter.append(storeId, WaitingQueueDelta.Type.ADDED, entry(1));
+
+		// When & Then
+		assertTrue(adapter.findSince(storeId, new WaitingQueueCursor("other", 0)).isEmpty());
+		assertTrue(adapter.findSince(storeId, new WaitingQueueCursor(latest.epoch(), latest.seq() + 1)).isEmpty());
+	}
+
+	@Test
+	@DisplayName("일일 초기화로 키가 지워지면 새 세대로 다시 시작하고 이전 위치는 스냅샷")
+	void append_AfterReset_StartsNewEpoch() throws InterruptedException {
+		// Given
+		WaitingQueueDelta beforeReset = adapter.append(storeId, WaitingQueueDelta.Type.ADDED, entry(1));
+		redisTemplate.delete(redisTemplate.keys("waiting:queue:*"));
+		// 세대는 ms 단위 시각이므로 같은 ms 에 다시 만들어지지 않도록 대기
+		Thread.sleep(2);
+
+		// When
+		WaitingQueueDelta afterReset = adapter.append(storeId, WaitingQueueDelta.Type.ADDED, entry(1));
+
+		// Then
+		assertEquals(1, afterReset.seq());
+		assertNotEquals(beforeReset.epoch(), afterReset.epoch());
+		assertTrue(adapter.findSince(storeId, beforeReset.cursor()).isEmpty());
+	}
+}
@@ -0,0 +1,145 @@
+package com.tablekok.waiting_server.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tablekok.waiting_server.domain.entity.WaitingStatus;
+import com.tablekok.waiting_server.domain.vo.WaitingQueueEntry;
+import com.tablekok.waiting_server.domain.vo.WaitingRegistration;
+
+// register_waiting.lua, remove_waiting.lua, init_active_customers.lua, get_waiting_queue.lua
+class WaitingRedisCacheAdapterTest extends RedisScriptTestSupport {
+
+	private final UUID storeId = UUID.randomUUID();
+	private WaitingRedisCacheAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+		adapter = new WaitingRedisCacheAdapter(redisTemplate, objectMapper);
+	}
+
+	@Test
+	@DisplayName("활성 고객 목록이 초기화되지 않은 매장은 등록하지 않고 초기화 필요 반환")
+	void register_BeforeInit_ReturnsUninitialized() {
+		// When
+		WaitingRegistration registration = adapter.registerWaiting(storeId, "member:1", entry(1));
+
+		// Then
+		assertTrue(registration.isUninitialized());
+		assertTrue(adapter.getQueueView(storeId).isEmpty());
+	}
+
+	@Test
+	@DisplayName("등록 순서대로 순위를 매기고 대기열 화면 정보도 함께 저장")
+	void register_RanksInRegistrationOrder() {
+		// Given
+		adapter.initActiveCustomers(storeId, Map.of());
+		WaitingQueueEntry first = entry(2);
+		WaitingQueueEntry second = entry(1);
+
+		// When
+		WaitingRegistration firstResult = adapter.registerWaiting(storeId, "member:1", first);
+		WaitingRegistration secondResult = adapter.registerWaiting(storeId, "member:2", second);
+
+		// Then
+		assertEquals(0, firstResult.rank());
+		assertEquals(1, secondResult.rank());
+		assertEquals(List.of(first.waitingId(), second.waitingId()), List.copyOf(adapter.getQueueView(storeId).keySet()));
+		assertEquals(first, adapter.getQueueView(storeId).get(first.waitingId()));
+	}
+
+	@Test
+	@DisplayName("같은 고객이 다시 등록하면 이미 등록된 웨이팅 ID 와 함께 중복 반환")
+	void register_SameCustomer_ReturnsActiveWaitingId() {
+		// Given
+		adapter.initActiveCustomers(storeId, Map.of());
+		WaitingQueueEntry active = entry(1);
+		adapter.registerWaiting(storeId, "member:1", active);
+
+		// When
+		WaitingRegistration registration = adapter.registerWaiting(storeId, "member:1", entry(2));
+
+		// Then
+		assertTrue(registration.isDuplicate());
+		assertEquals(active.waitingId(), registration.activeWaitingId());
+		assertEquals(1, adapter.getQueueView(storeId).size());
+	}
+
+	@Test
+	@DisplayName("DB 로 초기화된 활성 고객은 중복으로 판단")
+	void register_CustomerFromInit_ReturnsDuplicate() {
+		// Given
+		UUID activeWaitingId = UUID.randomUUID();
+		adapter.initActiveCustomers(storeId, Map.of("member:1", activeWaitingId.toString()));
+
+		// When
+		WaitingRegistration registration = adapter.registerWaiting(storeId, "member:1", entry(1));
+
+		// Then
+		assertTrue(registration.isDuplicate());
+		assertEquals(activeWaitingId, registration.activeWaitingId());
+	}
+
+	@Test
+	@DisplayName("웨이팅 제거 시 대기열, 화면 정보, 활성 고객에서 모두 빠져 다시 등록 가능")
+	void remove_ClearsQueueViewAndActiveCustomer() {
+		// Given
+		adapter.initActiveCustomers(storeId, Map.of());
+		WaitingQueueEntry removed = entry(1);
+		WaitingQueueEntry remaining = entry(2);
+		adapter.registerWaiting(storeId, "member:1", removed);
+		adapter.registerWaiting(storeId, "member:2", remaining);
+
+		// When
+		adapter.removeWaiting(storeId, removed.waitingId().toString(), "member:1");
+
+		// Then
+		assertNull(adapter.getRank(storeId, removed.waitingId().toString()));
+		assertEquals(0L, adapter.getRank(storeId, remaining.waitingId().toString()));
+		assertEquals(List.of(remaining.waitingId()), List.copyOf(adapter.getQueueView(storeId).keySet()));
+		assertFalse(adapter.registerWaiting(storeId, "member:1", entry(3)).isDuplicate());
+	}
+
+	@Test
+	@DisplayName("이전 웨이팅을 늦게 제거해도 같은 고객이 새로 등록한 웨이팅의 활성 기록은 유지")
+	void remove_StaleWaiting_KeepsNewerActiveWaiting() {
+		// Given
+		UUID staleWaitingId = UUID.randomUUID();
+		adapter.initActiveCustomers(storeId, Map.of());
+		WaitingQueueEntry newer = entry(2);
+		adapter.registerWaiting(storeId, "member:1", newer);
+
+		// When
+		adapter.removeWaiting(storeId, staleWaitingId.toString(), "member:1");
+
+		// Then
+		WaitingRegistration registration = adapter.registerWaiting(storeId, "member:1", entry(3));
+		assertTrue(registration.isDuplicate());
+		assertEquals(newer.waitingId(), registration.activeWaitingId());
+	}
+
+	@Test
+	@DisplayName("캐시 미스 채우기는 그 사이 저장된 최신 화면 정보를 덮어쓰지 않음")
+	void fill_DoesNotOverwriteNewerEntry() {
+		// Given
+		adapter.initActiveCustomers(storeId, Map.of());
+		WaitingQueueEntry stale = entry(1);
+		adapter.registerWaiting(storeId, "member:1", stale);
+		WaitingQueueEntry called = new WaitingQueueEntry(stale.waitingId(), stale.waitingNumber(), WaitingStatus.CALLED,
+			stale.customerType(), stale.headcount(), null, null, stale.queuedAt());
+		adapter.putQueueEntries(storeId, List.of(called));
+
+		// When
+		adapter.fillQueueEntries(storeId, List.of(stale));
+
+		// Then
+		assertEquals(WaitingStatus.CALLED, adapter.getQueueView(storeId).get(stale.waitingId()).status());
+	}
+}